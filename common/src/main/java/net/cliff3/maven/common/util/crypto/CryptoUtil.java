@@ -464,6 +464,23 @@ public class CryptoUtil {
         return _bytes;
     }
 
+    /**
+     * 두 문자열을 UTF-8 byte 단위로 비교한다. {@link MessageDigest#isEqual(byte[], byte[])}를 이용하므로 처리 시간이 일치하는
+     * 위치와 관계 없으며, 비밀번호 hash 등 비밀 값의 비교에 사용한다. 둘 다 {@code null}일 경우 {@code true}를 반환한다.
+     *
+     * @param expected 기대 값
+     * @param actual   비교 대상
+     *
+     * @return 일치 여부
+     */
+    public static boolean isEqual(String expected, String actual) {
+        if (expected == null || actual == null) {
+            return expected == actual;
+        }
+
+        return MessageDigest.isEqual(expected.getBytes(UTF_8), actual.getBytes(UTF_8));
+    }
+
     //------------------------------------------------------------------------------------------------------------------
     // private function
     //------------------------------------------------------------------------------------------------------------------
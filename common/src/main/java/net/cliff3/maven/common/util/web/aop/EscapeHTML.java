@@ -39,4 +39,14 @@ public @interface EscapeHTML {
      * @return 주석 제거 여부
      */
     boolean removeCommentTag() default true;
+
+    /**
+     * 적용할 filter 설정 파일. 지정하지 않을 경우 {@link EscapeHTMLBeforeAdvice}에 설정된 filter를 이용한다.
+     *
+     * @return filter 설정 파일
+     *
+     * @see XssFilterRegistry
+     * @since 0.3.0
+     */
+    String policy() default "";
 }
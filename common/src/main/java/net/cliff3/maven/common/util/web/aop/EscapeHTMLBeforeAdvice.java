@@ -1,21 +1,21 @@
 package net.cliff3.maven.common.util.web.aop;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.net.URL;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import com.nhncorp.lucy.security.xss.XssFilter;
-import lombok.Setter;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import net.cliff3.maven.common.exception.UnCheckedException;
 import org.aspectj.lang.JoinPoint;
 
 /**
  * {@link EscapeHTML} annotation을 이용하여 허용된 HTML tag 이외의 문자열을 escape 처리한다.
+ * <p>
+ * {@link net.cliff3.maven.common.util.web.aop.processor.EscapeHTMLProcessor}가 생성한 {@link HTMLEscaper}가 존재할
+ * 경우 해당 클래스를 이용하며, 존재하지 않을 경우에는 {@link EscapePlan}을 이용하여 처리한다. {@link HTMLEscaper} 조회와
+ * {@link EscapePlan} 생성은 클래스별로 한 번만 수행한다.
+ * </p>
  *
  * @author JoonHo Son
  * @see EscapeHTML
@@ -24,20 +24,113 @@ import org.aspectj.lang.JoinPoint;
 @Slf4j
 public class EscapeHTMLBeforeAdvice {
     /**
-     * filter 설정 기본값
+     * filter 설정 파일. 설정파일은 classpath root에 위치하여야 한다.
      */
-    private static final String DEFAULT_CONFIG = "lucy-xss-cliff3-default.xml";
+    @Getter
+    private String configFileName;
 
     /**
-     * filter 설정 파일. 설정파일은 classpath root에 위치하여야 한다.
+     * {@link #configFileName}에 해당하는 {@link XssFilter}. 생성자와 {@link #setConfigFileName(String)}에서 미리 생성한다.
      */
-    @Setter
-    private String configFileName;
+    private volatile XssFilter filter = XssFilterRegistry.getFilter(null);
+
+    /**
+     * Filter 처리가 필요한 문자. 이 문자들이 포함되지 않은 문자열은 {@link XssFilter}를 거치지 않는다.
+     */
+    private static final boolean[] TRIGGERS = new boolean['>' + 1];
+
+    /**
+     * {@link EscapeHTML#COMMENT_TAG}, {@link EscapeHTML#COMMENT_ATTRIBUTE} 공통 시작 문자열
+     */
+    private static final String COMMENT_PREFIX = "<!-- Not Allowed ";
+
+    static {
+        for (char c : new char[] {'<', '>', '&', '"', '\''}) {
+            TRIGGERS[c] = true;
+        }
+    }
+
+    /**
+     * 생성된 {@link HTMLEscaper}가 없는 클래스
+     */
+    private static final HTMLEscaper<Object> NONE = (target, context) -> {
+    };
+
+    /**
+     * 클래스별 {@link HTMLEscaper}
+     */
+    private static final ClassValue<HTMLEscaper<Object>> escapers = new ClassValue<HTMLEscaper<Object>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected HTMLEscaper<Object> computeValue(Class<?> type) {
+            try {
+                Class<?> escaperClass = Class.forName(type.getName() + HTMLEscaper.SUFFIX, true, type.getClassLoader());
+
+                if (HTMLEscaper.class.isAssignableFrom(escaperClass)) {
+                    log.debug("generated escaper : {}", escaperClass);
+
+                    return (HTMLEscaper<Object>)escaperClass.getDeclaredConstructor().newInstance();
+                }
+            } catch (ClassNotFoundException e) {
+                log.debug("generated escaper not found : {}", type);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("generated escaper instantiation fail : {}", type, e);
+            }
+
+            return NONE;
+        }
+    };
+
+    /**
+     * {@link HTMLEscaper}에 전달되는 escape 처리 기능
+     */
+    private final HTMLEscapeContext context = new HTMLEscapeContext() {
+        @Override
+        public String filter(String value, boolean removeCommentTag) {
+            return doFilter(filter, value, removeCommentTag);
+        }
+
+        @Override
+        public String filter(String value, boolean removeCommentTag, String policy) {
+            XssFilter target = policy.isEmpty() ? filter : XssFilterRegistry.getFilter(policy);
+
+            return doFilter(target, value, removeCommentTag);
+        }
+
+        @Override
+        public void escapeNested(Object value) {
+            if (value == null) {
+                return;
+            }
+
+            try {
+                doEscape(value);
+            } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+                throw new UnCheckedException(e);
+            }
+        }
+    };
+
+    /**
+     * filter 설정 파일 지정. 해당 설정의 {@link XssFilter}를 바로 생성한다.
+     *
+     * @param configFileName filter 설정 파일
+     */
+    public void setConfigFileName(String configFileName) {
+        this.filter = XssFilterRegistry.getFilter(configFileName);
+        this.configFileName = configFileName;
+    }
 
     /**
-     * {@link XssFilter}
+     * {@link EscapeHTML#policy()}에 지정된 설정 파일의 {@link XssFilter}를 미리 생성한다.
+     *
+     * @param policies filter 설정 파일 목록
      */
-    private static XssFilter filter;
+    public void setPolicies(List<String> policies) {
+        if (policies != null) {
+            XssFilterRegistry.preload(policies.toArray(new String[0]));
+        }
+    }
 
     /**
      * {@link XssFilter}를 이용하여 escape 처리.
@@ -47,13 +140,10 @@ public class EscapeHTMLBeforeAdvice {
      * @throws NoSuchMethodException     대상 필드의 getter/setter 메서드가 존재하지 않을 경우 발생
      * @throws InvocationTargetException 대상 필드의 getter/setter method invoke 실패
      * @throws IllegalAccessException    대상 필드의 getter/setter method invoke 실패(접근 오류)
-     * @see #checkFilter()
      * @see #doEscape(Object)
      */
     public void processHTMLEscape(JoinPoint point)
         throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        checkFilter();
-
         log.debug("------------------------------------------------------------------------");
         log.debug("starting escape html aspect!");
         log.debug("{}", point.getSignature());
@@ -72,124 +162,112 @@ public class EscapeHTMLBeforeAdvice {
     }
 
     /**
-     * 대상 인스턴스의 필드를 추출하여 {@link #doEscapeField(Field, Object)} 호출.
+     * 생성된 {@link HTMLEscaper}가 존재할 경우 해당 클래스를 이용하여 처리하며, 그렇지 않을 경우 클래스별로 캐시된
+     * {@link EscapePlan}을 이용하여 처리한다.
      *
      * @param parameter {@link EscapeHTML} 필드를 포함하는 인스턴스
      *
      * @throws NoSuchMethodException     대상 필드의 getter/setter 메서드가 존재하지 않을 경우 발생
      * @throws InvocationTargetException 대상 필드의 getter/setter method invoke 실패
      * @throws IllegalAccessException    대상 필드의 getter/setter method invoke 실패(접근 오류)
-     * @see #doEscapeField(Field, Object)
+     * @see EscapePlan
      */
     private void doEscape(Object parameter)
         throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Package packageInformation = parameter.getClass().getPackage();
-
-        if (packageInformation != null) {
+        HTMLEscaper<Object> escaper = escapers.get(parameter.getClass());
 
-            Field[] fields = parameter.getClass().getDeclaredFields();
+        if (escaper != NONE) {
+            escaper.escape(parameter, context);
 
-            List<Field> fieldList = new ArrayList<>(Arrays.asList(fields));
+            return;
+        }
 
-            Class<?> current = parameter.getClass();
-            while (current.getSuperclass() != null) {
-                current = current.getSuperclass();
-                Field[] superClassFields = current.getDeclaredFields();
-                fieldList.addAll(Arrays.asList(superClassFields));
-            }
+        EscapePlan plan = EscapePlan.of(parameter.getClass());
 
-            for (Field field : fieldList) {
-                doEscapeField(field, parameter);
-            }
+        if (!plan.isEmpty()) {
+            plan.escape(parameter, context);
         }
     }
 
     /**
-     * 인자로 전달된 {@link Field}가 {@link EscapeHTML} annotation을 포함할 경우 escape 처리.
+     * {@link XssFilter}를 이용하여 escape 처리하며, 필요할 경우 lucy filter에서 생성한 주석을 제거한다.
      *
-     * @param field     대상 필드
-     * @param parameter 대상 인스턴스
+     * @param filter           {@link XssFilter}
+     * @param value            대상 문자열
+     * @param removeCommentTag 주석 제거 여부
      *
-     * @throws InvocationTargetException 대상 필드의 getter/setter method invoke 실패
-     * @throws IllegalAccessException    대상 필드의 getter/setter method invoke 실패(접근 오류)
-     * @throws NoSuchMethodException     대상 필드의 getter/setter 메서드가 존재하지 않을 경우 발생
+     * @return escape 처리된 문자열
      */
-    @SuppressWarnings("unchecked")
-    private void doEscapeField(Field field, Object parameter)
-        throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+    private static String doFilter(XssFilter filter, String value, boolean removeCommentTag) {
+        // markup이 없는 문자열은 filter 처리 결과가 동일하므로 그대로 반환
+        if (!containsMarkup(value)) {
+            return value;
+        }
 
-        EscapeHTML annotation = field.getAnnotation(EscapeHTML.class);
+        String replaceString = filter.doFilter(value);
 
-        if (annotation != null) {
-            log.debug("***");
-            log.debug("field name : {}", field.getName());
-            log.debug("field type : {}", field.getType());
+        // lucy filter 에서 생성한 주석 제거 확인
+        return removeCommentTag ? removeCommentMarkers(replaceString) : replaceString;
+    }
+
+    /**
+     * Filter 처리가 필요한 문자({@code <}, {@code >}, {@code &}, 따옴표)가 포함되어 있는지 확인한다.
+     *
+     * @param value 대상 문자열
+     *
+     * @return 포함 여부
+     */
+    static boolean containsMarkup(String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
 
-            // 문자열일 경우에만 치환
-            if (field.getType() == String.class) {
-                String getMethodName = "get" + field.getName()
-                                                    .substring(0, 1)
-                                                    .toUpperCase() + field.getName()
-                                                                          .substring(1);
-                String setMethodName = "set" + field.getName()
-                                                    .substring(0, 1)
-                                                    .toUpperCase() + field.getName()
-                                                                          .substring(1);
+            if (c <= '>' && TRIGGERS[c]) {
+                return true;
+            }
+        }
 
-                field.setAccessible(true);
+        return false;
+    }
 
-                Method getMethod = parameter.getClass().getMethod(getMethodName);
-                Method setMethod = parameter.getClass().getMethod(setMethodName, String.class);
+    /**
+     * {@link EscapeHTML#COMMENT_TAG}, {@link EscapeHTML#COMMENT_ATTRIBUTE}를 한 번의 탐색으로 제거한다.
+     *
+     * @param value 대상 문자열
+     *
+     * @return 주석이 제거된 문자열. 주석이 없을 경우 전달된 문자열을 그대로 반환
+     */
+    static String removeCommentMarkers(String value) {
+        int index = value.indexOf(COMMENT_PREFIX);
 
-                log.debug("before field value : {}", getMethod.invoke(parameter));
+        if (index < 0) {
+            return value;
+        }
 
-                if (getMethod.invoke(parameter) != null) {
-                    String replaceString = filter.doFilter((String)getMethod.invoke(parameter));
+        StringBuilder builder = null;
+        int last = 0;
 
-                    // lucy filter 에서 생성한 주석 제거 확인
-                    if (annotation.removeCommentTag()) {
-                        replaceString = StringUtils.replace(StringUtils.replace(replaceString,
-                                                                                EscapeHTML.COMMENT_TAG,
-                                                                                ""),
-                                                            EscapeHTML.COMMENT_ATTRIBUTE, "");
-                    }
+        while (index >= 0) {
+            int length = 0;
 
-                    setMethod.invoke(parameter, replaceString);
+            if (value.startsWith(EscapeHTML.COMMENT_TAG, index)) {
+                length = EscapeHTML.COMMENT_TAG.length();
+            } else if (value.startsWith(EscapeHTML.COMMENT_ATTRIBUTE, index)) {
+                length = EscapeHTML.COMMENT_ATTRIBUTE.length();
+            }
 
-                    log.debug("after field value : {}", getMethod.invoke(parameter));
+            if (length > 0) {
+                if (builder == null) {
+                    builder = new StringBuilder(value.length());
                 }
-            } else if (field.getType().isArray()) {
-                field.setAccessible(true);
-                Object[] fieldArray = (Object[])field.get(parameter);
-                if (fieldArray != null) {
-                    for (Object o : fieldArray) {
-                        doEscape(o);
-                    }
-                }
-            } else if (List.class.isAssignableFrom(field.getType())) {
-                field.setAccessible(true);
-                List<Object> fieldList = (List<Object>)field.get(parameter);
-                if (fieldList != null) {
-                    for (Object o : fieldList) {
-                        doEscape(o);
-                    }
-                }
-            }
-        }
-    }
 
-    /**
-     * 별도의 {@link #configFileName}이 설정된 경우 해당 파일을 이용하여 {@link XssFilter} 인스턴스 생성.
-     */
-    private void checkFilter() {
-        if (filter != null) {
-            return;
+                builder.append(value, last, index);
+                last = index + length;
+                index = value.indexOf(COMMENT_PREFIX, last);
+            } else {
+                index = value.indexOf(COMMENT_PREFIX, index + 1);
+            }
         }
 
-        if (StringUtils.isNotEmpty(configFileName)) {
-            filter = XssFilter.getInstance(configFileName);
-        } else {
-            filter = XssFilter.getInstance(DEFAULT_CONFIG, true);
-        }
+        return builder == null ? value : builder.append(value, last, value.length()).toString();
     }
 }
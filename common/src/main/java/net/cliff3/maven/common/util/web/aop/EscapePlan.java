@@ -0,0 +1,222 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link HTMLEscaper}가 생성되지 않은 클래스의 escape 처리 정보. 클래스별로 한 번만 {@link EscapeHTML} 필드를 조회하여
+ * getter/setter를 {@link MethodHandle}로 변환하며, {@link EscapeHTML} 필드가 없는 클래스는 {@link #EMPTY}로 처리한다.
+ *
+ * @author JoonHo Son
+ * @see EscapeHTMLBeforeAdvice
+ * @since 0.3.0
+ */
+@Slf4j
+final class EscapePlan {
+    /**
+     * {@link EscapeHTML} 필드가 없는 클래스
+     */
+    private static final EscapePlan EMPTY = new EscapePlan(new StringProperty[0], new MethodHandle[0], null);
+
+    /**
+     * 클래스별 escape 처리 정보
+     */
+    private static final ClassValue<EscapePlan> plans = new ClassValue<EscapePlan>() {
+        @Override
+        protected EscapePlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    /**
+     * getter 변환 유형 - {@code (Object)String}
+     */
+    private static final MethodType STRING_GETTER = MethodType.methodType(String.class, Object.class);
+
+    /**
+     * setter 변환 유형 - {@code (Object, String)void}
+     */
+    private static final MethodType STRING_SETTER = MethodType.methodType(void.class, Object.class, String.class);
+
+    /**
+     * 배열, {@link List} 필드 getter 변환 유형 - {@code (Object)Object}
+     */
+    private static final MethodType NESTED_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 문자열 필드
+     */
+    private final StringProperty[] strings;
+
+    /**
+     * 배열, {@link List} 필드 getter
+     */
+    private final MethodHandle[] nested;
+
+    /**
+     * getter/setter 조회 실패 정보. 처리 시점에 다시 발생시킨다.
+     */
+    private final ReflectiveOperationException failure;
+
+    private EscapePlan(StringProperty[] strings, MethodHandle[] nested, ReflectiveOperationException failure) {
+        this.strings = strings;
+        this.nested = nested;
+        this.failure = failure;
+    }
+
+    /**
+     * 클래스의 escape 처리 정보 반환
+     *
+     * @param type 대상 클래스
+     *
+     * @return {@link EscapePlan}
+     */
+    static EscapePlan of(Class<?> type) {
+        return plans.get(type);
+    }
+
+    /**
+     * 처리 대상 필드가 없는지 여부
+     *
+     * @return 처리 대상 필드가 없을 경우 {@code true}
+     */
+    boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * 대상 인스턴스의 {@link EscapeHTML} 필드를 escape 처리한다.
+     *
+     * @param target  대상 인스턴스
+     * @param context escape 처리 기능
+     *
+     * @throws NoSuchMethodException     대상 필드의 getter/setter 메서드가 존재하지 않을 경우 발생
+     * @throws InvocationTargetException 대상 필드의 getter/setter method invoke 실패
+     * @throws IllegalAccessException    대상 필드의 getter/setter method invoke 실패(접근 오류)
+     */
+    void escape(Object target, HTMLEscapeContext context)
+        throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        if (failure instanceof NoSuchMethodException) {
+            throw (NoSuchMethodException)failure;
+        } else if (failure instanceof IllegalAccessException) {
+            throw (IllegalAccessException)failure;
+        }
+
+        try {
+            for (StringProperty property : strings) {
+                String value = (String)property.getter.invokeExact(target);
+
+                if (value != null) {
+                    property.setter.invokeExact(target, context.filter(value, property.removeCommentTag, property.policy));
+                }
+            }
+
+            for (MethodHandle getter : nested) {
+                Object value = (Object)getter.invokeExact(target);
+
+                if (value instanceof Object[]) {
+                    for (Object o : (Object[])value) {
+                        context.escapeNested(o);
+                    }
+                } else if (value instanceof List) {
+                    for (Object o : (List<?>)value) {
+                        context.escapeNested(o);
+                    }
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * 상위 클래스를 포함한 {@link EscapeHTML} 필드를 조회하여 escape 처리 정보를 생성한다.
+     *
+     * @param type 대상 클래스
+     *
+     * @return {@link EscapePlan}
+     */
+    private static EscapePlan build(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getPackage() == null) {
+            return EMPTY;
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<StringProperty> strings = new ArrayList<>();
+        List<MethodHandle> nested = new ArrayList<>();
+
+        try {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    EscapeHTML annotation = field.getAnnotation(EscapeHTML.class);
+
+                    if (annotation == null) {
+                        continue;
+                    }
+
+                    // 문자열일 경우에만 치환
+                    if (field.getType() == String.class) {
+                        String accessor = field.getName().substring(0, 1).toUpperCase() + field.getName().substring(1);
+                        Method getMethod = type.getMethod("get" + accessor);
+                        Method setMethod = type.getMethod("set" + accessor, String.class);
+
+                        getMethod.setAccessible(true);
+                        setMethod.setAccessible(true);
+
+                        strings.add(new StringProperty(lookup.unreflect(getMethod).asType(STRING_GETTER),
+                                                       lookup.unreflect(setMethod).asType(STRING_SETTER),
+                                                       annotation.removeCommentTag(),
+                                                       annotation.policy()));
+                    } else if ((field.getType().isArray() && !field.getType().getComponentType().isPrimitive())
+                               || List.class.isAssignableFrom(field.getType())) {
+                        field.setAccessible(true);
+
+                        nested.add(lookup.unreflectGetter(field).asType(NESTED_GETTER));
+                    }
+                }
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            log.warn("escape plan build fail : {}", type, e);
+
+            return new EscapePlan(null, null, e);
+        }
+
+        if (strings.isEmpty() && nested.isEmpty()) {
+            return EMPTY;
+        }
+
+        log.debug("escape plan : {}, string fields : {}, nested fields : {}", type, strings.size(), nested.size());
+
+        return new EscapePlan(strings.toArray(new StringProperty[0]), nested.toArray(new MethodHandle[0]), null);
+    }
+
+    /**
+     * 문자열 필드의 getter/setter
+     */
+    private static final class StringProperty {
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final boolean removeCommentTag;
+
+        private final String policy;
+
+        private StringProperty(MethodHandle getter, MethodHandle setter, boolean removeCommentTag, String policy) {
+            this.getter = getter;
+            this.setter = setter;
+            this.removeCommentTag = removeCommentTag;
+            this.policy = policy;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package net.cliff3.maven.common.util.web.aop;
+
+/**
+ * {@link HTMLEscaper}에서 사용하는 escape 처리 기능. {@link EscapeHTMLBeforeAdvice}가 구현하여 전달한다.
+ *
+ * @author JoonHo Son
+ * @see HTMLEscaper
+ * @since 0.3.0
+ */
+public interface HTMLEscapeContext {
+    /**
+     * 문자열을 escape 처리하여 반환한다.
+     *
+     * @param value            대상 문자열
+     * @param removeCommentTag 주석 제거 여부({@link EscapeHTML#removeCommentTag()})
+     *
+     * @return escape 처리된 문자열
+     */
+    String filter(String value, boolean removeCommentTag);
+
+    /**
+     * 지정된 설정의 filter를 이용하여 문자열을 escape 처리하여 반환한다.
+     *
+     * @param value            대상 문자열
+     * @param removeCommentTag 주석 제거 여부({@link EscapeHTML#removeCommentTag()})
+     * @param policy           filter 설정 파일({@link EscapeHTML#policy()}). 빈 문자열일 경우 기본 filter를 이용한다.
+     *
+     * @return escape 처리된 문자열
+     */
+    String filter(String value, boolean removeCommentTag, String policy);
+
+    /**
+     * 배열, {@link java.util.List} 필드의 요소를 escape 처리한다. {@code null}은 무시한다.
+     *
+     * @param value 대상 요소
+     */
+    void escapeNested(Object value);
+}
@@ -0,0 +1,28 @@
+package net.cliff3.maven.common.util.web.aop;
+
+/**
+ * {@link EscapeHTML} 필드의 escape 처리를 reflection 없이 수행하는 클래스.
+ * {@link net.cliff3.maven.common.util.web.aop.processor.EscapeHTMLProcessor}가 대상 클래스와 같은 package에
+ * <strong>클래스명{@value #SUFFIX}</strong> 형태로 생성하며, {@link EscapeHTMLBeforeAdvice}는 생성된 클래스가 없을 경우에만
+ * reflection을 이용하여 처리한다.
+ *
+ * @param <T> 대상 클래스
+ *
+ * @author JoonHo Son
+ * @see net.cliff3.maven.common.util.web.aop.processor.EscapeHTMLProcessor
+ * @since 0.3.0
+ */
+public interface HTMLEscaper<T> {
+    /**
+     * 생성되는 클래스명의 접미사
+     */
+    String SUFFIX = "_EscapeHTML";
+
+    /**
+     * 대상 인스턴스의 {@link EscapeHTML} 필드를 escape 처리한다.
+     *
+     * @param target  대상 인스턴스
+     * @param context escape 처리 기능
+     */
+    void escape(T target, HTMLEscapeContext context);
+}
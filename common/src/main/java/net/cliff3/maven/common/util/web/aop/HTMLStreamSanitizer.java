@@ -0,0 +1,490 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.nhncorp.lucy.security.xss.XssFilter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Reader}로부터 HTML을 읽어 escape 처리한 결과를 {@link Writer}로 출력한다. 전체 문자열을 메모리에 올리지 않고 일정 크기
+ * 단위로 나누어 {@link XssFilter}를 적용하므로 게시물 본문과 같은 큰 HTML을 수신하거나 저장하는 시점에 처리할 수 있다.
+ * <p>
+ * 입력은 열린 tag가 모두 닫힌 위치에서 나누며, {@link #chunkSize}의 4배를 넘도록 닫히지 않는 경우에는 tag 외부의 위치에서
+ * 강제로 나눈다. 이 경우 열려 있는 element는 해당 단위의 끝에서 닫고 다음 단위의 앞에서 다시 열어 {@link XssFilter}에 전달하며,
+ * 추가한 tag는 결과에서 제거하므로 닫힌 구조의 입력은 한 번에 처리한 결과와 동일하다. 하나의 tag가 강제로 나누는 크기를 넘을
+ * 경우에는 해당 부분을 문자열로 escape 처리하며, 추가한 tag의 위치 표시에 사용하는 문자(U+FDD0, U+FDD1)는 입력에서 제거한다.
+ * 설정 파일은 {@link XssFilterRegistry}를 통해 조회하므로 {@link EscapeHTMLBeforeAdvice}와 동일한 whitelist가 적용된다.
+ * </p>
+ * <p>
+ * 인스턴스는 상태를 갖지 않으므로 여러 thread에서 공유할 수 있다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see XssFilterRegistry
+ * @see EscapeHTMLBeforeAdvice
+ * @since 0.3.0
+ */
+@Slf4j
+public class HTMLStreamSanitizer {
+    /**
+     * 기본 처리 단위(문자 수)
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * 종료 tag가 없는 element
+     */
+    private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList("area", "base", "br", "col",
+                                                                                 "embed", "hr", "img", "input",
+                                                                                 "link", "meta", "param", "source",
+                                                                                 "track", "wbr"));
+
+    /**
+     * 다시 열어 추가한 element의 종료 위치 표시
+     */
+    private static final char REOPEN_MARK = '\uFDD0';
+
+    /**
+     * 닫기 위해 추가한 element의 시작 위치 표시
+     */
+    private static final char CLOSE_MARK = '\uFDD1';
+
+    /**
+     * {@link XssFilter}
+     */
+    private final XssFilter filter;
+
+    /**
+     * 처리 단위(문자 수)
+     */
+    private final int chunkSize;
+
+    /**
+     * 주석 제거 여부
+     */
+    private final boolean removeCommentTag;
+
+    /**
+     * 기본 설정 파일을 이용하는 constructor
+     */
+    public HTMLStreamSanitizer() {
+        this(null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param configFileName filter 설정 파일. {@code null}일 경우 {@link XssFilterRegistry#DEFAULT_CONFIG}
+     */
+    public HTMLStreamSanitizer(String configFileName) {
+        this(configFileName, DEFAULT_CHUNK_SIZE, true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param configFileName   filter 설정 파일. {@code null}일 경우 {@link XssFilterRegistry#DEFAULT_CONFIG}
+     * @param chunkSize        처리 단위(문자 수)
+     * @param removeCommentTag 주석 제거 여부({@link EscapeHTML#removeCommentTag()})
+     */
+    public HTMLStreamSanitizer(String configFileName, int chunkSize, boolean removeCommentTag) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0 : " + chunkSize);
+        }
+
+        this.filter = XssFilterRegistry.getFilter(configFileName);
+        this.chunkSize = chunkSize;
+        this.removeCommentTag = removeCommentTag;
+    }
+
+    /**
+     * {@code reader}의 내용을 escape 처리하여 {@code writer}로 출력한다. {@code reader}와 {@code writer}는 닫지 않는다.
+     *
+     * @param reader 입력
+     * @param writer 출력
+     *
+     * @throws IOException 입출력 오류
+     */
+    public void sanitize(Reader reader, Writer writer) throws IOException {
+        char[] buffer = new char[chunkSize];
+        ChunkState state = new ChunkState(chunkSize * 2);
+        int read;
+
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                // 입력에 포함된 표시 문자는 추가한 tag의 위치를 잘못 찾게 하므로 제거
+                if (buffer[i] != REOPEN_MARK && buffer[i] != CLOSE_MARK) {
+                    state.append(buffer[i]);
+                }
+            }
+
+            if (state.pending.length() >= chunkSize && state.safe > 0) {
+                flush(state, state.safe, false, writer);
+            } else if (state.pending.length() >= chunkSize * 4) {
+                log.debug("force flush, depth : {}", state.openNames.size());
+
+                if (state.outside > 0) {
+                    flush(state, state.outside, true, writer);
+                } else {
+                    escape(state, writer);
+                }
+            }
+        }
+
+        flush(state, state.pending.length(), false, writer);
+    }
+
+    /**
+     * 처리 대기중인 문자열의 {@code end} 위치까지 escape 처리하여 출력한다.
+     *
+     * 이전 단위에서 강제로 나누어진 element는 앞에 다시 열고, 강제로 나누는 경우 열려 있는 element는 뒤에 닫아서 처리한 후
+     * 추가한 부분을 결과에서 제거한다.
+     *
+     * @param state  처리 상태
+     * @param end    종료 위치
+     * @param forced 강제로 나누는지 여부
+     * @param writer 출력
+     *
+     * @throws IOException 입출력 오류
+     */
+    private void flush(ChunkState state, int end, boolean forced, Writer writer) throws IOException {
+        if (end <= 0) {
+            return;
+        }
+
+        String chunk = state.pending.substring(0, end);
+
+        if (EscapeHTMLBeforeAdvice.containsMarkup(chunk)) {
+            String reopened = state.reopened;
+            String closing = forced ? state.closingTags() : null;
+            StringBuilder source = new StringBuilder(chunk.length() + 64);
+
+            if (reopened != null) {
+                source.append(reopened).append(REOPEN_MARK);
+            }
+
+            source.append(chunk);
+
+            if (closing != null) {
+                source.append(CLOSE_MARK).append(closing);
+            }
+
+            chunk = filter.doFilter(source.toString());
+
+            int closeIndex = closing == null ? -1 : chunk.lastIndexOf(CLOSE_MARK);
+
+            if (closeIndex >= 0) {
+                chunk = chunk.substring(0, closeIndex);
+            }
+
+            if (reopened != null) {
+                chunk = chunk.substring(chunk.indexOf(REOPEN_MARK) + 1);
+            }
+
+            if (removeCommentTag) {
+                chunk = EscapeHTMLBeforeAdvice.removeCommentMarkers(chunk);
+            }
+        }
+
+        writer.write(chunk);
+        state.consume(end);
+        state.reopened = forced ? state.openingTags() : null;
+    }
+
+    /**
+     * 하나의 tag가 나눌 수 있는 위치 없이 강제로 나누는 크기를 넘은 경우 처리 대기중인 문자열 전체를 문자열로 escape 처리하여
+     * 출력한다. 일부만 포함된 tag를 {@link XssFilter}에 전달하지 않기 위해 사용하며, 해당 tag의 나머지 부분은 tag 외부의
+     * 문자열로 처리된다.
+     *
+     * @param state  처리 상태
+     * @param writer 출력
+     *
+     * @throws IOException 입출력 오류
+     */
+    private void escape(ChunkState state, Writer writer) throws IOException {
+        StringBuilder pending = state.pending;
+
+        for (int i = 0; i < pending.length(); i++) {
+            char c = pending.charAt(i);
+
+            switch (c) {
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '"':
+                    writer.write("&quot;");
+                    break;
+                case '\'':
+                    writer.write("&#39;");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+
+        state.consume(state.pending.length());
+        state.reopened = state.openingTags();
+    }
+
+    /**
+     * 입력을 나눌 수 있는 위치를 찾기 위한 tag 처리 상태
+     */
+    private static final class ChunkState {
+        /**
+         * 처리 대기중인 문자열
+         */
+        private final StringBuilder pending;
+
+        /**
+         * 열린 tag가 모두 닫힌 마지막 위치
+         */
+        private int safe;
+
+        /**
+         * tag 외부의 마지막 위치
+         */
+        private int outside;
+
+        /**
+         * 현재 tag의 시작 위치. tag 내부가 아닐 경우 -1
+         */
+        private int tagStart = -1;
+
+        /**
+         * tag 속성 값의 따옴표. 속성 값 내부가 아닐 경우 0
+         */
+        private char quote;
+
+        /**
+         * 주석 내부 여부
+         */
+        private boolean comment;
+
+        /**
+         * 열린 element 이름(소문자). 마지막에 열린 element가 앞에 위치한다.
+         */
+        private final Deque<String> openNames = new ArrayDeque<>();
+
+        /**
+         * 열린 element의 시작 tag. {@link #openNames}와 같은 순서이다.
+         */
+        private final Deque<String> openTags = new ArrayDeque<>();
+
+        /**
+         * 강제로 나누어진 후 다음 단위의 앞에서 다시 열어야 하는 시작 tag. 없을 경우 {@code null}
+         */
+        private String reopened;
+
+        private ChunkState(int capacity) {
+            this.pending = new StringBuilder(capacity);
+        }
+
+        /**
+         * 문자를 추가하고 tag 처리 상태를 갱신한다.
+         *
+         * @param c 추가할 문자
+         */
+        private void append(char c) {
+            pending.append(c);
+
+            int length = pending.length();
+
+            if (tagStart < 0) {
+                if (c == '<') {
+                    tagStart = length - 1;
+                } else {
+                    markOutside(length);
+                }
+            } else if (length - tagStart == 2 && !isTagStart(c)) {
+                // "a < b"와 같이 tag가 아닌 경우
+                if (c == '<') {
+                    markOutside(length - 1);
+
+                    tagStart = length - 1;
+                } else {
+                    tagStart = -1;
+                    markOutside(length);
+                }
+            } else if (comment) {
+                if (c == '>' && length - tagStart >= 7 && pending.charAt(length - 2) == '-'
+                    && pending.charAt(length - 3) == '-') {
+                    closeTag(length, false);
+                }
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (length - tagStart == 4 && c == '-' && pending.charAt(tagStart + 1) == '!'
+                       && pending.charAt(tagStart + 2) == '-') {
+                comment = true;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                closeTag(length, true);
+            }
+        }
+
+        /**
+         * tag 종료 처리
+         *
+         * @param length      현재 길이
+         * @param countsDepth 열린 tag 개수 반영 여부
+         */
+        private void closeTag(int length, boolean countsDepth) {
+            if (countsDepth) {
+                char first = pending.charAt(tagStart + 1);
+
+                if (first == '/') {
+                    popElement(tagName(tagStart + 2));
+                } else if (first != '!' && first != '?' && pending.charAt(length - 2) != '/') {
+                    String name = tagName(tagStart + 1);
+
+                    if (!VOID_ELEMENTS.contains(name)) {
+                        openNames.push(name);
+                        openTags.push(pending.substring(tagStart, length));
+                    }
+                }
+            }
+
+            tagStart = -1;
+            comment = false;
+            markOutside(length);
+        }
+
+        /**
+         * 현재 tag의 이름(소문자)
+         *
+         * @param start tag 이름의 시작 위치
+         *
+         * @return tag 이름
+         */
+        private String tagName(int start) {
+            int end = start;
+
+            while (end < pending.length() && Character.isLetterOrDigit(pending.charAt(end))) {
+                end++;
+            }
+
+            return pending.substring(start, end).toLowerCase();
+        }
+
+        /**
+         * 종료 tag에 해당하는 element와 그 안에서 닫히지 않은 element를 제거한다. 열린 element 중 일치하는 이름이 없을 경우
+         * 무시한다.
+         *
+         * @param name 종료 tag 이름
+         */
+        private void popElement(String name) {
+            if (!openNames.contains(name)) {
+                return;
+            }
+
+            String popped;
+
+            do {
+                popped = openNames.pop();
+
+                openTags.pop();
+            } while (!popped.equals(name));
+        }
+
+        /**
+         * 열린 element의 시작 tag를 열린 순서대로 연결한다.
+         *
+         * @return 시작 tag. 열린 element가 없을 경우 {@code null}
+         */
+        private String openingTags() {
+            if (openTags.isEmpty()) {
+                return null;
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            for (Iterator<String> iterator = openTags.descendingIterator(); iterator.hasNext(); ) {
+                builder.append(iterator.next());
+            }
+
+            return builder.toString();
+        }
+
+        /**
+         * 열린 element를 모두 닫는 종료 tag
+         *
+         * @return 종료 tag. 열린 element가 없을 경우 {@code null}
+         */
+        private String closingTags() {
+            if (openNames.isEmpty()) {
+                return null;
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            for (String name : openNames) {
+                builder.append("</").append(name).append('>');
+            }
+
+            return builder.toString();
+        }
+
+        /**
+         * tag 외부 위치 갱신
+         *
+         * @param length 현재 길이
+         */
+        private void markOutside(int length) {
+            outside = length;
+
+            if (openNames.isEmpty()) {
+                safe = length;
+            }
+        }
+
+        /**
+         * 출력한 문자열을 제거하고 위치 정보를 갱신한다.
+         *
+         * @param end 출력한 위치
+         */
+        private void consume(int end) {
+            pending.delete(0, end);
+
+            safe = Math.max(0, safe - end);
+            outside = Math.max(0, outside - end);
+
+            if (tagStart >= 0) {
+                tagStart -= end;
+
+                if (tagStart < 0) {
+                    // 강제로 나누어진 tag는 이후 문자열을 tag 외부로 처리
+                    tagStart = -1;
+                    quote = 0;
+                    comment = false;
+                }
+            }
+        }
+
+        /**
+         * {@code <} 다음 문자가 tag의 시작인지 확인한다.
+         *
+         * @param c {@code <} 다음 문자
+         *
+         * @return tag 시작 여부
+         */
+        private static boolean isTagStart(char c) {
+            return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+        }
+    }
+}
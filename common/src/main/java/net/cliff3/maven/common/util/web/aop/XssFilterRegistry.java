@@ -0,0 +1,77 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.nhncorp.lucy.security.xss.XssFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 설정 파일별 {@link XssFilter} 저장소. 설정 파일마다 한 번만 {@link XssFilter}를 생성하며, 생성된 인스턴스는 모든 thread에서
+ * 공유한다. 설정 파일은 classpath root에 위치하여야 한다.
+ *
+ * @author JoonHo Son
+ * @see EscapeHTML#policy()
+ * @see EscapeHTMLBeforeAdvice
+ * @since 0.3.0
+ */
+@Slf4j
+public final class XssFilterRegistry {
+    /**
+     * filter 설정 기본값
+     */
+    public static final String DEFAULT_CONFIG = "lucy-xss-cliff3-default.xml";
+
+    /**
+     * 설정 파일별 {@link XssFilter}
+     */
+    private static final ConcurrentMap<String, XssFilter> filters = new ConcurrentHashMap<>();
+
+    private XssFilterRegistry() {
+    }
+
+    /**
+     * 설정 파일에 해당하는 {@link XssFilter} 반환. 설정 파일이 지정되지 않은 경우 {@link #DEFAULT_CONFIG}를 이용하며, 이 경우
+     * filter 처리 결과에 주석이 포함되지 않는다.
+     *
+     * @param configFileName 설정 파일
+     *
+     * @return {@link XssFilter}
+     */
+    public static XssFilter getFilter(String configFileName) {
+        String key = StringUtils.defaultIfEmpty(configFileName, DEFAULT_CONFIG);
+
+        return filters.computeIfAbsent(key, XssFilterRegistry::load);
+    }
+
+    /**
+     * 설정 파일에 해당하는 {@link XssFilter}를 미리 생성한다.
+     *
+     * @param configFileNames 설정 파일 목록
+     */
+    public static void preload(String... configFileNames) {
+        if (configFileNames == null) {
+            return;
+        }
+
+        for (String configFileName : configFileNames) {
+            getFilter(configFileName);
+        }
+    }
+
+    /**
+     * {@link XssFilter} 생성
+     *
+     * @param configFileName 설정 파일
+     *
+     * @return {@link XssFilter}
+     */
+    private static XssFilter load(String configFileName) {
+        log.debug("load xss filter : {}", configFileName);
+
+        return DEFAULT_CONFIG.equals(configFileName)
+               ? XssFilter.getInstance(DEFAULT_CONFIG, true)
+               : XssFilter.getInstance(configFileName);
+    }
+}
@@ -0,0 +1,350 @@
+package net.cliff3.maven.common.util.web.aop.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import net.cliff3.maven.common.util.web.aop.EscapeHTML;
+import net.cliff3.maven.common.util.web.aop.HTMLEscaper;
+
+/**
+ * {@link EscapeHTML} 필드를 포함하는 클래스마다 {@link HTMLEscaper} 구현 클래스를 생성하는 annotation processor.
+ * <p>
+ * 생성된 클래스는 필드 또는 getter/setter를 직접 사용하므로 {@link net.cliff3.maven.common.util.web.aop.EscapeHTMLBeforeAdvice}에서
+ * reflection이 발생하지 않는다. 문자열 필드는 {@code getXxx()}/{@code setXxx(String)} 형태의 getter/setter를 호출하며, 배열과
+ * {@link java.util.List} 필드는 생성 클래스에서 접근할 수 있을 경우({@code private}이 아닌 같은 package의 필드) 필드를 직접 읽고
+ * 그렇지 않을 경우 getter를 호출한다. 필드와 getter 모두 접근할 수 없는 클래스는 생성하지 않으며, 이 경우 기존과 같이
+ * {@code EscapePlan}을 이용하여 처리된다.
+ * </p>
+ * <p>
+ * 라이브러리 자체를 컴파일할 때 실행되지 않도록 {@code META-INF/services}에 등록하지 않으며, 사용하는 프로젝트의
+ * maven-compiler-plugin 설정에서 {@code annotationProcessorPaths}로 지정한다. {@code annotationProcessorPaths}를 지정하면
+ * classpath의 processor는 검색되지 않으므로 Lombok을 사용할 경우 Lombok을 먼저 지정하여 getter/setter가 생성된 후 처리되도록 한다.
+ * </p>
+ * <pre>
+ * {@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessorPaths>
+ *             <path>
+ *                 <groupId>org.projectlombok</groupId>
+ *                 <artifactId>lombok</artifactId>
+ *                 <version>${lombok.version}</version>
+ *             </path>
+ *             <path>
+ *                 <groupId>net.cliff3</groupId>
+ *                 <artifactId>cliff3-common</artifactId>
+ *                 <version>${cliff3.version}</version>
+ *             </path>
+ *         </annotationProcessorPaths>
+ *         <annotationProcessors>
+ *             <annotationProcessor>lombok.launch.AnnotationProcessorHider$AnnotationProcessor</annotationProcessor>
+ *             <annotationProcessor>net.cliff3.maven.common.util.web.aop.processor.EscapeHTMLProcessor</annotationProcessor>
+ *         </annotationProcessors>
+ *     </configuration>
+ * </plugin>
+ * }
+ * </pre>
+ *
+ * @author JoonHo Son
+ * @see HTMLEscaper
+ * @since 0.3.0
+ */
+@SupportedAnnotationTypes("net.cliff3.maven.common.util.web.aop.EscapeHTML")
+public class EscapeHTMLProcessor extends AbstractProcessor {
+    /**
+     * 이미 생성한 클래스
+     */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> targets = new LinkedHashSet<>();
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(EscapeHTML.class)) {
+            if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement().getKind() == ElementKind.CLASS) {
+                targets.add((TypeElement)element.getEnclosingElement());
+            }
+        }
+
+        for (TypeElement target : targets) {
+            if (isAccessible(target) && generated.add(target.getQualifiedName().toString())) {
+                generate(target);
+            }
+        }
+
+        // 다른 processor(Lombok 등)도 처리할 수 있도록 claim 하지 않음
+        return false;
+    }
+
+    /**
+     * 같은 package의 생성 클래스에서 접근할 수 있는지 확인한다.
+     *
+     * @param target 대상 클래스
+     *
+     * @return 접근 가능 여부
+     */
+    private boolean isAccessible(TypeElement target) {
+        Element current = target;
+
+        while (current instanceof TypeElement) {
+            TypeElement type = (TypeElement)current;
+
+            if (type.getModifiers().contains(Modifier.PRIVATE)
+                || type.getNestingKind() == NestingKind.LOCAL
+                || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            current = type.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * {@link HTMLEscaper} 구현 클래스 생성
+     *
+     * @param target 대상 클래스
+     */
+    private void generate(TypeElement target) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(target);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(target).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                            + HTMLEscaper.SUFFIX;
+        String targetName = target.getQualifiedName().toString();
+
+        StringBuilder body = new StringBuilder();
+
+        // 처리할 수 없는 필드가 있을 경우 생성하지 않으며, EscapeHTMLBeforeAdvice에서 EscapePlan으로 처리한다.
+        if (!appendFields(target, body)) {
+            return;
+        }
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n")
+              .append(" * ").append(targetName).append(" HTML escaper. EscapeHTMLProcessor에 의해 생성됨.\n")
+              .append(" */\n")
+              .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+              .append("public final class ").append(simpleName)
+              .append(" implements net.cliff3.maven.common.util.web.aop.HTMLEscaper<").append(targetName).append("> {\n")
+              .append("    @Override\n")
+              .append("    public void escape(").append(targetName).append(" target, ")
+              .append("net.cliff3.maven.common.util.web.aop.HTMLEscapeContext context) {\n")
+              .append(body)
+              .append("    }\n")
+              .append("}\n");
+
+        String generatedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(generatedName, target).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "HTMLEscaper 생성 실패 : " + e.getMessage(),
+                                                     target);
+        }
+    }
+
+    /**
+     * 상위 클래스를 포함한 모든 {@link EscapeHTML} 필드의 처리 코드를 추가한다. 문자열 필드는 getter/setter를 호출하고, 배열과
+     * {@link java.util.List} 필드는 생성 클래스에서 접근할 수 있을 경우 필드를 직접 읽으며 그렇지 않을 경우 getter를 호출한다.
+     *
+     * @param target 대상 클래스
+     * @param body   생성 코드
+     *
+     * @return 모든 필드의 처리 코드 생성 여부. 접근할 수 없는 필드가 있을 경우 {@code false}
+     */
+    private boolean appendFields(TypeElement target, StringBuilder body) {
+        TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getName()).asType();
+        TypeMirror listType = processingEnv.getTypeUtils()
+                                           .erasure(processingEnv.getElementUtils()
+                                                                 .getTypeElement("java.util.List")
+                                                                 .asType());
+        TypeElement current = target;
+        int index = 0;
+
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                EscapeHTML annotation = field.getAnnotation(EscapeHTML.class);
+
+                if (annotation == null || field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                String property = field.getSimpleName().toString();
+                String accessor = property.substring(0, 1).toUpperCase() + property.substring(1);
+                TypeMirror type = field.asType();
+                String variable = "v" + index++;
+
+                if (processingEnv.getTypeUtils().isSameType(type, stringType)) {
+                    if (!hasMethod(target, "get" + accessor, 0) || !hasMethod(target, "set" + accessor, 1)) {
+                        note(target, "getter/setter not found : " + property);
+
+                        return false;
+                    }
+
+                    body.append("        String ").append(variable).append(" = target.get").append(accessor)
+                        .append("();\n")
+                        .append("        if (").append(variable).append(" != null) {\n")
+                        .append("            target.set").append(accessor).append("(context.filter(")
+                        .append(variable).append(", ").append(annotation.removeCommentTag());
+
+                    if (!annotation.policy().isEmpty()) {
+                        body.append(", \"").append(escapeLiteral(annotation.policy())).append('"');
+                    }
+
+                    body.append("));\n")
+                        .append("        }\n");
+                } else if ((type.getKind() == TypeKind.ARRAY
+                            && !((ArrayType)type).getComponentType().getKind().isPrimitive())
+                           || (type.getKind() == TypeKind.DECLARED
+                               && processingEnv.getTypeUtils()
+                                               .isAssignable(processingEnv.getTypeUtils().erasure(type), listType))) {
+                    String read;
+
+                    if (isAccessible(target, field) && (current == target || isAccessible(target, current))) {
+                        // 상위 클래스에서 가려진 필드도 읽을 수 있도록 선언된 클래스로 변환
+                        read = "((" + current.getQualifiedName() + ")target)." + property;
+                    } else if (hasMethod(target, "get" + accessor, 0)) {
+                        read = "target.get" + accessor + "()";
+                    } else {
+                        note(target, "field and getter not accessible : " + property);
+
+                        return false;
+                    }
+
+                    body.append("        ")
+                        .append(type.getKind() == TypeKind.ARRAY ? "Object[] " : "java.lang.Iterable ")
+                        .append(variable).append(" = ").append(read).append(";\n")
+                        .append("        if (").append(variable).append(" != null) {\n")
+                        .append("            for (Object o : ").append(variable).append(") {\n")
+                        .append("                context.escapeNested(o);\n")
+                        .append("            }\n")
+                        .append("        }\n");
+                }
+            }
+
+            TypeMirror superclass = current.getSuperclass();
+
+            current = superclass.getKind() == TypeKind.DECLARED
+                      ? (TypeElement)((DeclaredType)superclass).asElement()
+                      : null;
+        }
+
+        return true;
+    }
+
+    /**
+     * 대상 클래스와 같은 package의 생성 클래스에서 멤버에 접근할 수 있는지 확인한다. {@code protected} 멤버는 같은 package에 선언된
+     * 경우에만 접근할 수 있다.
+     *
+     * @param target 대상 클래스
+     * @param member 필드 또는 method
+     *
+     * @return 접근 가능 여부
+     */
+    private boolean isAccessible(TypeElement target, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        return modifiers.contains(Modifier.PUBLIC)
+               || processingEnv.getElementUtils()
+                               .getPackageOf(member)
+                               .equals(processingEnv.getElementUtils().getPackageOf(target));
+    }
+
+    /**
+     * 상위 클래스를 포함하여 생성 클래스에서 호출할 수 있는 method가 있는지 확인한다.
+     *
+     * @param target         대상 클래스
+     * @param name           method 이름
+     * @param parameterCount 인자 개수
+     *
+     * @return method 존재 여부
+     */
+    private boolean hasMethod(TypeElement target, String name, int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils()
+                                                                             .getAllMembers(target))) {
+            if (method.getSimpleName().contentEquals(name)
+                && method.getParameters().size() == parameterCount
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && isAccessible(target, method)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 생성하지 않는 클래스의 사유를 출력한다.
+     *
+     * @param target  대상 클래스
+     * @param message 사유
+     */
+    private void note(TypeElement target, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                 "HTMLEscaper 생성 제외(reflection으로 처리) : " + message,
+                                                 target);
+    }
+
+    /**
+     * 문자열 상수로 사용할 수 있도록 escape 처리
+     *
+     * @param value 대상 문자열
+     *
+     * @return escape 처리된 문자열
+     */
+    private static String escapeLiteral(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                builder.append('\\');
+            }
+
+            builder.append(c);
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * 웹 AOP 관련 annotation processor 패키지
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+package net.cliff3.maven.common.util.web.aop.processor;
@@ -183,4 +183,15 @@ public class CryptoUtilTest {
 
         assertEquals(_decryptedString, SOURCE_KOREAN, "RSA 복호화 결과 불일치");
     }
+
+    @Test
+    @Order(8)
+    @DisplayName("문자열 비교 테스트")
+    public void testIsEqual() {
+        assertTrue(CryptoUtil.isEqual(SOURCE_KOREAN, new String(SOURCE_KOREAN.getBytes(UTF_8), UTF_8)), "동일 문자열 불일치");
+        assertFalse(CryptoUtil.isEqual(SOURCE_KOREAN, SOURCE_KOREAN + "!"), "길이가 다른 문자열 일치");
+        assertFalse(CryptoUtil.isEqual(SECRET, SECRET.replace('!', '?')), "다른 문자열 일치");
+        assertFalse(CryptoUtil.isEqual(SECRET, null), "null 비교 결과 일치");
+        assertTrue(CryptoUtil.isEqual(null, null), "null 간 비교 결과 불일치");
+    }
 }
@@ -0,0 +1,75 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * EscapeHTMLBeforeAdviceTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class EscapeHTMLBeforeAdviceTest {
+    @Test
+    @Order(1)
+    @DisplayName("Markup pre-scan test")
+    public void testContainsMarkup() {
+        assertFalse(EscapeHTMLBeforeAdvice.containsMarkup(""), "빈 문자열 확인 실패");
+        assertFalse(EscapeHTMLBeforeAdvice.containsMarkup("홍길동 12345 x=1;y=2 #$%^*()"), "일반 문자열 확인 실패");
+        assertTrue(EscapeHTMLBeforeAdvice.containsMarkup("a < b"), "< 확인 실패");
+        assertTrue(EscapeHTMLBeforeAdvice.containsMarkup("a > b"), "> 확인 실패");
+        assertTrue(EscapeHTMLBeforeAdvice.containsMarkup("a &amp; b"), "& 확인 실패");
+        assertTrue(EscapeHTMLBeforeAdvice.containsMarkup("say \"hi\""), "따옴표 확인 실패");
+        assertTrue(EscapeHTMLBeforeAdvice.containsMarkup("it's"), "따옴표 확인 실패");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Comment marker removal test")
+    public void testRemoveCommentMarkers() {
+        final String plain = "<b>테스트</b><!-- comment -->";
+
+        assertSame(plain, EscapeHTMLBeforeAdvice.removeCommentMarkers(plain), "주석이 없는 문자열 처리 실패");
+        assertEquals("<b>a</b>b<i>c</i>",
+                     EscapeHTMLBeforeAdvice.removeCommentMarkers(EscapeHTML.COMMENT_TAG
+                                                                 + "<b>a</b>"
+                                                                 + EscapeHTML.COMMENT_ATTRIBUTE
+                                                                 + "b<i>c</i>"
+                                                                 + EscapeHTML.COMMENT_TAG),
+                     "주석 제거 실패");
+        assertEquals("<!-- Not Allowed x -->",
+                     EscapeHTMLBeforeAdvice.removeCommentMarkers("<!-- Not Allowed x -->" + EscapeHTML.COMMENT_TAG),
+                     "주석 제거 실패");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Filter registry test")
+    public void testFilterRegistry() {
+        XssFilterRegistry.preload("lucy-xss-cliff3-strict.xml");
+
+        assertSame(XssFilterRegistry.getFilter(null),
+                   XssFilterRegistry.getFilter(XssFilterRegistry.DEFAULT_CONFIG),
+                   "기본 filter 조회 실패");
+        assertSame(XssFilterRegistry.getFilter("lucy-xss-cliff3-strict.xml"),
+                   XssFilterRegistry.getFilter("lucy-xss-cliff3-strict.xml"),
+                   "filter 캐시 실패");
+        assertNotSame(XssFilterRegistry.getFilter(null),
+                      XssFilterRegistry.getFilter("lucy-xss-cliff3-strict.xml"),
+                      "설정별 filter 생성 실패");
+
+        EscapeHTMLBeforeAdvice advice = new EscapeHTMLBeforeAdvice();
+
+        advice.setConfigFileName("lucy-xss-cliff3-strict.xml");
+
+        assertEquals("lucy-xss-cliff3-strict.xml", advice.getConfigFileName());
+    }
+}
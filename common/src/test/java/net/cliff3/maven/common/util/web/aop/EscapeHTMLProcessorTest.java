@@ -0,0 +1,138 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * EscapeHTMLProcessorTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class EscapeHTMLProcessorTest {
+    private static final String SOURCE = "<script>alert('abc');</script><b>테스트</b>";
+
+    private static final String LINK = "<a href=\"http://www.apple.com/kr\">테스트</a>";
+
+    private static final String EXPECTED = "&lt;script&gt;alert('abc');&lt;/script&gt;<b>테스트</b>";
+
+    @Test
+    @Order(1)
+    @DisplayName("Generated escaper test")
+    public void testGeneratedEscaper() throws Exception {
+        Class<?> escaperClass = Class.forName(EscapeNestedDTO.class.getName() + HTMLEscaper.SUFFIX);
+
+        assertTrue(HTMLEscaper.class.isAssignableFrom(escaperClass), "HTMLEscaper 생성 실패");
+
+        EscapeSampleDTO item = new EscapeSampleDTO();
+        EscapeSampleDTO arrayItem = new EscapeSampleDTO();
+        EscapeNestedDTO dto = new EscapeNestedDTO();
+
+        item.setContent(SOURCE);
+        arrayItem.setContent(SOURCE);
+        dto.setContent(SOURCE);
+        dto.setTitle(SOURCE);
+        dto.setStrict(LINK);
+        dto.setItems(Collections.singletonList(item));
+        dto.setItemArray(new EscapeSampleDTO[] {arrayItem, null});
+
+        JoinPoint point = mock(JoinPoint.class);
+
+        when(point.getArgs()).thenReturn(new Object[] {dto, null});
+
+        new EscapeHTMLBeforeAdvice().processHTMLEscape(point);
+
+        log.debug("escaped title : {}", dto.getTitle());
+
+        assertEquals(EXPECTED, dto.getContent(), "상위 클래스 필드 escape 처리 실패");
+        assertFalse(dto.getTitle().contains(EscapeHTML.COMMENT_TAG), "주석 제거 실패");
+        assertEquals("&lt;a href=\"http://www.apple.com/kr\"&gt;테스트&lt;/a&gt;", dto.getStrict(), "policy 적용 실패");
+        assertEquals(EXPECTED, item.getContent(), "List 요소 escape 처리 실패");
+        assertEquals(EXPECTED, arrayItem.getContent(), "배열 요소 escape 처리 실패");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("getter가 없는 필드")
+    public void testFieldAccess() throws Exception {
+        Class<?> escaperClass = Class.forName(FieldOnlyDTO.class.getName() + HTMLEscaper.SUFFIX);
+
+        assertTrue(HTMLEscaper.class.isAssignableFrom(escaperClass), "접근 가능한 필드는 직접 읽도록 생성되어야 함");
+
+        EscapeSampleDTO item = new EscapeSampleDTO();
+        EscapeSampleDTO arrayItem = new EscapeSampleDTO();
+        FieldOnlyDTO dto = new FieldOnlyDTO();
+
+        item.setContent(SOURCE);
+        arrayItem.setContent(SOURCE);
+        dto.items = Collections.singletonList(item);
+        dto.itemArray = new EscapeSampleDTO[] {arrayItem};
+
+        JoinPoint point = mock(JoinPoint.class);
+
+        when(point.getArgs()).thenReturn(new Object[] {dto});
+
+        new EscapeHTMLBeforeAdvice().processHTMLEscape(point);
+
+        assertEquals(EXPECTED, item.getContent(), "List 요소 escape 처리 실패");
+        assertEquals(EXPECTED, arrayItem.getContent(), "배열 요소 escape 처리 실패");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("접근할 수 없는 필드")
+    public void testPrivateField() throws Exception {
+        assertThrows(ClassNotFoundException.class,
+                     () -> Class.forName(PrivateFieldDTO.class.getName() + HTMLEscaper.SUFFIX),
+                     "필드와 getter 모두 접근할 수 없을 경우 생성하지 않아야 함");
+
+        EscapeSampleDTO item = new EscapeSampleDTO();
+        PrivateFieldDTO dto = new PrivateFieldDTO(Collections.singletonList(item));
+
+        item.setContent(SOURCE);
+
+        JoinPoint point = mock(JoinPoint.class);
+
+        when(point.getArgs()).thenReturn(new Object[] {dto});
+
+        new EscapeHTMLBeforeAdvice().processHTMLEscape(point);
+
+        assertEquals(EXPECTED, item.getContent(), "reflection으로 처리되어야 함");
+    }
+
+    /**
+     * getter 없이 필드만 선언된 DTO
+     */
+    public static class FieldOnlyDTO {
+        @EscapeHTML
+        List<EscapeSampleDTO> items;
+
+        @EscapeHTML
+        EscapeSampleDTO[] itemArray;
+    }
+
+    /**
+     * getter 없이 private 필드만 선언된 DTO
+     */
+    public static class PrivateFieldDTO {
+        @EscapeHTML
+        private final List<EscapeSampleDTO> items;
+
+        PrivateFieldDTO(List<EscapeSampleDTO> items) {
+            this.items = items;
+        }
+    }
+}
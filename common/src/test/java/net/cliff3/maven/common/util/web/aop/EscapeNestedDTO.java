@@ -0,0 +1,28 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * EscapeNestedDTO
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class EscapeNestedDTO extends EscapeSampleDTO {
+    @EscapeHTML(removeCommentTag = true)
+    private String title;
+
+    @EscapeHTML(policy = "lucy-xss-cliff3-strict.xml")
+    private String strict;
+
+    @EscapeHTML
+    private List<EscapeSampleDTO> items;
+
+    @EscapeHTML
+    private EscapeSampleDTO[] itemArray;
+}
@@ -0,0 +1,78 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * EscapePlanTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class EscapePlanTest {
+    private static final String SOURCE = "<script>alert('abc');</script><b>테스트</b>";
+
+    private static final String EXPECTED = "&lt;script&gt;alert('abc');&lt;/script&gt;<b>테스트</b>";
+
+    /**
+     * private class는 {@link HTMLEscaper}가 생성되지 않으므로 {@link EscapePlan}으로 처리된다.
+     */
+    @Getter
+    @Setter
+    private static class PlanDTO {
+        @EscapeHTML
+        private String content;
+
+        @EscapeHTML
+        private List<PlanDTO> children;
+
+        @EscapeHTML(policy = "lucy-xss-cliff3-strict.xml", removeCommentTag = false)
+        private String strict;
+
+        private String plain;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Escape plan cache test")
+    public void testEscapePlan() throws Exception {
+        assertTrue(EscapePlan.of(String.class).isEmpty(), "EscapeHTML 필드가 없는 클래스 처리 실패");
+        assertFalse(EscapePlan.of(PlanDTO.class).isEmpty(), "Escape plan 생성 실패");
+        assertSame(EscapePlan.of(PlanDTO.class), EscapePlan.of(PlanDTO.class), "Escape plan 캐시 실패");
+
+        PlanDTO child = new PlanDTO();
+        PlanDTO dto = new PlanDTO();
+
+        child.setContent(SOURCE);
+        dto.setContent(SOURCE);
+        dto.setPlain(SOURCE);
+        dto.setStrict("<a>테스트</a>");
+        dto.setChildren(Collections.singletonList(child));
+
+        JoinPoint point = mock(JoinPoint.class);
+
+        when(point.getArgs()).thenReturn(new Object[] {dto, "plain"});
+
+        new EscapeHTMLBeforeAdvice().processHTMLEscape(point);
+
+        assertEquals(EXPECTED, dto.getContent(), "escape 처리 실패");
+        assertEquals(EXPECTED, child.getContent(), "List 요소 escape 처리 실패");
+        assertEquals(EscapeHTML.COMMENT_TAG + "&lt;a&gt;테스트&lt;/a&gt;", dto.getStrict(), "policy 적용 실패");
+        assertEquals(SOURCE, dto.getPlain(), "대상이 아닌 필드 처리됨");
+    }
+}
@@ -0,0 +1,145 @@
+package net.cliff3.maven.common.util.web.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import com.nhncorp.lucy.security.xss.XssFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * HTMLStreamSanitizerTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class HTMLStreamSanitizerTest {
+    private static final String BLOCK = "<p class=\"content\"><b>테스트 a < b</b> <a href=\"http://www.apple.com/kr\" "
+                                        + "target=\"_blank\">link > </a><br><img src=\"a.png\" /></p>"
+                                        + "<!-- comment <b> --><script>alert('abc');</script>plain text & more\n";
+
+    @Test
+    @Order(1)
+    @DisplayName("Streaming sanitize test")
+    public void testSanitize() throws Exception {
+        StringBuilder source = new StringBuilder();
+
+        for (int i = 0; i < 200; i++) {
+            source.append(BLOCK);
+        }
+
+        XssFilter filter = XssFilterRegistry.getFilter(null);
+        String expected = EscapeHTMLBeforeAdvice.removeCommentMarkers(filter.doFilter(source.toString()));
+
+        StringWriter writer = new StringWriter();
+
+        new HTMLStreamSanitizer(null, 64, true).sanitize(new StringReader(source.toString()), writer);
+
+        assertEquals(expected, writer.toString(), "streaming 처리 결과 불일치");
+        assertFalse(writer.toString().contains("<script>"), "escape 처리 실패");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Unbalanced input test")
+    public void testUnbalanced() throws Exception {
+        StringBuilder source = new StringBuilder("<div>");
+
+        for (int i = 0; i < 100; i++) {
+            source.append("<b>text</b><script>alert('abc');</script>");
+        }
+
+        StringWriter writer = new StringWriter();
+
+        new HTMLStreamSanitizer(null, 32, true).sanitize(new StringReader(source.toString()), writer);
+
+        log.debug("unbalanced result length : {}", writer.toString().length());
+
+        assertFalse(writer.toString().contains("<script>"), "escape 처리 실패");
+        assertTrue(writer.toString().contains("<b>text</b>"), "허용 tag 처리 실패");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Wrapped body test")
+    public void testWrappedBody() throws Exception {
+        int chunkSize = 64;
+        StringBuilder source = new StringBuilder("<div class=\"content\"><table><tr><td>");
+
+        while (source.length() < chunkSize * 20) {
+            source.append(BLOCK).append("<b>굵게 <i>기울임</i></b><DIV>대문자</DIV>");
+        }
+
+        source.append("</td></tr></table></div>");
+
+        XssFilter filter = XssFilterRegistry.getFilter(null);
+        String expected = EscapeHTMLBeforeAdvice.removeCommentMarkers(filter.doFilter(source.toString()));
+
+        StringWriter writer = new StringWriter();
+
+        new HTMLStreamSanitizer(null, chunkSize, true).sanitize(new StringReader(source.toString()), writer);
+
+        assertTrue(expected.startsWith("<div class=\"content\">"), "허용 tag 처리 실패");
+        assertEquals(expected, writer.toString(), "강제로 나누어진 element 처리 결과 불일치");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Marker character test")
+    public void testMarkerCharacter() throws Exception {
+        int chunkSize = 64;
+        StringBuilder source = new StringBuilder("<div><b>");
+        StringBuilder stripped = new StringBuilder("<div><b>");
+
+        while (source.length() < chunkSize * 20) {
+            // 추가한 tag의 위치 표시 문자를 이용하여 script가 제거되는 범위를 바꾸려는 입력
+            source.append("\uFDD1<script>alert('abc');</script>\uFDD0<i>text</i>");
+            stripped.append("<script>alert('abc');</script><i>text</i>");
+        }
+
+        source.append("</b></div>");
+        stripped.append("</b></div>");
+
+        XssFilter filter = XssFilterRegistry.getFilter(null);
+        String expected = EscapeHTMLBeforeAdvice.removeCommentMarkers(filter.doFilter(stripped.toString()));
+
+        StringWriter writer = new StringWriter();
+
+        new HTMLStreamSanitizer(null, chunkSize, true).sanitize(new StringReader(source.toString()), writer);
+
+        assertEquals(expected, writer.toString(), "표시 문자를 제거한 입력과 결과가 같아야 함");
+        assertFalse(writer.toString().contains("<script>"), "escape 처리 실패");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Oversized tag test")
+    public void testOversizedTag() throws Exception {
+        int chunkSize = 32;
+        StringBuilder source = new StringBuilder("<b>text</b><img title=\"");
+
+        while (source.length() < chunkSize * 8) {
+            source.append("padding ");
+        }
+
+        source.append("\" src=\"a.png\" onerror=\"alert('abc')\"><b>after</b>");
+
+        StringWriter writer = new StringWriter();
+
+        new HTMLStreamSanitizer(null, chunkSize, true).sanitize(new StringReader(source.toString()), writer);
+
+        log.debug("oversized tag result : {}", writer);
+
+        assertTrue(writer.toString().startsWith("<b>text</b>&lt;img title=&quot;padding"), "나눌 수 없는 tag는 문자열로 처리되어야 함");
+        assertFalse(writer.toString().contains("<img"), "일부만 포함된 tag가 출력되면 안됨");
+        assertTrue(writer.toString().endsWith("<b>after</b>"), "이후 입력은 처리되어야 함");
+    }
+}
@@ -0,0 +1,167 @@
+package net.cliff3.maven.data.aop;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 메서드별 {@link DataTarget} 처리 정보. 어떤 위치의 인자에 {@link DataTarget}이 지정되어 있으며 어떤 대상(관리자/사용자)을
+ * 적용해야 하는지를 최초 호출시 한 번만 계산하여 {@link #cache}에 저장한다.
+ *
+ * @author JoonHo Son
+ * @see DefaultDataChangeBeforeAdvice
+ * @since 0.3.0
+ */
+final class DataChangePlan {
+    /**
+     * 처리 대상이 없는 메서드
+     */
+    static final DataChangePlan EMPTY = new DataChangePlan(new int[0], new boolean[0], new boolean[0]);
+
+    /**
+     * 메서드별 처리 정보
+     */
+    private static final ConcurrentMap<Method, DataChangePlan> cache = new ConcurrentHashMap<>();
+
+    /**
+     * {@link DataTarget}이 지정된 인자 위치
+     */
+    private final int[] indices;
+
+    /**
+     * 인자별 {@link DataTargetAdmin} 적용 여부
+     */
+    private final boolean[] applyAdmin;
+
+    /**
+     * 인자별 {@link DataTargetUser} 적용 여부
+     */
+    private final boolean[] applyUser;
+
+    private DataChangePlan(int[] indices, boolean[] applyAdmin, boolean[] applyUser) {
+        this.indices = indices;
+        this.applyAdmin = applyAdmin;
+        this.applyUser = applyUser;
+    }
+
+    /**
+     * 대상 메서드의 처리 정보를 반환한다. {@link DefaultControllerForUser}를 구현하지 않은 클래스의 메서드는 {@link #EMPTY}를
+     * 반환한다.
+     *
+     * @param method 대상 메서드
+     *
+     * @return 처리 정보
+     */
+    static DataChangePlan of(Method method) {
+        DataChangePlan plan = cache.get(method);
+
+        if (plan == null) {
+            plan = create(method);
+
+            DataChangePlan previous = cache.putIfAbsent(method, plan);
+
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+
+        return plan;
+    }
+
+    private static DataChangePlan create(Method method) {
+        if (!DefaultControllerForUser.class.isAssignableFrom(method.getDeclaringClass())) {
+            return EMPTY;
+        }
+
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        List<Integer> indexList = new ArrayList<>();
+        List<Boolean> adminList = new ArrayList<>();
+        List<Boolean> userList = new ArrayList<>();
+
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation.annotationType() != DataTarget.class) {
+                    continue;
+                }
+
+                boolean admin = false;
+                boolean user = false;
+
+                for (Class<? extends DataTargetBase> target : ((DataTarget)annotation).targets()) {
+                    admin |= target == DataTargetAdmin.class;
+                    user |= target == DataTargetUser.class;
+                }
+
+                if (admin || user) {
+                    indexList.add(i);
+                    adminList.add(admin);
+                    userList.add(user);
+                }
+
+                break;
+            }
+        }
+
+        if (indexList.isEmpty()) {
+            return EMPTY;
+        }
+
+        int size = indexList.size();
+        int[] indices = new int[size];
+        boolean[] applyAdmin = new boolean[size];
+        boolean[] applyUser = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            indices[i] = indexList.get(i);
+            applyAdmin[i] = adminList.get(i);
+            applyUser[i] = userList.get(i);
+        }
+
+        return new DataChangePlan(indices, applyAdmin, applyUser);
+    }
+
+    /**
+     * 처리 대상 인자 개수
+     *
+     * @return 인자 개수
+     */
+    int size() {
+        return indices.length;
+    }
+
+    /**
+     * 처리 대상 인자 위치
+     *
+     * @param i 순서
+     *
+     * @return 인자 위치
+     */
+    int indexAt(int i) {
+        return indices[i];
+    }
+
+    /**
+     * {@link DataTargetAdmin} 적용 여부
+     *
+     * @param i 순서
+     *
+     * @return 적용 여부
+     */
+    boolean applyAdminAt(int i) {
+        return applyAdmin[i];
+    }
+
+    /**
+     * {@link DataTargetUser} 적용 여부
+     *
+     * @param i 순서
+     *
+     * @return 적용 여부
+     */
+    boolean applyUserAt(int i) {
+        return applyUser[i];
+    }
+}
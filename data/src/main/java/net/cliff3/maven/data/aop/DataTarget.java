@@ -8,6 +8,11 @@ import java.lang.annotation.Target;
 
 /**
  * DataTarget
+ * <p>
+ * {@link DefaultDataChangeBeforeAdvice}에서 사용자/관리자 정보를 저장할 인자를 지정한다. 인자는
+ * {@link DataChangeInfoForAdmin}, {@link DataChangeInfoForUser}를 구현한 객체이거나 그 객체의 {@link java.util.Collection},
+ * 배열일 수 있으며, 목록일 경우 현재 사용자는 한 번만 조회하여 모든 요소에 저장한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
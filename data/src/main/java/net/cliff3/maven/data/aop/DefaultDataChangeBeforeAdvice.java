@@ -1,16 +1,19 @@
 package net.cliff3.maven.data.aop;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collection;
 
 import lombok.extern.slf4j.Slf4j;
 import net.cliff3.maven.security.model.AbstractUser;
-import org.apache.commons.lang3.ArrayUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * 작성자/수정자의 정보를 처리한다. 이를 위해서는 {@link DefaultControllerForUser}를 구현해야 한다.
+ * <p>
+ * {@link DataTarget}이 지정된 인자의 위치와 적용 대상은 메서드별로 한 번만 계산하며({@link DataChangePlan}), 현재 사용자는
+ * 호출당 한 번만 조회한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
@@ -30,45 +33,34 @@ public class DefaultDataChangeBeforeAdvice {
      */
     public void processBefore(JoinPoint point) {
         Method method = ((MethodSignature)point.getSignature()).getMethod();
-        Class<?> clazz = method.getDeclaringClass();
+        DataChangePlan plan = DataChangePlan.of(method);
         Object[] args = point.getArgs();
-        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-
-        log.debug("parameter annotation length : {}", parameterAnnotations.length);
-
-        for (Annotation[] aa : parameterAnnotations) {
-            for (Annotation bb : aa) {
-                log.debug("@ >>> {}", bb);
-            }
-        }
-
 
         log.debug("------------------------------------------------------------------------");
         log.debug("start dataChangeInfo before advice");
         log.debug("clazz : {}", method.getDeclaringClass());
 
-        if (DefaultControllerForUser.class.isAssignableFrom(clazz) && args != null) {
+        if (plan.size() > 0 && args != null) {
             // NGControllerForUser 구현 했음
-            for (Object parameter : args) {
-                // 인자의 순서 확인
-                int index = ArrayUtils.indexOf(args, parameter);
-                DataTarget an = null;
-
-                if (parameterAnnotations.length > index && parameterAnnotations[index].length > 0) {
-                    for (Annotation aa : parameterAnnotations[index]) {
-                        if (aa.annotationType().equals(DataTarget.class)) {
-                            an = (DataTarget)aa;
-
-                            break;
-                        }
-                    }
+            AbstractUser user = null;
+            boolean userLoaded = false;
+
+            for (int i = 0; i < plan.size(); i++) {
+                int index = plan.indexAt(i);
+                Object parameter = index < args.length ? args[index] : null;
+
+                if (parameter == null) {
+                    continue;
                 }
 
-                if (an != null) {
+                if (!userLoaded) {
                     log.debug("data change target for user : {}", point.getTarget());
 
-                    processApplyDataTargets(parameter, (DefaultControllerForUser)point.getTarget(), an);
+                    user = ((DefaultControllerForUser)point.getTarget()).getCurrentUser(false);
+                    userLoaded = true;
                 }
+
+                processApplyDataTargets(parameter, user, plan.applyAdminAt(i), plan.applyUserAt(i));
             }
         }
 
@@ -77,11 +69,13 @@ public class DefaultDataChangeBeforeAdvice {
     }
 
     /**
-     * {@link DataTarget}을 이용하여 사용자/관리자 정보를 객체에 저장한다.
+     * {@link DataTarget}을 이용하여 사용자/관리자 정보를 객체에 저장한다. 인자가 {@link Collection} 혹은 배열일 경우 모든 요소에
+     * 동일한 사용자 정보를 저장한다. {@link Iterable}만 구현한 객체는 목록이 아닌 단일 객체로 처리한다.
      *
-     * @param parameter {@link AbstractUser}를 구현한 사용자/관리자등 객체
-     * @param clazz     {@link DefaultControllerForUser}를 구현한 컨트롤러
-     * @param target    {@link DataTargetAdmin} 혹은 {@link DataTargetUser}를 대상 값으로 가지는 {@link DataTarget}
+     * @param parameter  {@link DataChangeInfoForAdmin} 혹은 {@link DataChangeInfoForUser}를 구현한 객체, 혹은 그 목록
+     * @param user       {@link DefaultControllerForUser#getCurrentUser(boolean)}로 조회한 현재 사용자
+     * @param applyAdmin {@link DataTargetAdmin} 적용 여부
+     * @param applyUser  {@link DataTargetUser} 적용 여부
      *
      * @see AbstractUser
      * @see DefaultControllerForUser
@@ -89,35 +83,43 @@ public class DefaultDataChangeBeforeAdvice {
      * @see DataTargetAdmin
      * @see DataTargetUser
      */
-    private void processApplyDataTargets(Object parameter, DefaultControllerForUser clazz, DataTarget target) {
+    private void processApplyDataTargets(Object parameter, AbstractUser user, boolean applyAdmin, boolean applyUser) {
         log.debug("start processApplyDataTargets >>>");
 
-        AbstractUser user = clazz.getCurrentUser(false);
-
-        for (Class<? extends DataTargetBase> toInterface : target.targets()) {
-            log.debug("toInterface : {}", toInterface.getName());
-
-            if (toInterface == DataTargetAdmin.class && DataChangeInfoForAdmin.class.isAssignableFrom(parameter.getClass())) {
-                try {
-                    DataChangeInfoForAdmin<? extends AbstractUser> _parameter = (DataChangeInfoForAdmin<? extends AbstractUser>)parameter;
+        if (parameter instanceof Collection) {
+            for (Object element : (Collection<?>)parameter) {
+                applyDataTarget(element, user, applyAdmin, applyUser);
+            }
+        } else if (parameter instanceof Object[]) {
+            for (Object element : (Object[])parameter) {
+                applyDataTarget(element, user, applyAdmin, applyUser);
+            }
+        } else {
+            applyDataTarget(parameter, user, applyAdmin, applyUser);
+        }
+    }
 
-                    _parameter.setCreatedByAdmin(user);
-                    _parameter.setUpdatedByAdmin(user);
+    /**
+     * 단일 객체에 사용자/관리자 정보를 저장한다.
+     *
+     * @param target     대상 객체
+     * @param user       현재 사용자
+     * @param applyAdmin {@link DataTargetAdmin} 적용 여부
+     * @param applyUser  {@link DataTargetUser} 적용 여부
+     */
+    private void applyDataTarget(Object target, AbstractUser user, boolean applyAdmin, boolean applyUser) {
+        if (applyAdmin && target instanceof DataChangeInfoForAdmin) {
+            DataChangeInfoForAdmin<?> _target = (DataChangeInfoForAdmin<?>)target;
 
-                    log.debug("applied to admin.");
-                } catch (ClassCastException ignored) {
-                }
-            } else if (toInterface == DataTargetUser.class && DataChangeInfoForUser.class.isAssignableFrom(parameter.getClass())) {
-                try {
-                    DataChangeInfoForUser<? extends AbstractUser> _parameter = (DataChangeInfoForUser<? extends AbstractUser>)parameter;
+            _target.setCreatedByAdmin(user);
+            _target.setUpdatedByAdmin(user);
+        }
 
-                    _parameter.setCreatedByUser(user);
-                    _parameter.setUpdatedByUser(user);
+        if (applyUser && target instanceof DataChangeInfoForUser) {
+            DataChangeInfoForUser<?> _target = (DataChangeInfoForUser<?>)target;
 
-                    log.debug("applied to user.");
-                } catch (ClassCastException ignore) {
-                }
-            }
+            _target.setCreatedByUser(user);
+            _target.setUpdatedByUser(user);
         }
     }
 }
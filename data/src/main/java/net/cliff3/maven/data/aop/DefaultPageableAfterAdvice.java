@@ -1,14 +1,20 @@
 package net.cliff3.maven.data.aop;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.cliff3.maven.data.mybatis.AbstractPageable;
 import net.cliff3.maven.data.mybatis.pagination.Countable;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
 import net.cliff3.maven.data.mybatis.pagination.Pageable;
-import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.pagination.PagingMetrics;
+import net.cliff3.maven.data.mybatis.pagination.PositionIdxAssigner;
+import net.cliff3.maven.data.mybatis.pagination.PositionIdxCursor;
+import net.cliff3.maven.data.mybatis.pagination.PositionIdxResultHandler;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
@@ -20,6 +26,24 @@ import org.aspectj.lang.reflect.MethodSignature;
  */
 @Slf4j
 public class DefaultPageableAfterAdvice extends AbstractPageable {
+    /**
+     * 측정 정보 수집
+     */
+    @Setter
+    private PagingMetrics metrics = PagingMetrics.NOOP;
+
+    /**
+     * 목록 조회 시간이 이 값(ms)을 넘을 경우 경고 로그를 출력한다. 0 이하일 경우 출력하지 않는다.
+     */
+    @Setter
+    private long slowPageThresholdMillis = 0;
+
+    /**
+     * After returning advice
+     *
+     * @param point       {@code JoinPoint}
+     * @param returnValue 목록 조회 결과
+     */
     public void processAfter(JoinPoint point, Object returnValue) {
         Method method = ((MethodSignature)point.getSignature()).getMethod();
         Object[] args = point.getArgs();
@@ -28,52 +52,96 @@ public class DefaultPageableAfterAdvice extends AbstractPageable {
         log.debug("start paging after advice");
         log.debug("clazz : {}", method.getDeclaringClass());
 
-        Pageable annotation = method.getAnnotation(Pageable.class);
+        PageableMetadata metadata = PageableMetadata.of(method);
 
-        if (isPageable(annotation, args)) {
-            processPaging(returnValue);
+        if (isPageable(metadata.getAnnotation(), args)) {
+            PageRequest pageRequest = metadata.resolvePageRequest(args);
+
+            recordPageQuery(metadata, pageRequest);
+            processPaging(returnValue, pageRequest);
+
+            if (metadata.getDialect().isWindowCount()) {
+                processWindowCountFallback(point, args, metadata, pageRequest, returnValue);
+                metrics.recordTotalCount(metadata.getMapperID(), pageRequest.getTotalCount());
+            }
         }
 
         log.debug("end paging after advice");
         log.debug("------------------------------------------------------------------------");
     }
 
-    @SuppressWarnings("unchecked")
-    private void processPaging(Object returnValue) {
-        if (returnValue instanceof List) {
-            int base = Pagination.totalCount.get() - getFromData() + 1;
-            List<?> convertedList = (List<?>)returnValue;
+    /**
+     * before advice에서 지정한 시작 시각을 기준으로 목록 조회 시간을 기록한다.
+     *
+     * @param metadata    {@link PageableMetadata}
+     * @param pageRequest 페이징 처리 정보
+     */
+    private void recordPageQuery(PageableMetadata metadata, PageRequest pageRequest) {
+        long startedAt = pageRequest.getQueryStartedAt();
+
+        if (startedAt == 0) {
+            return;
+        }
 
-            log.debug("start position idx base : {}", base);
+        long elapsed = System.nanoTime() - startedAt;
 
-            for (Object target : convertedList) {
-                if (target instanceof Countable) {
-                    Countable countable = (Countable)target;
+        pageRequest.setQueryStartedAt(0);
+        metrics.recordPageQuery(metadata.getMapperID(), elapsed);
 
-                    countable.setPositionIdx(base);
-                } else if (returnValue instanceof Map) {
-                    ((Map<String, Object>)target).put("positionIdx", base);
-                }
+        if (slowPageThresholdMillis > 0 && TimeUnit.NANOSECONDS.toMillis(elapsed) > slowPageThresholdMillis) {
+            log.warn("slow page query : {}, page : {}, dataPerPage : {}, elapsed : {}ms",
+                     metadata.getMapperID(),
+                     pageRequest.getCurrentPage(),
+                     pageRequest.getDataPerPage(),
+                     TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
 
-                base--;
+    /**
+     * 목록 형태의 결과에 출력 번호를 할당한다. {@link org.apache.ibatis.session.ResultHandler}나
+     * {@link org.apache.ibatis.cursor.Cursor}를 이용하는 경우에는 {@link PositionIdxResultHandler},
+     * {@link PositionIdxCursor}를 사용한다.
+     *
+     * @param returnValue 목록 조회 결과
+     * @param pageRequest 페이징 처리 정보
+     */
+    private void processPaging(Object returnValue, PageRequest pageRequest) {
+        if (returnValue instanceof List) {
+            PositionIdxAssigner assigner = new PositionIdxAssigner(pageRequest);
 
-                log.debug("after base : {}", base);
+            for (Object target : (List<?>)returnValue) {
+                assigner.assign(target);
             }
         }
     }
 
-    private int getFromData() {
-        Integer currentPage = Pagination.currentPage.get();
-        Integer dataPerPage = Pagination.dataPerPage.get();
-
-        if (currentPage == null) {
-            currentPage = 1;
+    /**
+     * window 방식에서 마지막 페이지를 넘어선 요청 등으로 목록이 비어있으면 전체 건수를 알 수 없으므로, count mapper가 존재할 경우
+     * 이를 실행하여 전체 건수를 조회한다. count mapper가 없을 경우 전체 건수는 0으로 처리된다.
+     *
+     * @param point       {@code JoinPoint}
+     * @param args        목록 조회 메서드에 전달되는 인자 배열
+     * @param metadata    {@link PageableMetadata}
+     * @param pageRequest 페이징 처리 정보
+     * @param returnValue 목록 조회 결과
+     */
+    private void processWindowCountFallback(JoinPoint point,
+                                            Object[] args,
+                                            PageableMetadata metadata,
+                                            PageRequest pageRequest,
+                                            Object returnValue) {
+        if (!(returnValue instanceof List) || !((List<?>)returnValue).isEmpty() || pageRequest.getCurrentPage() <= 1) {
+            return;
         }
 
-        if (dataPerPage == null) {
-            dataPerPage = NG_DEFAULT_DATA_PER_PAGE;
-        }
+        try {
+            Integer totalCount = metadata.invokeCount(point.getTarget(), args);
 
-        return (dataPerPage * (currentPage - 1)) + 1;
+            pageRequest.setTotalCount(totalCount == null ? 0 : totalCount);
+        } catch (NoSuchMethodException e) {
+            log.debug("count mapper not found : {}", metadata.getCountMapperID());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            log.warn("count mapper invoke fail : {}", metadata.getCountMapperID(), e);
+        }
     }
 }
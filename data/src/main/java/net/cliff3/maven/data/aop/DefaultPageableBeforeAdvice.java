@@ -3,18 +3,27 @@ package net.cliff3.maven.data.aop;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.cliff3.maven.data.mybatis.AbstractPageable;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
 import net.cliff3.maven.data.mybatis.pagination.Pageable;
 import net.cliff3.maven.data.mybatis.pagination.Pagination;
-import org.apache.commons.lang3.StringUtils;
+import net.cliff3.maven.data.mybatis.pagination.PagingDialect;
+import net.cliff3.maven.data.mybatis.pagination.PagingMetrics;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * 페이징 처리 before advice. {@link Pageable} annotation이 존재할 경우 선행 처리하여 해당 조건의 전체 데이터 건수를 조회하여
- * {@link Pagination}에 저장한다.
+ * {@link Pagination}에 저장한다. 목록 조회 메서드에 {@link PageRequest} 유형의 인자가 전달된 경우에는 {@link Pagination}
+ * 대신 해당 인자를 사용하므로 {@link ThreadLocal}이 전달되지 않는 비동기 처리에서도 사용할 수 있다.
+ * <p>
+ * {@link PagingDialect#isWindowCount()}에 해당하는 방식은 count mapper를 실행하지 않으며, 전체 건수는
+ * {@link DefaultPageableAfterAdvice}에서 조회 결과로부터 추출한다.
+ * </p>
  *
  * @author JoonHo Son
  * @see Pageable
@@ -29,6 +38,18 @@ public class DefaultPageableBeforeAdvice extends AbstractPageable {
      */
     public static final String DEFAULT_MAPPER_ID = "PageCount";
 
+    /**
+     * 측정 정보 수집
+     */
+    @Setter
+    private PagingMetrics metrics = PagingMetrics.NOOP;
+
+    /**
+     * count mapper 실행 시간이 이 값(ms)을 넘을 경우 경고 로그를 출력한다. 0 이하일 경우 출력하지 않는다.
+     */
+    @Setter
+    private long slowPageThresholdMillis = 0;
+
     /**
      * Default constructor
      */
@@ -47,18 +68,17 @@ public class DefaultPageableBeforeAdvice extends AbstractPageable {
     public void processBefore(JoinPoint point)
         throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
         Method method = ((MethodSignature)point.getSignature()).getMethod();
-        Class<?> clazz = method.getDeclaringClass();
         Object[] args = point.getArgs();
 
         log.debug("------------------------------------------------------------------------");
         log.debug("start paging before advice");
         log.debug("clazz : {}", method.getDeclaringClass());
 
-        Pageable annotation = method.getAnnotation(Pageable.class);
+        PageableMetadata metadata = PageableMetadata.of(method);
 
         // dao 객체이며 @NGPageable annotation이 존재할 경우
-        if (isPageable(annotation, args)) {
-            processPreparing(method, point, clazz, args, annotation);
+        if (isPageable(metadata.getAnnotation(), args)) {
+            processPreparing(point, args, metadata);
         }
 
         log.debug("end paging before advice");
@@ -68,45 +88,48 @@ public class DefaultPageableBeforeAdvice extends AbstractPageable {
     /**
      * Count mapper 실행 처리
      *
-     * @param method     count mappter를 호출하는 메서드
-     * @param point      {@code JoinPoint}
-     * @param clazz      현재 클래스 원형
-     * @param args       록 조회 메서드에 저달되는 인자 배열
-     * @param annotation {@link Pageable}
+     * @param point    {@code JoinPoint}
+     * @param args     목록 조회 메서드에 전달되는 인자 배열
+     * @param metadata {@link PageableMetadata}
      *
      * @throws IllegalAccessException    count method invoke fail
      * @throws InvocationTargetException count method access error
      * @throws NoSuchMethodException     count method not found
      */
-    private void processPreparing(Method method, JoinPoint point, Class<?> clazz, Object[] args, Pageable annotation)
+    private void processPreparing(JoinPoint point, Object[] args, PageableMetadata metadata)
         throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        String methodName = method.getName();
+        PageRequest pageRequest = metadata.resolvePageRequest(args);
+        Integer totalCount = null;
 
-        String countMapperID = annotation.countMapperID();
+        if (metadata.getDialect().isWindowCount()) {
+            // 전체 건수는 목록 조회 결과와 함께 반환되므로 after advice에서 처리
+            log.debug("window count dialect : {}", metadata.getDialect());
+        } else {
+            log.debug("invoke count mapper : {}", metadata.getCountMapperID());
 
-        if (StringUtils.isEmpty(countMapperID)) {
-            countMapperID = methodName + DEFAULT_MAPPER_ID;
-        }
+            long startedAt = System.nanoTime();
 
-        Method countMapperMethod = clazz.getDeclaredMethod(countMapperID, method.getParameterTypes());
+            totalCount = metadata.invokeCount(point.getTarget(), args);
 
-        log.debug("invoke count mapper!");
-        Integer totalCount = (Integer)countMapperMethod.invoke(point.getTarget(), args);
+            long elapsed = System.nanoTime() - startedAt;
 
-        Integer currentPage = Pagination.currentPage.get();
-        Integer dataPerPage = Pagination.dataPerPage.get();
+            metrics.recordCountQuery(metadata.getMapperID(), elapsed);
+            metrics.recordTotalCount(metadata.getMapperID(), totalCount == null ? 0 : totalCount);
 
-        if (currentPage == null) {
-            currentPage = 1;
+            if (slowPageThresholdMillis > 0 && TimeUnit.NANOSECONDS.toMillis(elapsed) > slowPageThresholdMillis) {
+                log.warn("slow count query : {}, page : {}, dataPerPage : {}, elapsed : {}ms",
+                         metadata.getCountMapperID(),
+                         pageRequest.getCurrentPage(),
+                         pageRequest.getDataPerPage(),
+                         TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
         }
 
-        if (dataPerPage == null) {
-            dataPerPage = NG_DEFAULT_DATA_PER_PAGE;
-        }
-
-        int fromData = (dataPerPage * (currentPage - 1)) + 1;
-        int fromIndex = fromData - 1;
-        int toData = fromData + dataPerPage - 1;
+        int currentPage = pageRequest.getCurrentPage();
+        int dataPerPage = pageRequest.getDataPerPage();
+        int fromData = pageRequest.getFromData();
+        int fromIndex = pageRequest.getFromIndex();
+        int toData = pageRequest.getToData();
 
         Map<String, Object> parameter = (Map<String, Object>)args[0];
 
@@ -116,12 +139,21 @@ public class DefaultPageableBeforeAdvice extends AbstractPageable {
         log.debug("fromIndex : {}", fromIndex);
         log.debug("toData : {}", toData);
 
-        parameter.put(annotation.fromKey(), fromData);
-        parameter.put(annotation.fromIndex(), fromIndex);
-        parameter.put(annotation.toKey(), toData);
+        parameter.put(metadata.getFromKey(), fromData);
+        parameter.put(metadata.getFromIndex(), fromIndex);
+        parameter.put(metadata.getToKey(), toData);
         parameter.put(NG_DATA_PER_PAGE_KEY, dataPerPage);
         parameter.put(NG_CURRENT_PAGE_KEY, currentPage);
+        parameter.put(NG_KEYSET_KEY, pageRequest.isKeyset());
+
+        if (pageRequest.isKeyset()) {
+            parameter.put(NG_LAST_KEY_KEY, pageRequest.getLastKey());
+        }
+
+        pageRequest.setTotalCount(totalCount == null ? 0 : totalCount);
+
+        metrics.recordPageRequest(metadata.getMapperID(), currentPage, dataPerPage);
 
-        Pagination.totalCount.set(totalCount);
+        pageRequest.setQueryStartedAt(System.nanoTime());
     }
 }
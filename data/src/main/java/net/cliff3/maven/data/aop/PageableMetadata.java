@@ -0,0 +1,243 @@
+package net.cliff3.maven.data.aop;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.Getter;
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import net.cliff3.maven.data.mybatis.pagination.Pageable;
+import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.pagination.PagingDialect;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link Pageable} 메서드별 페이징 처리 정보. 최초 호출시 한 번만 생성하여 {@link #cache}에 저장하므로 이후 호출에서는
+ * annotation 조회, count mapper 이름 생성, {@code getDeclaredMethod} 등의 reflection 처리가 발생하지 않는다.
+ *
+ * @author JoonHo Son
+ * @see DefaultPageableBeforeAdvice
+ * @see DefaultPageableAfterAdvice
+ * @since 0.3.0
+ */
+final class PageableMetadata {
+    /**
+     * {@link Pageable} annotation이 없는 메서드
+     */
+    private static final PageableMetadata NONE = new PageableMetadata(null, null);
+
+    /**
+     * 메서드별 페이징 처리 정보
+     */
+    private static final ConcurrentMap<Method, PageableMetadata> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 목록 조회 메서드
+     */
+    private final Method method;
+
+    /**
+     * 측정 정보 기록 및 로그 출력용 메서드 이름(클래스명.메서드명)
+     */
+    @Getter
+    private final String mapperID;
+
+    /**
+     * {@link Pageable}
+     */
+    @Getter
+    private final Pageable annotation;
+
+    /**
+     * Count mapper 메서드명
+     */
+    @Getter
+    private final String countMapperID;
+
+    /**
+     * {@link Pageable#fromKey()}
+     */
+    @Getter
+    private final String fromKey;
+
+    /**
+     * {@link Pageable#fromIndex()}
+     */
+    @Getter
+    private final String fromIndex;
+
+    /**
+     * {@link Pageable#toKey()}
+     */
+    @Getter
+    private final String toKey;
+
+    /**
+     * {@link Pageable#dialect()}
+     */
+    @Getter
+    private final PagingDialect dialect;
+
+    /**
+     * {@link PageRequest} 유형 인자의 위치. 존재하지 않을 경우 -1
+     */
+    private final int pageRequestIndex;
+
+    /**
+     * {@code (Object target, Object[] args)Object} 형태로 변환된 count mapper 메서드
+     */
+    private volatile MethodHandle countHandle;
+
+    private PageableMetadata(Method method, Pageable annotation) {
+        this.method = method;
+        this.annotation = annotation;
+        this.mapperID = method == null ? null : method.getDeclaringClass().getName() + "." + method.getName();
+
+        if (annotation == null) {
+            this.countMapperID = null;
+            this.fromKey = null;
+            this.fromIndex = null;
+            this.toKey = null;
+            this.dialect = PagingDialect.COUNT_QUERY;
+            this.pageRequestIndex = -1;
+        } else {
+            this.countMapperID = StringUtils.isEmpty(annotation.countMapperID())
+                                 ? method.getName() + DefaultPageableBeforeAdvice.DEFAULT_MAPPER_ID
+                                 : annotation.countMapperID();
+            this.fromKey = annotation.fromKey();
+            this.fromIndex = annotation.fromIndex();
+            this.toKey = annotation.toKey();
+            this.dialect = annotation.dialect();
+            this.pageRequestIndex = findPageRequestIndex(method.getParameterTypes());
+        }
+    }
+
+    /**
+     * {@link PageRequest} 유형 인자의 위치를 반환한다.
+     *
+     * @param parameterTypes 목록 조회 메서드의 인자 유형
+     *
+     * @return 인자 위치. 존재하지 않을 경우 -1
+     */
+    private static int findPageRequestIndex(Class<?>[] parameterTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (PageRequest.class.isAssignableFrom(parameterTypes[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 대상 메서드의 페이징 처리 정보를 반환한다. {@link Pageable} annotation이 없는 경우에도 결과를 저장하며,
+     * 이 때 {@link #getAnnotation()}은 {@code null}을 반환한다.
+     *
+     * @param method 목록 조회 메서드
+     *
+     * @return 페이징 처리 정보
+     */
+    static PageableMetadata of(Method method) {
+        PageableMetadata metadata = cache.get(method);
+
+        if (metadata == null) {
+            Pageable annotation = method.getAnnotation(Pageable.class);
+
+            metadata = annotation == null ? NONE : new PageableMetadata(method, annotation);
+
+            PageableMetadata previous = cache.putIfAbsent(method, metadata);
+
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+
+        return metadata;
+    }
+
+    /**
+     * 페이징 처리 정보를 반환한다. 다음 순서로 확인한다.
+     * <ol>
+     * <li>목록 조회 메서드의 {@link PageRequest} 유형 인자({@code @Param("pageRequest")} 지정 필요)</li>
+     * <li>조회 조건 {@link Map}의 {@link AbstractPageable#NG_PAGE_REQUEST_KEY} 값</li>
+     * <li>현재 thread의 정보({@link Pagination#getRequest()})</li>
+     * </ol>
+     *
+     * @param args 목록 조회 메서드에 전달되는 인자 배열
+     *
+     * @return 페이징 처리 정보
+     */
+    PageRequest resolvePageRequest(Object[] args) {
+        if (pageRequestIndex >= 0 && args != null && args.length > pageRequestIndex
+            && args[pageRequestIndex] != null) {
+            return (PageRequest)args[pageRequestIndex];
+        }
+
+        if (args != null && args.length > 0 && args[0] instanceof Map) {
+            Object request = ((Map<?, ?>)args[0]).get(AbstractPageable.NG_PAGE_REQUEST_KEY);
+
+            if (request instanceof PageRequest) {
+                return (PageRequest)request;
+            }
+        }
+
+        return Pagination.getRequest();
+    }
+
+    /**
+     * Count mapper를 실행하여 전체 데이터 건수를 반환한다.
+     *
+     * @param target 목록 조회 메서드를 포함하는 인스턴스
+     * @param args   목록 조회 메서드에 전달되는 인자 배열
+     *
+     * @return 전체 데이터 건수
+     * @throws NoSuchMethodException     count method not found
+     * @throws IllegalAccessException    count method access error
+     * @throws InvocationTargetException count method invoke fail
+     */
+    Integer invokeCount(Object target, Object[] args)
+        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        MethodHandle handle = countHandle;
+
+        if (handle == null) {
+            handle = resolveCountHandle();
+        }
+
+        try {
+            return (Integer)handle.invokeExact(target, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Count mapper 메서드를 조회하여 {@link MethodHandle}로 변환한다. 동시에 호출되더라도 결과는 동일하므로 별도의 동기화 처리는
+     * 하지 않는다.
+     *
+     * @return count mapper {@link MethodHandle}
+     * @throws NoSuchMethodException  count method not found
+     * @throws IllegalAccessException count method access error
+     */
+    private MethodHandle resolveCountHandle() throws NoSuchMethodException, IllegalAccessException {
+        Method countMapperMethod = method.getDeclaringClass()
+                                         .getDeclaredMethod(countMapperID, method.getParameterTypes());
+        MethodHandle handle = MethodHandles.publicLookup()
+                                           .unreflect(countMapperMethod)
+                                           .asSpreader(Object[].class, method.getParameterCount())
+                                           .asType(MethodType.methodType(Integer.class,
+                                                                         Object.class,
+                                                                         Object[].class));
+
+        countHandle = handle;
+
+        return handle;
+    }
+}
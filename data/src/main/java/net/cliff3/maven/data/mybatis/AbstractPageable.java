@@ -44,6 +44,27 @@ public abstract class AbstractPageable {
      */
     public static final String NG_LINK_PER_PAGE_KEY = "linkPerPage";
 
+    /**
+     * Keyset 방식 조회 여부를 지정하는 key
+     */
+    public static final String NG_KEYSET_KEY = "keyset";
+
+    /**
+     * Keyset 방식 조회시 이전 페이지의 마지막 키 값을 지정하는 key
+     */
+    public static final String NG_LAST_KEY_KEY = "lastKey";
+
+    /**
+     * {@link net.cliff3.maven.data.mybatis.pagination.PageRequest}를 전달하는 key.
+     * <p>
+     * 목록 조회 메서드에 {@code PageRequest} 유형의 인자를 추가할 경우 MyBatis는 인자들을 {@code ParamMap}으로 묶으므로
+     * {@code #{fromData}} 등을 찾을 수 없다. 이 경우 해당 인자에 {@code @Param("pageRequest")}를 지정하여야 하며,
+     * cliff3Common.xml의 footer fragment는 이 이름의 인자에서 값을 조회한다. 인자를 추가하지 않고 조회 조건 {@link Map}에
+     * 이 key로 저장하여 전달할 수도 있다.
+     * </p>
+     */
+    public static final String NG_PAGE_REQUEST_KEY = "pageRequest";
+
     /**
      * Paging 처리 여부를 확인
      *
@@ -5,28 +5,99 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 import lombok.Setter;
-import net.cliff3.maven.data.mybatis.pagination.PagerTool;
-import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * 페이징 처리 정보를 {@link HttpServletRequest}에 저장하는 필터
+ * <p>
+ * {@link #setMethods(String...)}, {@link #setIncludePatterns(String...)}를 지정하면 해당 요청에 대해서만 페이징 정보를
+ * 생성한다. Query string은 {@link PagerTool#getQueryString()}이 실제로 호출되는 시점에 생성된다.
+ * </p>
+ * <p>
+ * 과도한 요청으로부터 DB를 보호하기 위해 페이지당 출력 건수와 페이지 링크 개수는 최대값으로 제한되며,
+ * {@link #setMaxOffset(int)}를 지정하면 해당 위치를 넘어서는 요청은 {@link #setOffsetPolicy(OffsetPolicy)}에 따라 처리된다.
+ * 제한 처리 횟수는 {@link #getRestrictedCount(Restriction)}와 {@link PagingMetrics#recordRestriction(Restriction)}로
+ * 확인할 수 있다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
  */
 public class DefaultPagingFilter extends OncePerRequestFilter {
+    /**
+     * 최대 offset을 넘어선 요청의 처리 방식
+     */
+    public enum OffsetPolicy {
+        /**
+         * 허용되는 마지막 페이지로 변경
+         */
+        CLAMP,
+
+        /**
+         * Keyset 방식으로 변경. 이전 페이지의 마지막 키 값이 없을 경우 {@link #REJECT}와 동일하게 처리된다.
+         *
+         * @see PageRequest#isKeyset()
+         */
+        KEYSET,
+
+        /**
+         * 400(Bad Request) 응답
+         */
+        REJECT
+    }
+
+    /**
+     * 요청 값 제한 유형
+     */
+    public enum Restriction {
+        /**
+         * 페이지당 출력 건수 제한
+         */
+        DATA_PER_PAGE_CLAMPED,
+
+        /**
+         * 페이지 링크 개수 제한
+         */
+        LINK_PER_PAGE_CLAMPED,
+
+        /**
+         * 최대 offset 초과로 페이지 번호 변경
+         */
+        OFFSET_CLAMPED,
+
+        /**
+         * 최대 offset 초과로 keyset 방식으로 변경
+         */
+        OFFSET_KEYSET,
+
+        /**
+         * 최대 offset 초과로 요청 거부
+         */
+        OFFSET_REJECTED
+    }
+
     /**
      * 현재 페이지번호 변수명
      */
-    @Setter
     private String currentPage = "currentPage";
 
     /**
@@ -39,95 +110,328 @@ public class DefaultPagingFilter extends OncePerRequestFilter {
      */
     private String LINK_PER_PAGE = "linkPerPage";
 
-    private Integer DEFAULT_DATA_PER_PAGE = 10;
+    private int DEFAULT_DATA_PER_PAGE = 10;
 
-    private Integer DEFAULT_PAGE_LINK_COUNT = 10;
+    private int DEFAULT_PAGE_LINK_COUNT = 10;
 
+    private Charset charset = Charset.forName("UTF-8");
+
+    /**
+     * Query string 생성시 추가로 제외할 파라미터
+     */
+    private String[] excludeParameters = ArrayUtils.EMPTY_STRING_ARRAY;
+
+    /**
+     * Query string 생성시 제외할 파라미터 전체 목록
+     */
+    private Set<String> excludeKeys = buildExcludeKeys();
+
+    /**
+     * 페이지당 출력 건수 최대값
+     */
+    @Setter
+    private int maxDataPerPage = 1000;
+
+    /**
+     * 페이지 링크 개수 최대값
+     */
     @Setter
-    private String encoding = "UTF-8";
+    private int maxLinkPerPage = 100;
+
+    /**
+     * 허용되는 최대 offset(건). 0 이하일 경우 제한하지 않는다.
+     */
+    @Setter
+    private int maxOffset = 0;
+
+    /**
+     * 최대 offset을 넘어선 요청의 처리 방식
+     */
+    @Setter
+    private OffsetPolicy offsetPolicy = OffsetPolicy.REJECT;
+
+    /**
+     * Keyset 방식 전환시 이전 페이지의 마지막 키 값을 전달하는 파라미터명
+     */
+    @Setter
+    private String lastKeyParameter = AbstractPageable.NG_LAST_KEY_KEY;
+
+    /**
+     * 측정 정보 수집
+     */
+    @Setter
+    private PagingMetrics metrics = PagingMetrics.NOOP;
+
+    /**
+     * 제한 유형별 처리 횟수
+     */
+    private final Map<Restriction, LongAdder> restrictedCounts = new EnumMap<>(Restriction.class);
+
+    {
+        for (Restriction restriction : Restriction.values()) {
+            restrictedCounts.put(restriction, new LongAdder());
+        }
+    }
+
+    /**
+     * 페이징 정보를 생성할 HTTP method. 지정하지 않을 경우 모든 요청을 대상으로 한다.
+     */
+    private Set<String> methods = null;
+
+    /**
+     * 페이징 정보를 생성할 URL pattern(ant style). 지정하지 않을 경우 모든 요청을 대상으로 한다.
+     */
+    private String[] includePatterns = null;
+
+    /**
+     * URL pattern 비교
+     */
+    @Setter
+    private PathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * 요청 경로 추출
+     */
+    @Setter
+    private UrlPathHelper urlPathHelper = new UrlPathHelper();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
-        String contentType = request.getContentType();
+        Pagination.clear();
 
-        Pagination.resetAll();
+        try {
+            if (isPagingTarget(request)) {
+                PageRequest pageRequest = new PageRequest(
+                    parseParameter(request.getParameter(this.currentPage), 1),
+                    parseParameter(request.getParameter(DATA_PER_PAGE), DEFAULT_DATA_PER_PAGE),
+                    parseParameter(request.getParameter(LINK_PER_PAGE), DEFAULT_PAGE_LINK_COUNT));
 
-        if (contentType == null || !contentType.contains("multipart")) {
-            // contentType 이 파일 첨부라면 스킵한다.
-            String currentPage = request.getParameter(this.currentPage);
-            String dataPerPage = request.getParameter(DATA_PER_PAGE);
-            String linkPerPage = request.getParameter(LINK_PER_PAGE);
-
-            if (StringUtils.isEmpty(currentPage)) {
-                Pagination.currentPage.set(1);
-            } else {
-                try {
-                    Pagination.currentPage.set(new Integer(currentPage));
-                } catch (Exception ignore) {
-                    Pagination.currentPage.set(1);
-                }
-            }
+                if (!applyRestrictions(pageRequest, request)) {
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "요청한 페이지가 허용 범위를 넘었습니다.");
 
-            if (StringUtils.isEmpty(dataPerPage)) {
-                Pagination.dataPerPage.set(DEFAULT_DATA_PER_PAGE);
-            } else {
-                try {
-                    Pagination.dataPerPage.set(new Integer(dataPerPage));
-                } catch (Exception ignore) {
-                    Pagination.dataPerPage.set(DEFAULT_DATA_PER_PAGE);
+                    return;
                 }
+
+                final Set<String> excludedKeys = excludeKeys;
+                final Charset queryCharset = charset;
+                // Pagination.wrap 등으로 요청이 끝난 후 다른 thread에서 조회될 수 있으므로 재사용되는 request 대신 파라미터를
+                // 복사하여 참조한다.
+                final Map<String, String[]> parameters = new LinkedHashMap<>(request.getParameterMap());
+
+                // pager를 출력하지 않는 요청에서는 생성하지 않도록 최초 조회 시점까지 미룬다.
+                pageRequest.setQueryStringSupplier(() -> QueryStringEncoder.encode(parameters, excludedKeys, queryCharset));
+
+                Pagination.setRequest(pageRequest);
+                request.setAttribute("pager", new PagerTool(pageRequest));
             }
 
-            if (StringUtils.isEmpty(linkPerPage)) {
-                Pagination.linkPerPage.set(DEFAULT_PAGE_LINK_COUNT);
-            } else {
-                try {
-                    Pagination.linkPerPage.set(new Integer(linkPerPage));
-                } catch (Exception ignore) {
-                    Pagination.linkPerPage
-                        .set(DEFAULT_PAGE_LINK_COUNT);
+            filterChain.doFilter(request, response);
+        } finally {
+            // pool에서 재사용되는 thread에 이전 요청의 정보가 남지 않도록 제거
+            Pagination.clear();
+        }
+    }
+
+    /**
+     * 페이징 정보 생성 대상 요청인지 확인한다. 파일 첨부(multipart) 요청과 지정된 method, URL pattern에 해당하지 않는 요청은
+     * 제외한다.
+     *
+     * @param request {@link HttpServletRequest}
+     *
+     * @return 대상 여부
+     */
+    private boolean isPagingTarget(HttpServletRequest request) {
+        String contentType = request.getContentType();
+
+        if (contentType != null && contentType.contains("multipart")) {
+            // contentType 이 파일 첨부라면 스킵한다.
+            return false;
+        }
+
+        if (methods != null && !methods.contains(request.getMethod())) {
+            return false;
+        }
+
+        if (includePatterns != null) {
+            String path = urlPathHelper.getLookupPathForRequest(request);
+
+            for (String pattern : includePatterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return true;
                 }
             }
 
-            Pagination.queryString.set(extractQueryString(request));
-            request.setAttribute("pager", new PagerTool());
+            return false;
         }
 
-        filterChain.doFilter(request, response);
+        return true;
     }
 
-    private String extractQueryString(HttpServletRequest request) {
-        StringBuilder builder = new StringBuilder();
-        Map<String, String[]> parameterMap = request.getParameterMap();
-        String[] values;
+    /**
+     * 요청 값을 허용 범위로 제한한다. 페이지 번호와 출력 건수가 1보다 작을 경우 기본값으로 변경한다.
+     *
+     * @param pageRequest 페이징 처리 정보
+     * @param request     {@link HttpServletRequest}
+     *
+     * @return 요청 처리 가능 여부. {@code false}일 경우 요청을 거부한다.
+     */
+    private boolean applyRestrictions(PageRequest pageRequest, HttpServletRequest request) {
+        if (pageRequest.getCurrentPage() < 1) {
+            pageRequest.setCurrentPage(1);
+        }
 
-        for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
-            if (StringUtils.equals(currentPage, entry.getKey()) || StringUtils.equals(DATA_PER_PAGE, entry.getKey())) {
-                continue;
-            }
+        if (pageRequest.getDataPerPage() < 1) {
+            pageRequest.setDataPerPage(DEFAULT_DATA_PER_PAGE);
+        } else if (maxDataPerPage > 0 && pageRequest.getDataPerPage() > maxDataPerPage) {
+            pageRequest.setDataPerPage(maxDataPerPage);
+            restricted(Restriction.DATA_PER_PAGE_CLAMPED);
+        }
+
+        if (pageRequest.getLinkPerPage() < 1) {
+            pageRequest.setLinkPerPage(DEFAULT_PAGE_LINK_COUNT);
+        } else if (maxLinkPerPage > 0 && pageRequest.getLinkPerPage() > maxLinkPerPage) {
+            pageRequest.setLinkPerPage(maxLinkPerPage);
+            restricted(Restriction.LINK_PER_PAGE_CLAMPED);
+        }
 
-            values = entry.getValue();
+        // int 범위를 넘지 않도록 long으로 계산
+        long offset = (long)(pageRequest.getCurrentPage() - 1) * pageRequest.getDataPerPage();
 
-            if (values == null || values.length == 0) {
-                continue;
-            }
+        if (maxOffset <= 0 || offset <= maxOffset) {
+            return true;
+        }
+
+        switch (offsetPolicy) {
+            case CLAMP:
+                pageRequest.setCurrentPage(maxOffset / pageRequest.getDataPerPage() + 1);
+                restricted(Restriction.OFFSET_CLAMPED);
+
+                return true;
+            case KEYSET:
+                String lastKey = request.getParameter(lastKeyParameter);
 
-            for (String value : values) {
-                try {
-                    if (StringUtils.isNotBlank(value)) {
-                        if (StringUtils.isNotEmpty(builder.toString())) {
-                            builder.append("&");
-                        }
-
-                        builder.append(entry.getKey()).append("=").append(URLEncoder.encode(value, encoding));
-                    }
-                } catch (UnsupportedEncodingException e) {
-                    e.printStackTrace();
+                if (StringUtils.isNotEmpty(lastKey)) {
+                    pageRequest.setKeyset(true);
+                    pageRequest.setLastKey(lastKey);
+                    restricted(Restriction.OFFSET_KEYSET);
+
+                    return true;
                 }
+
+                // 이전 페이지의 마지막 키 값이 없을 경우 거부
+            default:
+                logger.warn("paging offset exceeded : " + offset + " (max : " + maxOffset + ")");
+                restricted(Restriction.OFFSET_REJECTED);
+
+                return false;
+        }
+    }
+
+    /**
+     * 제한 처리 횟수 기록
+     *
+     * @param restriction 제한 유형
+     */
+    private void restricted(Restriction restriction) {
+        restrictedCounts.get(restriction).increment();
+        metrics.recordRestriction(restriction);
+    }
+
+    /**
+     * 제한 유형별 처리 횟수 반환
+     *
+     * @param restriction 제한 유형
+     *
+     * @return 처리 횟수
+     */
+    public long getRestrictedCount(Restriction restriction) {
+        return restrictedCounts.get(restriction).sum();
+    }
+
+    /**
+     * 요청 파라미터를 숫자로 변환한다. 값이 없거나 숫자가 아닐 경우 기본값을 반환한다.
+     *
+     * @param value        요청 파라미터 값
+     * @param defaultValue 기본값
+     *
+     * @return 변환 결과
+     */
+    private int parseParameter(String value, int defaultValue) {
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ignore) {
+            return defaultValue;
+        }
+    }
+
+    private Set<String> buildExcludeKeys() {
+        Set<String> keys = new HashSet<>(Arrays.asList(excludeParameters));
+
+        keys.add(currentPage);
+        keys.add(DATA_PER_PAGE);
+
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * 현재 페이지번호 변수명 지정
+     *
+     * @param currentPage 변수명
+     */
+    public void setCurrentPage(String currentPage) {
+        this.currentPage = currentPage;
+        this.excludeKeys = buildExcludeKeys();
+    }
+
+    /**
+     * Query string 인코딩 지정
+     *
+     * @param encoding 인코딩
+     */
+    public void setEncoding(String encoding) {
+        this.charset = Charset.forName(encoding);
+    }
+
+    /**
+     * Query string 생성시 추가로 제외할 파라미터 지정. 현재 페이지번호와 페이지당 데이터 출력 건수는 항상 제외된다.
+     *
+     * @param excludeParameters 제외할 파라미터
+     */
+    public void setExcludeParameters(String... excludeParameters) {
+        this.excludeParameters = excludeParameters == null ? ArrayUtils.EMPTY_STRING_ARRAY : excludeParameters;
+        this.excludeKeys = buildExcludeKeys();
+    }
+
+    /**
+     * 페이징 정보를 생성할 HTTP method 지정(ex: GET)
+     *
+     * @param methods HTTP method
+     */
+    public void setMethods(String... methods) {
+        if (ArrayUtils.isEmpty(methods)) {
+            this.methods = null;
+        } else {
+            Set<String> upperCaseMethods = new HashSet<>();
+
+            for (String method : methods) {
+                upperCaseMethods.add(method.toUpperCase(Locale.ENGLISH));
             }
+
+            this.methods = Collections.unmodifiableSet(upperCaseMethods);
         }
+    }
 
-        return builder.toString();
+    /**
+     * 페이징 정보를 생성할 URL pattern 지정(ex: /board/list*, /**&#47;list)
+     *
+     * @param includePatterns URL pattern
+     */
+    public void setIncludePatterns(String... includePatterns) {
+        this.includePatterns = ArrayUtils.isEmpty(includePatterns) ? null : includePatterns;
     }
 }
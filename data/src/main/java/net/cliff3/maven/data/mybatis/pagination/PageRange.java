@@ -0,0 +1,110 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.util.AbstractList;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+
+/**
+ * 연속된 페이지 번호의 범위. 번호를 미리 생성하여 저장하지 않으며, {@link #intIterator()}를 이용하면 boxing 없이 순회할 수 있다.
+ * 기존 템플릿과의 호환을 위해 읽기 전용 {@link java.util.List}로도 사용할 수 있다.
+ *
+ * @author JoonHo Son
+ * @see PagerTool#getPageRange()
+ * @since 0.3.0
+ */
+public final class PageRange extends AbstractList<Integer> implements RandomAccess {
+    /**
+     * 시작 페이지 번호
+     */
+    private final int start;
+
+    /**
+     * 끝 페이지 번호(포함)
+     */
+    private final int end;
+
+    /**
+     * Constructor. 끝 번호가 시작 번호보다 작을 경우 빈 범위가 된다.
+     *
+     * @param start 시작 페이지 번호
+     * @param end   끝 페이지 번호(포함)
+     */
+    public PageRange(int start, int end) {
+        this.start = start;
+        this.end = Math.max(end, start - 1);
+    }
+
+    /**
+     * 시작 페이지 번호 반환
+     *
+     * @return 시작 페이지 번호
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * 끝 페이지 번호 반환
+     *
+     * @return 끝 페이지 번호
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * 해당 페이지 번호가 범위에 포함되는지 확인한다.
+     *
+     * @param page 페이지 번호
+     *
+     * @return 포함 여부
+     */
+    public boolean contains(int page) {
+        return page >= start && page <= end;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains(((Integer)o).intValue());
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index : " + index + ", size : " + size());
+        }
+
+        return start + index;
+    }
+
+    @Override
+    public int size() {
+        return end - start + 1;
+    }
+
+    /**
+     * boxing 없이 페이지 번호를 순회하는 iterator 반환
+     *
+     * @return {@link PrimitiveIterator.OfInt}
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next <= end;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next > end) {
+                    throw new NoSuchElementException();
+                }
+
+                return next++;
+            }
+        };
+    }
+}
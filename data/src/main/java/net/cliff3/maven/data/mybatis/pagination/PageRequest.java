@@ -0,0 +1,141 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+
+/**
+ * 한 번의 목록 조회에 필요한 페이징 정보. {@link Pagination}을 통해 현재 thread에 저장되거나, 비동기 처리 등
+ * {@link ThreadLocal}을 사용할 수 없는 경우 직접 생성하여 전달한다.
+ *
+ * @author JoonHo Son
+ * @see Pagination
+ * @see PagerTool
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+@ToString(doNotUseGetters = true)
+public class PageRequest {
+    /**
+     * 현재 페이지 번호
+     */
+    private int currentPage;
+
+    /**
+     * 페이지당 출력 게시물 개수
+     */
+    private int dataPerPage;
+
+    /**
+     * 페이지 출력 개수
+     */
+    private int linkPerPage;
+
+    /**
+     * 전체 게시물 개수
+     */
+    private int totalCount;
+
+    /**
+     * Query string
+     */
+    private String queryString;
+
+    /**
+     * {@link #queryString}이 지정되지 않은 경우 최초 조회 시점에 query string을 생성
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private Supplier<String> queryStringSupplier;
+
+    /**
+     * Keyset 방식 조회 여부. offset 제한을 넘어선 요청에서 {@link DefaultPagingFilter}가 지정한다.
+     */
+    private boolean keyset;
+
+    /**
+     * Keyset 방식 조회시 이전 페이지의 마지막 키 값
+     */
+    private String lastKey;
+
+    /**
+     * 목록 조회 시작 시각({@link System#nanoTime()}). 목록 조회 시간 측정을 위해 before advice에서 지정한다.
+     */
+    @ToString.Exclude
+    private long queryStartedAt;
+
+    /**
+     * 이전 페이지
+     *
+     * @deprecated 삭제 예정
+     */
+    @Deprecated
+    private String referer;
+
+    /**
+     * Default constructor. 첫 페이지와 기본 출력 개수로 설정된다.
+     */
+    public PageRequest() {
+        this(1, AbstractPageable.NG_DEFAULT_DATA_PER_PAGE, AbstractPageable.NG_DEFAULT_PAGE_LINK_COUNT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param currentPage 현재 페이지 번호
+     * @param dataPerPage 페이지당 출력 게시물 개수
+     * @param linkPerPage 페이지 출력 개수
+     */
+    public PageRequest(int currentPage, int dataPerPage, int linkPerPage) {
+        this.currentPage = currentPage;
+        this.dataPerPage = dataPerPage;
+        this.linkPerPage = linkPerPage;
+    }
+
+    /**
+     * Query string 반환. 값이 지정되지 않았으며 {@link #setQueryStringSupplier(Supplier)}가 지정된 경우 최초 호출시 한 번만
+     * 생성한다.
+     *
+     * @return Query string
+     */
+    public String getQueryString() {
+        if (queryString == null && queryStringSupplier != null) {
+            queryString = queryStringSupplier.get();
+            queryStringSupplier = null;
+        }
+
+        return queryString;
+    }
+
+    /**
+     * 현재 페이지의 첫 번째 데이터 순번(1부터 시작)
+     *
+     * @return 시작 값
+     */
+    public int getFromData() {
+        return (dataPerPage * (currentPage - 1)) + 1;
+    }
+
+    /**
+     * 현재 페이지의 첫 번째 데이터 위치(0부터 시작, MySQL용)
+     *
+     * @return 시작 위치
+     */
+    public int getFromIndex() {
+        return getFromData() - 1;
+    }
+
+    /**
+     * 현재 페이지의 마지막 데이터 순번
+     *
+     * @return 종료 값
+     */
+    public int getToData() {
+        return getFromData() + dataPerPage - 1;
+    }
+}
@@ -42,4 +42,12 @@ public @interface Pageable {
      * @return 종료 값
      */
     String toKey() default "toData";
+
+    /**
+     * 페이징 처리 방식. window 방식일 경우 count mapper는 목록이 비어있을 때만 사용되므로 생략할 수 있다.
+     *
+     * @return 페이징 처리 방식
+     * @see PagingDialect
+     */
+    PagingDialect dialect() default PagingDialect.COUNT_QUERY;
 }
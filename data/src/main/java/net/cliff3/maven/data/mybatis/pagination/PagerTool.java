@@ -1,6 +1,5 @@
 package net.cliff3.maven.data.mybatis.pagination;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
@@ -8,19 +7,105 @@ import net.cliff3.maven.data.mybatis.AbstractPageable;
 
 /**
  * 페이징 처리
+ * <p>
+ * 필터에서 생성되는 시점에는 전체 데이터 건수가 정해지지 않으므로, 최초 조회 시점에 {@link PageRequest}의 값을 복사하여 모든 페이지
+ * 이동 정보를 한 번에 계산한다. 이후에는 복사한 값이 변경된 경우에만 다시 계산한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
  */
 @Slf4j
 public class PagerTool {
-    int totalPageLinkCnt = -1;
+    /**
+     * 페이징 처리 정보
+     */
+    private final PageRequest request;
+
+    /**
+     * 계산 여부
+     */
+    private boolean computed = false;
+
+    private int currentPage;
+
+    private int dataPerPage;
+
+    private int linkPerPage;
+
+    private int totalCount;
+
+    private int totalPageLinkCnt;
+
+    private int curPageScope;
+
+    private int startPage;
+
+    private int endPage;
+
+    private int prevPage;
+
+    private int nextPage;
+
+    /**
+     * 현재 페이지 번호 목록
+     */
+    private PageRange pageRange;
+
+    /**
+     * {@link #getPageQuery()} 결과
+     */
+    private String pageQuery;
+
+    /**
+     * 현재 thread의 {@link PageRequest}를 이용하여 생성
+     *
+     * @see Pagination#getRequest()
+     */
+    public PagerTool() {
+        this(Pagination.getRequest());
+    }
+
+    /**
+     * 주어진 {@link PageRequest}를 이용하여 생성. {@link ThreadLocal}을 사용할 수 없는 비동기 처리 등에서 사용한다.
+     *
+     * @param request 페이징 처리 정보
+     */
+    public PagerTool(PageRequest request) {
+        this.request = request;
+    }
 
-    int curPageScope = -1;
+    /**
+     * {@link PageRequest}의 현재 값으로 페이지 이동 정보를 계산한다. 이전에 계산한 값과 동일할 경우 아무 처리도 하지 않는다.
+     */
+    private void compute() {
+        if (computed
+            && currentPage == request.getCurrentPage()
+            && dataPerPage == request.getDataPerPage()
+            && linkPerPage == request.getLinkPerPage()
+            && totalCount == request.getTotalCount()) {
+            return;
+        }
+
+        currentPage = request.getCurrentPage();
+        dataPerPage = request.getDataPerPage();
+        linkPerPage = request.getLinkPerPage();
+        totalCount = request.getTotalCount();
 
-    int startPage = -1;
+        totalPageLinkCnt = (totalCount - 1) / dataPerPage + 1;
+        curPageScope = (currentPage - 1) / linkPerPage + 1;
+        startPage = (curPageScope - 1) * linkPerPage + 1;
+        endPage = Math.min(curPageScope * linkPerPage, totalPageLinkCnt);
+        prevPage = currentPage > linkPerPage ? ((currentPage - 1) / linkPerPage) * linkPerPage : 1;
+        nextPage = totalPageLinkCnt > endPage
+                   ? (((currentPage - 1) / linkPerPage) + 1) * linkPerPage + 1
+                   : totalPageLinkCnt;
+        pageRange = new PageRange(startPage, endPage);
+        pageQuery = null;
+        computed = true;
 
-    int endPage = -1;
+        log.debug("pager computed : {}", request);
+    }
 
     /**
      * 현재 페이지 번호를 반환.
@@ -28,7 +113,9 @@ public class PagerTool {
      * @return 페이지 번호
      */
     public int getCurrentPage() {
-        return Pagination.currentPage.get();
+        compute();
+
+        return currentPage;
     }
 
     /**
@@ -37,7 +124,9 @@ public class PagerTool {
      * @return 데이터 개수
      */
     public int getDataPerPage() {
-        return Pagination.dataPerPage.get();
+        compute();
+
+        return dataPerPage;
     }
 
     /**
@@ -49,13 +138,9 @@ public class PagerTool {
      * @return 데이터 개수
      */
     public int getTotalCnt() {
-        int totalPage = 0;
-        try {
-            totalPage = Pagination.totalCount.get();
-        } catch (Exception ignore) {
-        }
+        compute();
 
-        return totalPage;
+        return totalCount;
     }
 
     /**
@@ -64,26 +149,20 @@ public class PagerTool {
      * @return 페이지 링크 개수
      */
     public int getPageLinkCnt() {
-        return Pagination.linkPerPage.get();
+        compute();
+
+        return linkPerPage;
     }
 
     public int getPrevPage() {
-        int prevPage = 1;
-        int currentPage = getCurrentPage();
-        int pageLinkCnt = getPageLinkCnt();
-        if (currentPage > pageLinkCnt) {
-            prevPage = ((currentPage - 1) / pageLinkCnt) * pageLinkCnt;
-        }
+        compute();
+
         return prevPage;
     }
 
     public int getNextPage() {
-        int nextPage = getTotalPageLinkCnt();
-        int currentPage = getCurrentPage();
-        int pageLinkCnt = getPageLinkCnt();
-        if (getTotalPageLinkCnt() > getEndPage()) {
-            nextPage = (((currentPage - 1) / pageLinkCnt) + 1) * pageLinkCnt + 1;
-        }
+        compute();
+
         return nextPage;
     }
 
@@ -93,16 +172,14 @@ public class PagerTool {
      * @return 페이지 링크 개수
      */
     public int getTotalPageLinkCnt() {
-        if (totalPageLinkCnt == -1) {
-            totalPageLinkCnt = (getTotalCnt() - 1) / getDataPerPage() + 1;
-        }
+        compute();
+
         return totalPageLinkCnt;
     }
 
     public int getCurrentPageScope() {
-        if (curPageScope == -1) {
-            curPageScope = (getCurrentPage() - 1) / getPageLinkCnt() + 1;
-        }
+        compute();
+
         return curPageScope;
     }
 
@@ -112,9 +189,8 @@ public class PagerTool {
      * @return 페이지 번호
      */
     public int getStartPage() {
-        if (startPage == -1) {
-            startPage = (getCurrentPageScope() - 1) * getPageLinkCnt() + 1;
-        }
+        compute();
+
         return startPage;
     }
 
@@ -124,34 +200,31 @@ public class PagerTool {
      * @return 페이지 번호
      */
     public int getEndPage() {
-        log.debug("PagerTool.getEndPage >>>>>>>>>>>>>");
-
-        if (endPage == -1) {
-            log.debug("getCurrentPageScope() : {}", getCurrentPageScope());
-            log.debug("getPageLinkCnt : {}", getPageLinkCnt());
+        compute();
 
-            endPage = getCurrentPageScope() * getPageLinkCnt();
+        return endPage;
+    }
 
-            log.debug("endPage : {}", endPage);
+    /**
+     * 현재 페이지의 페이지 번호 범위
+     *
+     * @return 번호 범위
+     * @see PageRange#intIterator()
+     */
+    public PageRange getPageRange() {
+        compute();
 
-            if (endPage > getTotalPageLinkCnt()) {
-                endPage = getTotalPageLinkCnt();
-            }
-        }
-        return endPage;
+        return pageRange;
     }
 
     /**
-     * 현재 페이지의 페이지 번호의 리스트
+     * 현재 페이지의 페이지 번호의 리스트. {@link #getPageRange()}와 동일한 인스턴스를 반환한다.
      *
      * @return 번호 목록
+     * @see #getPageRange()
      */
     public List<Integer> getPageList() {
-        List<Integer> list = new ArrayList<Integer>();
-        for (int idx = getStartPage(); idx <= getEndPage(); idx++) {
-            list.add(idx);
-        }
-        return list;
+        return getPageRange();
     }
 
     /**
@@ -160,7 +233,7 @@ public class PagerTool {
      * @return Query string
      */
     public String getQueryString() {
-        return Pagination.queryString.get();
+        return request.getQueryString();
     }
 
     /**
@@ -174,10 +247,20 @@ public class PagerTool {
      * @return Query string
      */
     public String getPageQuery() {
-        StringBuffer sb = new StringBuffer();
-        sb.append(AbstractPageable.NG_CURRENT_PAGE_KEY).append("=").append(getCurrentPage());
-        sb.append("&amp;").append(AbstractPageable.NG_DATA_PER_PAGE_KEY).append("=").append(getDataPerPage());
-        return sb.toString();
+        compute();
+
+        if (pageQuery == null) {
+            pageQuery = new StringBuilder(48).append(AbstractPageable.NG_CURRENT_PAGE_KEY)
+                                             .append('=')
+                                             .append(currentPage)
+                                             .append("&amp;")
+                                             .append(AbstractPageable.NG_DATA_PER_PAGE_KEY)
+                                             .append('=')
+                                             .append(dataPerPage)
+                                             .toString();
+        }
+
+        return pageQuery;
     }
 
     /**
@@ -185,7 +268,8 @@ public class PagerTool {
      *
      * @return 이전 페이지
      */
+    @Deprecated
     public String getReferer() {
-        return Pagination.referer.get();
+        return request.getReferer();
     }
 }
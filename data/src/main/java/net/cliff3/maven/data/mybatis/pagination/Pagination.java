@@ -1,9 +1,17 @@
 package net.cliff3.maven.data.mybatis.pagination;
 
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+
 /**
- * 페이징 처리 정보를 제공하는 {@link ThreadLocal} 인스턴스
+ * 현재 thread의 페이징 처리 정보({@link PageRequest})를 제공하는 {@link ThreadLocal} 인스턴스
  *
  * @author JoonHo Son
+ * @see PageRequest
  * @since 0.3.0
  */
 public class Pagination {
@@ -17,46 +25,245 @@ public class Pagination {
      */
     public static final String dataPerPageKey = "dataPerPage";
 
-//    public static final String PAGE_COUNT
-
     /**
      * 현재 페이지 번호
+     *
+     * @deprecated {@link PageRequest#getCurrentPage()} 사용. 값은 현재 thread의 {@link PageRequest}에 저장되며, 저장된
+     * {@link PageRequest}가 없을 경우 {@code null}을 반환한다. {@code null}을 지정하면 기본값으로 변경된다.
      */
-    public static ThreadLocal<Integer> currentPage = new ThreadLocal<>();
+    @Deprecated
+    public static ThreadLocal<Integer> currentPage = new RequestField<>(
+        PageRequest::getCurrentPage,
+        (request, value) -> request.setCurrentPage(value == null ? 1 : value));
 
     /**
      * 페이지당 출력 게시물 개수
+     *
+     * @deprecated {@link PageRequest#getDataPerPage()} 사용. {@link #currentPage} 참고
      */
-    public static ThreadLocal<Integer> dataPerPage = new ThreadLocal<>();
+    @Deprecated
+    public static ThreadLocal<Integer> dataPerPage = new RequestField<>(
+        PageRequest::getDataPerPage,
+        (request, value) -> request.setDataPerPage(value == null ? AbstractPageable.NG_DEFAULT_DATA_PER_PAGE : value));
 
     /**
      * 페이지 출력 개수
+     *
+     * @deprecated {@link PageRequest#getLinkPerPage()} 사용. {@link #currentPage} 참고
      */
-    public static ThreadLocal<Integer> linkPerPage = new ThreadLocal<>();
+    @Deprecated
+    public static ThreadLocal<Integer> linkPerPage = new RequestField<>(
+        PageRequest::getLinkPerPage,
+        (request, value) -> request.setLinkPerPage(value == null ? AbstractPageable.NG_DEFAULT_PAGE_LINK_COUNT : value));
 
     /**
      * 전체 게시물 개수
+     *
+     * @deprecated {@link PageRequest#getTotalCount()} 사용. {@link #currentPage} 참고
      */
-    public static ThreadLocal<Integer> totalCount = new ThreadLocal<>();
+    @Deprecated
+    public static ThreadLocal<Integer> totalCount = new RequestField<>(
+        PageRequest::getTotalCount,
+        (request, value) -> request.setTotalCount(value == null ? 0 : value));
 
     /**
      * Query string
+     *
+     * @deprecated {@link PageRequest#getQueryString()} 사용. {@link #currentPage} 참고
      */
-    public static ThreadLocal<String> queryString = new ThreadLocal<>();
+    @Deprecated
+    public static ThreadLocal<String> queryString = new RequestField<>(PageRequest::getQueryString,
+                                                                        PageRequest::setQueryString);
 
     /**
      * 이전 페이지
-     * @deprecated  삭제 예정
+     *
+     * @deprecated 삭제 예정
      */
     @Deprecated
-    public static ThreadLocal<String> referer = new ThreadLocal<>();
+    public static ThreadLocal<String> referer = new RequestField<>(PageRequest::getReferer, PageRequest::setReferer);
+
+    /**
+     * 현재 thread의 페이징 처리 정보
+     */
+    private static final ThreadLocal<PageRequest> context = new ThreadLocal<>();
+
+    private Pagination() {
+    }
+
+    /**
+     * 현재 thread의 페이징 처리 정보를 반환한다. 저장된 정보가 없을 경우 기본값으로 생성하여 현재 thread에 저장하므로, 같은
+     * thread의 before/after advice와 {@link PagerTool}은 같은 정보를 사용한다. {@link DefaultPagingFilter}를 거치지 않는
+     * 요청이나 web 요청이 아닌 곳에서 사용할 경우, pool에 반환되는 thread에 이전 정보가 남지 않도록 처리가 끝나면
+     * {@link #clear()}를 호출해야 한다.
+     *
+     * @return 페이징 처리 정보
+     */
+    public static PageRequest getRequest() {
+        PageRequest request = context.get();
+
+        if (request == null) {
+            request = new PageRequest();
 
+            context.set(request);
+        }
+
+        return request;
+    }
+
+    /**
+     * 현재 thread의 페이징 처리 정보를 반환한다. 저장된 정보가 없을 경우 {@code null}을 반환한다.
+     *
+     * @return 페이징 처리 정보
+     */
+    public static PageRequest peekRequest() {
+        return context.get();
+    }
+
+    /**
+     * 현재 thread에 페이징 처리 정보를 저장한다. {@code null}일 경우 {@link #clear()}와 동일하다.
+     *
+     * @param request 페이징 처리 정보
+     */
+    public static void setRequest(PageRequest request) {
+        if (request == null) {
+            context.remove();
+        } else {
+            context.set(request);
+        }
+    }
+
+    /**
+     * 현재 thread의 페이징 처리 정보를 제거한다. 이전 버전의 {@link ThreadLocal} 값은 이 정보에 저장되므로 함께 제거된다.
+     */
+    public static void clear() {
+        context.remove();
+    }
+
+    /**
+     * {@link #clear()} 참고
+     *
+     * @see #clear()
+     */
     public static void resetAll() {
-        Pagination.currentPage.set(null);
-        Pagination.dataPerPage.set(null);
-        Pagination.linkPerPage.set(null);
-        Pagination.totalCount.set(null);
-        Pagination.queryString.set(null);
-        Pagination.referer.set(null);
+        clear();
+    }
+
+    /**
+     * 현재 thread의 페이징 처리 정보를 실행 thread로 전달하는 {@link Runnable}을 반환한다. 실행이 끝나면 실행 thread의 이전
+     * 정보로 복원한다.
+     * <p>
+     * 전달되는 {@link PageRequest}는 복사본이 아닌 동일한 인스턴스이므로 비동기로 조회된 전체 건수를 호출한 thread의
+     * {@link PagerTool}에서 그대로 사용할 수 있다.
+     * </p>
+     *
+     * @param task 대상 작업
+     *
+     * @return 페이징 처리 정보를 전달하는 작업
+     * @see PaginationTaskDecorator
+     * @see PaginationContextExecutor
+     */
+    public static Runnable wrap(Runnable task) {
+        final PageRequest snapshot = context.get();
+
+        return () -> {
+            PageRequest previous = context.get();
+
+            setRequest(snapshot);
+
+            try {
+                task.run();
+            } finally {
+                setRequest(previous);
+            }
+        };
+    }
+
+    /**
+     * {@link #wrap(Runnable)} 참고
+     *
+     * @param task 대상 작업
+     * @param <V>  작업 결과 유형
+     *
+     * @return 페이징 처리 정보를 전달하는 작업
+     * @see #wrap(Runnable)
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        final PageRequest snapshot = context.get();
+
+        return () -> {
+            PageRequest previous = context.get();
+
+            setRequest(snapshot);
+
+            try {
+                return task.call();
+            } finally {
+                setRequest(previous);
+            }
+        };
+    }
+
+    /**
+     * {@link #wrap(Runnable)} 참고. {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier)} 등에서
+     * 사용한다.
+     *
+     * @param task 대상 작업
+     * @param <V>  작업 결과 유형
+     *
+     * @return 페이징 처리 정보를 전달하는 작업
+     * @see #wrap(Runnable)
+     */
+    public static <V> Supplier<V> wrapSupplier(Supplier<V> task) {
+        final PageRequest snapshot = context.get();
+
+        return () -> {
+            PageRequest previous = context.get();
+
+            setRequest(snapshot);
+
+            try {
+                return task.get();
+            } finally {
+                setRequest(previous);
+            }
+        };
+    }
+
+    /**
+     * 이전 버전의 {@link ThreadLocal} 필드. 값을 현재 thread의 {@link PageRequest}에서 조회하고 저장한다.
+     *
+     * @param <T> 값 유형
+     */
+    private static final class RequestField<T> extends ThreadLocal<T> {
+        private final Function<PageRequest, T> getter;
+
+        private final BiConsumer<PageRequest, T> setter;
+
+        private RequestField(Function<PageRequest, T> getter, BiConsumer<PageRequest, T> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public T get() {
+            PageRequest request = context.get();
+
+            return request == null ? null : getter.apply(request);
+        }
+
+        @Override
+        public void set(T value) {
+            PageRequest request = value == null ? context.get() : getRequest();
+
+            if (request != null) {
+                setter.accept(request, value);
+            }
+        }
+
+        @Override
+        public void remove() {
+            set(null);
+        }
     }
 }
@@ -0,0 +1,43 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 작업을 등록한 thread의 {@link PageRequest}를 실행 thread로 전달하는 {@link Executor}. {@link
+ * java.util.concurrent.CompletableFuture}의 비동기 메서드나 virtual thread 기반 {@link Executor} 등을 감싸서 사용한다.
+ * <pre>
+ * {@code
+ * Executor executor = new PaginationContextExecutor(ForkJoinPool.commonPool());
+ *
+ * CompletableFuture.supplyAsync(() -> boardDAO.selectBoardList(parameter), executor);
+ * }
+ * </pre>
+ *
+ * @author JoonHo Son
+ * @see Pagination#wrap(Runnable)
+ * @since 0.3.0
+ */
+public class PaginationContextExecutor implements Executor {
+    /**
+     * 실제 작업을 실행하는 {@link Executor}
+     */
+    private final Executor delegate;
+
+    /**
+     * Constructor
+     *
+     * @param delegate 실제 작업을 실행하는 {@link Executor}
+     */
+    public PaginationContextExecutor(Executor delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate executor가 없음");
+        }
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(Pagination.wrap(command));
+    }
+}
@@ -0,0 +1,27 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@code @Async} 등 Spring {@link org.springframework.core.task.TaskExecutor}로 실행되는 작업에 현재 thread의
+ * {@link PageRequest}를 전달하는 {@link TaskDecorator}
+ * <pre>
+ * {@code
+ * <bean id="asyncExecutor" class="org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor">
+ *     <property name="taskDecorator">
+ *         <bean class="net.cliff3.maven.data.mybatis.pagination.PaginationTaskDecorator" />
+ *     </property>
+ * </bean>
+ * }
+ * </pre>
+ *
+ * @author JoonHo Son
+ * @see Pagination#wrap(Runnable)
+ * @since 0.3.0
+ */
+public class PaginationTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return Pagination.wrap(runnable);
+    }
+}
@@ -0,0 +1,55 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+/**
+ * 페이징 처리 방식. {@link #isWindowCount()}가 {@code true}인 방식은 {@code COUNT(*) OVER ()}를 이용하여 목록 조회 결과와
+ * 함께 전체 건수를 반환하므로 count mapper를 실행하지 않는다.
+ * <p>
+ * 각 방식에 해당하는 SQL 조각은 {@code mappers/cliff3Common.xml}에 정의되어 있으며, window 방식은 내부 query에
+ * {@code ROW_NUMBER() OVER (ORDER BY ...) AS rnum} 컬럼이 있어야 한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see Pageable#dialect()
+ * @see TotalCountable
+ * @since 0.3.0
+ */
+public enum PagingDialect {
+    /**
+     * 별도의 count mapper 실행(기존 방식). {@code pagingHeaderSQL}, {@code pagingHeaderMySQL},
+     * {@code pagingHeaderOracle}
+     */
+    COUNT_QUERY(false),
+
+    /**
+     * SQL Server 2012 이상. {@code pagingHeaderSQLServer2012}
+     */
+    SQL_SERVER_2012(true),
+
+    /**
+     * Oracle 12c 이상. {@code pagingHeaderOracle12c}
+     */
+    ORACLE_12C(true),
+
+    /**
+     * PostgreSQL. {@code pagingHeaderPostgreSQL}
+     */
+    POSTGRESQL(true);
+
+    /**
+     * 목록 조회 결과에 전체 건수 포함 여부
+     */
+    private final boolean windowCount;
+
+    PagingDialect(boolean windowCount) {
+        this.windowCount = windowCount;
+    }
+
+    /**
+     * 목록 조회 결과에 전체 건수({@link TotalCountable#TOTAL_COUNT_COLUMN})가 포함되는지 여부
+     *
+     * @return 포함 여부
+     */
+    public boolean isWindowCount() {
+        return windowCount;
+    }
+}
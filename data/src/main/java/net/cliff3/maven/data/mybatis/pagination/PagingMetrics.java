@@ -0,0 +1,74 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+/**
+ * 페이징 처리 측정 정보 수집. Micrometer 등의 측정 도구와 연동할 때 필요한 메서드만 구현하여
+ * {@link net.cliff3.maven.data.aop.DefaultPageableBeforeAdvice}, {@link net.cliff3.maven.data.aop.DefaultPageableAfterAdvice}에
+ * 지정한다. 지정하지 않을 경우 {@link #NOOP}이 사용된다.
+ * <pre>
+ * {@code
+ * public class MicrometerPagingMetrics implements PagingMetrics {
+ *     public void recordPageQuery(String mapperID, long elapsedNanos) {
+ *         Timer.builder("paging.page.query").tag("mapper", mapperID).register(registry)
+ *              .record(elapsedNanos, TimeUnit.NANOSECONDS);
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+public interface PagingMetrics {
+    /**
+     * 아무 처리도 하지 않는 기본 구현
+     */
+    PagingMetrics NOOP = new PagingMetrics() {
+    };
+
+    /**
+     * 페이징 요청 정보 기록
+     *
+     * @param mapperID    목록 조회 메서드(클래스명.메서드명)
+     * @param currentPage 요청 페이지 번호
+     * @param dataPerPage 페이지당 출력 게시물 개수
+     */
+    default void recordPageRequest(String mapperID, int currentPage, int dataPerPage) {
+    }
+
+    /**
+     * Count mapper 실행 시간 기록
+     *
+     * @param mapperID     목록 조회 메서드(클래스명.메서드명)
+     * @param elapsedNanos 실행 시간(nano seconds)
+     */
+    default void recordCountQuery(String mapperID, long elapsedNanos) {
+    }
+
+    /**
+     * 목록 조회 실행 시간 기록
+     *
+     * @param mapperID     목록 조회 메서드(클래스명.메서드명)
+     * @param elapsedNanos 실행 시간(nano seconds)
+     */
+    default void recordPageQuery(String mapperID, long elapsedNanos) {
+    }
+
+    /**
+     * 전체 데이터 건수 기록
+     *
+     * @param mapperID   목록 조회 메서드(클래스명.메서드명)
+     * @param totalCount 전체 데이터 건수
+     */
+    default void recordTotalCount(String mapperID, int totalCount) {
+    }
+
+    /**
+     * 요청 값 제한 처리 기록
+     *
+     * @param restriction 제한 유형
+     *
+     * @see DefaultPagingFilter
+     */
+    default void recordRestriction(DefaultPagingFilter.Restriction restriction) {
+    }
+}
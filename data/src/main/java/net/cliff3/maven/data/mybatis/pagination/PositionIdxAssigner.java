@@ -0,0 +1,111 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.util.Map;
+
+/**
+ * 목록 데이터에 출력 번호(positionIdx)를 순서대로 할당한다. {@link Countable}을 구현한 객체는
+ * {@link Countable#setPositionIdx(int)}를, {@link Map}은 {@code positionIdx} key를 이용한다.
+ * <p>
+ * 시작 번호는 최초 할당 시점의 {@link PageRequest#getTotalCount()}를 기준으로 계산하므로, count mapper가 실행되기 전에
+ * 생성하여도 무방하다. 전체 건수가 지정되지 않은 상태에서 첫 번째 데이터가 전체 건수({@link TotalCountable})를 포함하고 있을
+ * 경우(window 방식) 해당 값을 {@link PageRequest}에 저장한 후 사용한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see Countable
+ * @see PositionIdxResultHandler
+ * @see PositionIdxCursor
+ * @since 0.3.0
+ */
+public class PositionIdxAssigner {
+    /**
+     * {@link Map} 형태의 데이터에 사용되는 출력 번호 key
+     */
+    public static final String POSITION_IDX_KEY = "positionIdx";
+
+    /**
+     * 페이징 처리 정보
+     */
+    private final PageRequest request;
+
+    /**
+     * 다음에 할당할 출력 번호
+     */
+    private int current;
+
+    /**
+     * 시작 번호 계산 여부
+     */
+    private boolean initialized = false;
+
+    /**
+     * Constructor
+     *
+     * @param request 페이징 처리 정보
+     */
+    public PositionIdxAssigner(PageRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("페이징 처리 정보가 없음");
+        }
+
+        this.request = request;
+    }
+
+    /**
+     * 대상 데이터에 출력 번호를 할당한다. {@link Countable} 혹은 {@link Map}이 아닌 경우에도 번호는 감소한다.
+     *
+     * @param target 대상 데이터
+     */
+    @SuppressWarnings("unchecked")
+    public void assign(Object target) {
+        if (!initialized) {
+            if (request.getTotalCount() <= 0) {
+                int totalCount = extractTotalCount(target);
+
+                if (totalCount > 0) {
+                    request.setTotalCount(totalCount);
+                }
+            }
+
+            current = request.getTotalCount() - request.getFromData() + 1;
+            initialized = true;
+        }
+
+        if (target instanceof Countable) {
+            ((Countable)target).setPositionIdx(current);
+        } else if (target instanceof Map) {
+            ((Map<String, Object>)target).put(POSITION_IDX_KEY, current);
+        }
+
+        current--;
+    }
+
+    /**
+     * window 방식으로 조회된 데이터에서 전체 건수를 추출한다.
+     *
+     * @param target 대상 데이터
+     *
+     * @return 전체 건수. 포함되어 있지 않을 경우 -1
+     */
+    private static int extractTotalCount(Object target) {
+        if (target instanceof TotalCountable) {
+            return ((TotalCountable)target).getTotalCount();
+        }
+
+        if (target instanceof Map) {
+            Map<?, ?> row = (Map<?, ?>)target;
+            Object value = row.get(TotalCountable.TOTAL_COUNT_COLUMN);
+
+            if (value == null) {
+                // Oracle 등 대문자로 컬럼명을 반환하는 경우
+                value = row.get(TotalCountable.TOTAL_COUNT_COLUMN.toUpperCase());
+            }
+
+            if (value instanceof Number) {
+                return ((Number)value).intValue();
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,104 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * {@link Cursor}를 순회하면서 각 데이터에 출력 번호를 할당한다. 반환값을 교체할 수 없는 after advice 대신 목록 조회 메서드를 호출한
+ * 쪽에서 감싸서 사용한다.
+ * <pre>
+ * {@code
+ * try (Cursor<Board> cursor = new PositionIdxCursor<>(boardDAO.selectBoardCursor(parameter))) {
+ *     for (Board board : cursor) {
+ *         writer.write(board);
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> 조회 결과 유형
+ *
+ * @author JoonHo Son
+ * @see PositionIdxAssigner
+ * @since 0.3.0
+ */
+public class PositionIdxCursor<T> implements Cursor<T> {
+    /**
+     * 원본 {@link Cursor}
+     */
+    private final Cursor<T> delegate;
+
+    /**
+     * 출력 번호 할당
+     */
+    private final PositionIdxAssigner assigner;
+
+    /**
+     * 현재 thread의 {@link PageRequest}를 이용하여 생성
+     *
+     * @param delegate 원본 {@link Cursor}
+     *
+     * @see Pagination#getRequest()
+     */
+    public PositionIdxCursor(Cursor<T> delegate) {
+        this(delegate, Pagination.getRequest());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate 원본 {@link Cursor}
+     * @param request  페이징 처리 정보
+     */
+    public PositionIdxCursor(Cursor<T> delegate, PageRequest request) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cursor가 없음");
+        }
+
+        this.delegate = delegate;
+        this.assigner = new PositionIdxAssigner(request);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return delegate.isConsumed();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return delegate.getCurrentIndex();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<T> iterator = delegate.iterator();
+
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T next = iterator.next();
+
+                assigner.assign(next);
+
+                return next;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
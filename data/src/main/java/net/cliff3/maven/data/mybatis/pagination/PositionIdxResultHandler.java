@@ -0,0 +1,66 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * 조회 결과가 한 건씩 mapping 될 때마다 출력 번호를 할당한 후 전달된 {@link ResultHandler}를 호출한다. 전체 목록을
+ * {@link java.util.List}로 만들지 않으므로 대량의 데이터를 바로 응답으로 출력하는 경우에 사용한다.
+ * <pre>
+ * {@code
+ * @Pageable
+ * void selectBoardList(Map<String, Object> parameter, ResultHandler<Board> handler);
+ *
+ * boardDAO.selectBoardList(parameter, new PositionIdxResultHandler<>(context -> writer.write(context.getResultObject())));
+ * }
+ * </pre>
+ *
+ * @param <T> 조회 결과 유형
+ *
+ * @author JoonHo Son
+ * @see PositionIdxAssigner
+ * @since 0.3.0
+ */
+public class PositionIdxResultHandler<T> implements ResultHandler<T> {
+    /**
+     * 실제 결과를 처리하는 {@link ResultHandler}
+     */
+    private final ResultHandler<T> delegate;
+
+    /**
+     * 출력 번호 할당
+     */
+    private final PositionIdxAssigner assigner;
+
+    /**
+     * 현재 thread의 {@link PageRequest}를 이용하여 생성
+     *
+     * @param delegate 실제 결과를 처리하는 {@link ResultHandler}
+     *
+     * @see Pagination#getRequest()
+     */
+    public PositionIdxResultHandler(ResultHandler<T> delegate) {
+        this(delegate, Pagination.getRequest());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate 실제 결과를 처리하는 {@link ResultHandler}
+     * @param request  페이징 처리 정보
+     */
+    public PositionIdxResultHandler(ResultHandler<T> delegate, PageRequest request) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate result handler가 없음");
+        }
+
+        this.delegate = delegate;
+        this.assigner = new PositionIdxAssigner(request);
+    }
+
+    @Override
+    public void handleResult(ResultContext<? extends T> resultContext) {
+        assigner.assign(resultContext.getResultObject());
+        delegate.handleResult(resultContext);
+    }
+}
@@ -0,0 +1,114 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 파라미터로부터 query string을 생성한다. {@link java.net.URLEncoder}와 동일한 규칙으로 인코딩하지만, 값마다 새로운 문자열을
+ * 만들지 않고 하나의 {@link StringBuilder}에 바로 기록한다.
+ *
+ * @author JoonHo Son
+ * @see DefaultPagingFilter
+ * @since 0.3.0
+ */
+final class QueryStringEncoder {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private QueryStringEncoder() {
+    }
+
+    /**
+     * 파라미터 목록을 query string으로 변환한다. 제외 대상 key와 빈 값은 포함하지 않는다.
+     *
+     * @param parameterMap 요청 파라미터
+     * @param excludeKeys  제외 대상 key
+     * @param charset      인코딩
+     *
+     * @return query string
+     */
+    static String encode(Map<String, String[]> parameterMap, Set<String> excludeKeys, Charset charset) {
+        if (parameterMap == null || parameterMap.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(parameterMap.size() * 32);
+
+        for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+            String key = entry.getKey();
+            String[] values = entry.getValue();
+
+            if (values == null || values.length == 0 || excludeKeys.contains(key)) {
+                continue;
+            }
+
+            for (String value : values) {
+                if (value == null || isBlank(value)) {
+                    continue;
+                }
+
+                if (builder.length() > 0) {
+                    builder.append('&');
+                }
+
+                append(builder, key, charset);
+                builder.append('=');
+                append(builder, value, charset);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 대상 문자열을 인코딩하여 추가한다. 인코딩이 필요하지 않은 문자는 그대로 추가하며, 연속된 인코딩 대상 문자는 한 번에 byte로
+     * 변환한다.
+     *
+     * @param builder 대상 {@link StringBuilder}
+     * @param value   인코딩할 문자열
+     * @param charset 인코딩
+     */
+    static void append(StringBuilder builder, String value, Charset charset) {
+        int length = value.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = value.charAt(i);
+
+            if (isUnreserved(c)) {
+                builder.append(c);
+                i++;
+            } else if (c == ' ') {
+                builder.append('+');
+                i++;
+            } else {
+                int start = i;
+
+                do {
+                    i++;
+                } while (i < length && !isUnreserved(value.charAt(i)) && value.charAt(i) != ' ');
+
+                for (byte b : value.substring(start, i).getBytes(charset)) {
+                    builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+                }
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z')
+               || (c >= 'A' && c <= 'Z')
+               || (c >= '0' && c <= '9')
+               || c == '-' || c == '_' || c == '.' || c == '*';
+    }
+
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+/**
+ * window 방식({@link PagingDialect#isWindowCount()})의 페이징 처리에서 각 행에 포함된 전체 데이터 건수를 전달받기 위한
+ * interface. {@link java.util.Map} 형태의 결과일 경우에는 {@link #TOTAL_COUNT_COLUMN} key를 이용한다.
+ *
+ * @author JoonHo Son
+ * @see PagingDialect
+ * @since 0.3.0
+ */
+public interface TotalCountable {
+    /**
+     * 전체 데이터 건수 컬럼명
+     */
+    String TOTAL_COUNT_COLUMN = "total_count";
+
+    /**
+     * 전체 데이터 건수 반환
+     *
+     * @return 전체 데이터 건수
+     */
+    int getTotalCount();
+
+    /**
+     * 전체 데이터 건수 할당
+     *
+     * @param totalCount 전체 데이터 건수
+     */
+    void setTotalCount(int totalCount);
+}
@@ -0,0 +1,276 @@
+package net.cliff3.maven.data.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.security.model.AbstractUser;
+import org.apache.commons.lang3.ArrayUtils;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 저장 메서드에 대한 {@link DefaultDataChangeBeforeAdvice} 처리 시간 측정. {@link DataChangePlan}을 사용하기 전의 처리
+ * 방식(호출마다 인자 annotation 확인, {@link DataTarget} 인자마다 현재 사용자 조회)과 비교한다.
+ * <p>
+ * 실행 환경에 따라 결과가 달라지므로 기본 test에서는 제외되며 {@code mvn test -P benchmark}로 실행한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@Tag("benchmark")
+public class DataChangeAdviceBenchmarkTest {
+    /**
+     * 한 번의 측정에서 실행하는 횟수
+     */
+    private static final int ITERATIONS = 20000;
+
+    /**
+     * 준비 과정으로 제외하는 측정 횟수
+     */
+    private static final int WARM_UP = 5;
+
+    /**
+     * 측정 횟수
+     */
+    private static final int SAMPLES = 21;
+
+    private static Level level;
+
+    @BeforeAll
+    public static void setUp() {
+        // 운영 환경과 같이 debug 로그를 출력하지 않는 상태에서 측정
+        Logger logger = (Logger)LoggerFactory.getLogger("net.cliff3.maven.data");
+
+        level = logger.getLevel();
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        ((Logger)LoggerFactory.getLogger("net.cliff3.maven.data")).setLevel(level);
+    }
+
+    @Test
+    @DisplayName("저장 메서드 처리 시간")
+    public void testSave() throws Exception {
+        Method method = BoardController.class.getMethod("save",
+                                                        String.class,
+                                                        Article.class,
+                                                        Object.class,
+                                                        Article.class);
+        BoardController controller = new BoardController();
+        Article article = new Article();
+        Article reply = new Article();
+        JoinPoint point = joinPoint(controller, method, "제목", article, "ignored", reply);
+        DefaultDataChangeBeforeAdvice advice = new DefaultDataChangeBeforeAdvice();
+        LegacyAdvice legacy = new LegacyAdvice();
+
+        advice.processBefore(point);
+
+        assertEquals(1, controller.lookupCount, "현재 사용자는 한 번만 조회하여야 함");
+        assertEquals(2, article.appliedCount, "관리자, 사용자 정보 모두 저장하여야 함");
+        assertEquals(1, reply.appliedCount, "사용자 정보만 저장하여야 함");
+
+        controller.lookupCount = 0;
+
+        legacy.processBefore(point);
+
+        assertEquals(2, controller.lookupCount);
+
+        long[] current = new long[SAMPLES];
+        long[] previous = new long[SAMPLES];
+
+        // 실행 환경의 변화가 한쪽에 몰리지 않도록 번갈아 측정
+        for (int i = 0; i < WARM_UP + SAMPLES; i++) {
+            long currentElapsed = measure(advice::processBefore, point);
+            long previousElapsed = measure(legacy::processBefore, point);
+
+            if (i >= WARM_UP) {
+                current[i - WARM_UP] = currentElapsed;
+                previous[i - WARM_UP] = previousElapsed;
+            }
+        }
+
+        Arrays.sort(current);
+        Arrays.sort(previous);
+
+        log.info("DataChangePlan - p50 : {}ns, p90 : {}ns / 이전 방식 - p50 : {}ns, p90 : {}ns",
+                 percentile(current, 50) / ITERATIONS,
+                 percentile(current, 90) / ITERATIONS,
+                 percentile(previous, 50) / ITERATIONS,
+                 percentile(previous, 90) / ITERATIONS);
+
+        assertTrue(percentile(current, 50) < percentile(previous, 50),
+                   "이전 방식보다 처리 시간 중앙값이 작아야 함 : " + percentile(current, 50) + " / "
+                   + percentile(previous, 50));
+    }
+
+    private static long measure(Consumer<JoinPoint> advice, JoinPoint point) {
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            advice.accept(point);
+        }
+
+        return System.nanoTime() - startedAt;
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        return sorted[(int)Math.ceil(p / 100.0 * sorted.length) - 1];
+    }
+
+    /**
+     * 측정 대상 외의 비용이 적도록 {@link Proxy}로 {@link JoinPoint}를 생성한다.
+     */
+    private static JoinPoint joinPoint(Object target, Method method, Object... args) {
+        MethodSignature signature = (MethodSignature)Proxy.newProxyInstance(
+            DataChangeAdviceBenchmarkTest.class.getClassLoader(),
+            new Class<?>[] {MethodSignature.class},
+            (proxy, invoked, invokeArgs) -> {
+                if ("getMethod".equals(invoked.getName())) {
+                    return method;
+                }
+
+                throw new UnsupportedOperationException(invoked.getName());
+            });
+
+        return (JoinPoint)Proxy.newProxyInstance(
+            DataChangeAdviceBenchmarkTest.class.getClassLoader(),
+            new Class<?>[] {JoinPoint.class},
+            (proxy, invoked, invokeArgs) -> {
+                switch (invoked.getName()) {
+                    case "getSignature":
+                        return signature;
+                    case "getArgs":
+                        return args;
+                    case "getTarget":
+                        return target;
+                    default:
+                        throw new UnsupportedOperationException(invoked.getName());
+                }
+            });
+    }
+
+    /**
+     * {@link DataChangePlan}을 사용하기 전의 처리 방식
+     */
+    private static class LegacyAdvice {
+        public void processBefore(JoinPoint point) {
+            Method method = ((MethodSignature)point.getSignature()).getMethod();
+            Class<?> clazz = method.getDeclaringClass();
+            Object[] args = point.getArgs();
+            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+
+            if (DefaultControllerForUser.class.isAssignableFrom(clazz) && args != null) {
+                for (Object parameter : args) {
+                    int index = ArrayUtils.indexOf(args, parameter);
+                    DataTarget an = null;
+
+                    if (parameterAnnotations.length > index && parameterAnnotations[index].length > 0) {
+                        for (Annotation aa : parameterAnnotations[index]) {
+                            if (aa.annotationType().equals(DataTarget.class)) {
+                                an = (DataTarget)aa;
+
+                                break;
+                            }
+                        }
+                    }
+
+                    if (an != null) {
+                        apply(parameter, (DefaultControllerForUser)point.getTarget(), an);
+                    }
+                }
+            }
+        }
+
+        private void apply(Object parameter, DefaultControllerForUser controller, DataTarget target) {
+            AbstractUser user = controller.getCurrentUser(false);
+
+            for (Class<? extends DataTargetBase> toInterface : target.targets()) {
+                if (toInterface == DataTargetAdmin.class
+                    && DataChangeInfoForAdmin.class.isAssignableFrom(parameter.getClass())) {
+                    ((DataChangeInfoForAdmin<?>)parameter).setCreatedByAdmin(user);
+                    ((DataChangeInfoForAdmin<?>)parameter).setUpdatedByAdmin(user);
+                } else if (toInterface == DataTargetUser.class
+                           && DataChangeInfoForUser.class.isAssignableFrom(parameter.getClass())) {
+                    ((DataChangeInfoForUser<?>)parameter).setCreatedByUser(user);
+                    ((DataChangeInfoForUser<?>)parameter).setUpdatedByUser(user);
+                }
+            }
+        }
+    }
+
+    public static class BoardController implements DefaultControllerForUser {
+        private int lookupCount;
+
+        public void save(String title,
+                         @DataTarget(targets = {DataTargetAdmin.class, DataTargetUser.class}) Article article,
+                         Object option,
+                         @DataTarget(targets = DataTargetUser.class) Article reply) {
+        }
+
+        @Override
+        public AbstractUser getCurrentUser(boolean forceReloadInCurrentSession) {
+            lookupCount++;
+
+            return null;
+        }
+
+        @Override
+        public AbstractUser getCurrentUser() {
+            return getCurrentUser(false);
+        }
+    }
+
+    @Getter
+    public static class Article implements DataChangeInfoForAdmin<AbstractUser>, DataChangeInfoForUser<AbstractUser> {
+        private AbstractUser createdByAdmin;
+
+        private AbstractUser updatedByAdmin;
+
+        private AbstractUser createdByUser;
+
+        private AbstractUser updatedByUser;
+
+        private int appliedCount;
+
+        @Override
+        public void setCreatedByAdmin(AbstractUser user) {
+            createdByAdmin = user;
+            appliedCount++;
+        }
+
+        @Override
+        public void setUpdatedByAdmin(AbstractUser user) {
+            updatedByAdmin = user;
+        }
+
+        @Override
+        public void setCreatedByUser(AbstractUser user) {
+            createdByUser = user;
+            appliedCount++;
+        }
+
+        @Override
+        public void setUpdatedByUser(AbstractUser user) {
+            updatedByUser = user;
+        }
+    }
+}
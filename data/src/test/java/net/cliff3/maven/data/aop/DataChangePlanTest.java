@@ -0,0 +1,76 @@
+package net.cliff3.maven.data.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import net.cliff3.maven.security.model.AbstractUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * DataChangePlanTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DataChangePlanTest {
+    @Test
+    @Order(1)
+    @DisplayName("DataTarget 인자 위치 및 대상")
+    public void testPlan() throws Exception {
+        Method method = BoardController.class.getMethod("save", String.class, Object.class, Object.class, Object.class);
+        DataChangePlan plan = DataChangePlan.of(method);
+
+        assertSame(plan, DataChangePlan.of(method), "동일 메서드는 cache된 정보를 반환해야 함");
+        assertEquals(2, plan.size(), "대상이 지정된 인자만 포함해야 함");
+        assertEquals(1, plan.indexAt(0));
+        assertTrue(plan.applyAdminAt(0));
+        assertFalse(plan.applyUserAt(0));
+        assertEquals(3, plan.indexAt(1));
+        assertTrue(plan.applyAdminAt(1));
+        assertTrue(plan.applyUserAt(1));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("처리 대상이 없는 메서드")
+    public void testEmpty() throws Exception {
+        assertSame(DataChangePlan.EMPTY,
+                   DataChangePlan.of(BoardController.class.getMethod("list", Object.class)),
+                   "DataTarget이 없을 경우 EMPTY");
+        assertSame(DataChangePlan.EMPTY,
+                   DataChangePlan.of(PlainController.class.getMethod("save", Object.class)),
+                   "DefaultControllerForUser를 구현하지 않은 경우 EMPTY");
+    }
+
+    public static class BoardController implements DefaultControllerForUser {
+        public void save(String title,
+                         @DataTarget(targets = DataTargetAdmin.class) Object admin,
+                         @DataTarget Object noTarget,
+                         @DataTarget(targets = {DataTargetAdmin.class, DataTargetUser.class}) Object both) {
+        }
+
+        public void list(Object parameter) {
+        }
+
+        @Override
+        public AbstractUser getCurrentUser(boolean forceReloadInCurrentSession) {
+            return null;
+        }
+
+        @Override
+        public AbstractUser getCurrentUser() {
+            return null;
+        }
+    }
+
+    public static class PlainController {
+        public void save(@DataTarget(targets = DataTargetUser.class) Object target) {
+        }
+    }
+}
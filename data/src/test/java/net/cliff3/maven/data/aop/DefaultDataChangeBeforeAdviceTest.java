@@ -0,0 +1,164 @@
+package net.cliff3.maven.data.aop;
+
+import static net.cliff3.maven.data.aop.DefaultPageableAdviceTest.joinPoint;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import net.cliff3.maven.security.model.AbstractUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * DefaultDataChangeBeforeAdviceTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DefaultDataChangeBeforeAdviceTest {
+    private final AbstractUser user = mock(AbstractUser.class);
+
+    private final BoardController controller = new BoardController(user);
+
+    private final DefaultDataChangeBeforeAdvice advice = new DefaultDataChangeBeforeAdvice();
+
+    @Test
+    @Order(1)
+    @DisplayName("목록 인자")
+    public void testList() throws Exception {
+        Article first = new Article();
+        Article second = new Article();
+
+        advice.processBefore(joinPoint(controller, "saveList", Arrays.asList(first, second)));
+
+        assertSame(user, first.getCreatedByUser(), "목록의 모든 요소에 저장되어야 함");
+        assertSame(user, second.getUpdatedByUser(), "목록의 모든 요소에 저장되어야 함");
+        assertEquals(1, controller.lookupCount, "현재 사용자는 한 번만 조회하여야 함");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("배열 인자")
+    public void testArray() throws Exception {
+        Article first = new Article();
+        Article second = new Article();
+
+        advice.processBefore(joinPoint(controller, "saveArray", (Object)new Article[] {first, second}));
+
+        assertSame(user, first.getCreatedByUser(), "배열의 모든 요소에 저장되어야 함");
+        assertSame(user, second.getCreatedByUser(), "배열의 모든 요소에 저장되어야 함");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("null 요소")
+    public void testNullElement() throws Exception {
+        Article article = new Article();
+
+        advice.processBefore(joinPoint(controller, "saveList", Arrays.asList(null, article)));
+        advice.processBefore(joinPoint(controller, "saveArray", (Object)new Article[] {article, null}));
+        advice.processBefore(joinPoint(controller, "saveList", (Object)null));
+
+        assertSame(user, article.getCreatedByUser(), "null 요소를 제외한 요소에 저장되어야 함");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("단일 객체 인자")
+    public void testSingle() throws Exception {
+        Article article = new Article();
+
+        advice.processBefore(joinPoint(controller, "save", article));
+
+        assertSame(user, article.getCreatedByUser());
+        assertSame(user, article.getUpdatedByUser());
+
+        // Iterable을 구현한 단일 객체는 요소가 아닌 객체 자체에 저장
+        IterableArticle iterable = new IterableArticle();
+
+        advice.processBefore(joinPoint(controller, "saveIterable", iterable));
+
+        assertSame(user, iterable.getCreatedByUser(), "Iterable을 구현한 객체 자체에 저장되어야 함");
+        assertNull(iterable.child.getCreatedByUser(), "Iterable의 요소에 저장되면 안됨");
+    }
+
+    public static class BoardController implements DefaultControllerForUser {
+        private final AbstractUser user;
+
+        private int lookupCount;
+
+        private BoardController(AbstractUser user) {
+            this.user = user;
+        }
+
+        public void save(@DataTarget(targets = DataTargetUser.class) Article article) {
+        }
+
+        public void saveList(@DataTarget(targets = DataTargetUser.class) List<Article> articles) {
+        }
+
+        public void saveArray(@DataTarget(targets = DataTargetUser.class) Article[] articles) {
+        }
+
+        public void saveIterable(@DataTarget(targets = DataTargetUser.class) IterableArticle article) {
+        }
+
+        @Override
+        public AbstractUser getCurrentUser(boolean forceReloadInCurrentSession) {
+            lookupCount++;
+
+            return user;
+        }
+
+        @Override
+        public AbstractUser getCurrentUser() {
+            return getCurrentUser(false);
+        }
+    }
+
+    public static class Article implements DataChangeInfoForUser<AbstractUser> {
+        private AbstractUser createdByUser;
+
+        private AbstractUser updatedByUser;
+
+        @Override
+        public AbstractUser getCreatedByUser() {
+            return createdByUser;
+        }
+
+        @Override
+        public void setCreatedByUser(AbstractUser user) {
+            this.createdByUser = user;
+        }
+
+        @Override
+        public AbstractUser getUpdatedByUser() {
+            return updatedByUser;
+        }
+
+        @Override
+        public void setUpdatedByUser(AbstractUser user) {
+            this.updatedByUser = user;
+        }
+    }
+
+    /**
+     * 첨부 파일 등 하위 객체를 순회할 수 있는 게시물
+     */
+    public static class IterableArticle extends Article implements Iterable<Article> {
+        private final Article child = new Article();
+
+        @Override
+        public Iterator<Article> iterator() {
+            return Collections.singletonList(child).iterator();
+        }
+    }
+}
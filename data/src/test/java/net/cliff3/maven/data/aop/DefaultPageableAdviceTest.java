@@ -0,0 +1,246 @@
+package net.cliff3.maven.data.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import net.cliff3.maven.data.mybatis.pagination.Pageable;
+import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.pagination.PositionIdxAssigner;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * DefaultPageableAdviceTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DefaultPageableAdviceTest {
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("필터 없이 before/after advice 처리")
+    @SuppressWarnings("deprecation")
+    public void testWithoutFilter() throws Exception {
+        BoardMapper mapper = new BoardMapper(23);
+        Map<String, Object> parameter = new HashMap<>();
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        // 이전 버전과 같이 ThreadLocal 필드로 지정
+        Pagination.currentPage.set(2);
+
+        new DefaultPageableBeforeAdvice().processBefore(point);
+
+        assertEquals(23, Pagination.totalCount.get(), "전체 건수가 저장되지 않음");
+        assertEquals(11, parameter.get("fromData"));
+        assertEquals(20, parameter.get("toData"));
+
+        List<Map<String, Object>> rows = mapper.selectList(parameter);
+
+        new DefaultPageableAfterAdvice().processAfter(point, rows);
+
+        assertEquals(13, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY), "출력 번호 오류");
+        assertEquals(4, rows.get(9).get(PositionIdxAssigner.POSITION_IDX_KEY), "출력 번호 오류");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("PageRequest 인자")
+    public void testPageRequestParameter() throws Exception {
+        BoardMapper mapper = new BoardMapper(23);
+        Map<String, Object> parameter = new HashMap<>();
+        PageRequest request = new PageRequest(3, 5, 10);
+        PageRequest current = Pagination.getRequest();
+        JoinPoint point = joinPoint(mapper, "selectListWithRequest", parameter, request);
+
+        new DefaultPageableBeforeAdvice().processBefore(point);
+
+        assertEquals(23, request.getTotalCount(), "인자로 전달된 PageRequest에 저장되어야 함");
+        assertEquals(0, current.getTotalCount(), "현재 thread의 정보는 변경되지 않아야 함");
+        assertEquals(11, parameter.get("fromData"));
+        assertEquals(15, parameter.get("toData"));
+        assertEquals(5, parameter.get(AbstractPageable.NG_DATA_PER_PAGE_KEY));
+        assertEquals(3, parameter.get(AbstractPageable.NG_CURRENT_PAGE_KEY));
+
+        List<Map<String, Object>> rows = mapper.selectListWithRequest(parameter, request);
+
+        new DefaultPageableAfterAdvice().processAfter(point, rows);
+
+        assertEquals(13, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+        assertEquals(9, rows.get(4).get(PositionIdxAssigner.POSITION_IDX_KEY));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("조회 조건 Map에 저장된 PageRequest")
+    public void testPageRequestInMap() throws Exception {
+        BoardMapper mapper = new BoardMapper(7);
+        Map<String, Object> parameter = new HashMap<>();
+        PageRequest request = new PageRequest(2, 5, 10);
+
+        parameter.put(AbstractPageable.NG_PAGE_REQUEST_KEY, request);
+
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        new DefaultPageableBeforeAdvice().processBefore(point);
+
+        assertEquals(7, request.getTotalCount());
+        assertNull(Pagination.peekRequest(), "현재 thread에 정보를 생성하면 안됨");
+
+        List<Map<String, Object>> rows = mapper.selectList(parameter);
+
+        new DefaultPageableAfterAdvice().processAfter(point, rows);
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+        assertEquals(1, rows.get(1).get(PositionIdxAssigner.POSITION_IDX_KEY));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("페이징 처리 제외")
+    public void testSkipPaging() throws Exception {
+        BoardMapper mapper = new BoardMapper(23);
+        Map<String, Object> parameter = new HashMap<>();
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        parameter.put(AbstractPageable.NG_SKIP_PAGING_KEY, true);
+
+        new DefaultPageableBeforeAdvice().processBefore(point);
+
+        assertEquals(0, mapper.countCalls, "count mapper가 실행되면 안됨");
+        assertFalse(parameter.containsKey("fromData"));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        rows.add(new HashMap<>());
+
+        new DefaultPageableAfterAdvice().processAfter(point, rows);
+
+        assertFalse(rows.get(0).containsKey(PositionIdxAssigner.POSITION_IDX_KEY), "출력 번호가 할당되면 안됨");
+
+        // @Pageable이 없는 메서드
+        parameter.clear();
+        point = joinPoint(mapper, "selectListPageCount", parameter);
+
+        new DefaultPageableBeforeAdvice().processBefore(point);
+
+        assertTrue(parameter.isEmpty(), "@Pageable이 없는 메서드는 처리하지 않아야 함");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Keyset 방식")
+    public void testKeyset() throws Exception {
+        BoardMapper mapper = new BoardMapper(23);
+        Map<String, Object> parameter = new HashMap<>();
+        PageRequest request = Pagination.getRequest();
+
+        request.setKeyset(true);
+        request.setLastKey("1001");
+
+        new DefaultPageableBeforeAdvice().processBefore(joinPoint(mapper, "selectList", parameter));
+
+        assertEquals(true, parameter.get(AbstractPageable.NG_KEYSET_KEY));
+        assertEquals("1001", parameter.get(AbstractPageable.NG_LAST_KEY_KEY), "마지막 키 값이 전달되어야 함");
+
+        parameter.clear();
+        request.setKeyset(false);
+
+        new DefaultPageableBeforeAdvice().processBefore(joinPoint(mapper, "selectList", parameter));
+
+        assertEquals(false, parameter.get(AbstractPageable.NG_KEYSET_KEY));
+        assertFalse(parameter.containsKey(AbstractPageable.NG_LAST_KEY_KEY));
+    }
+
+    /**
+     * Advice에 전달되는 {@link JoinPoint}
+     *
+     * @param target     목록 조회 메서드를 포함하는 인스턴스
+     * @param methodName 목록 조회 메서드명
+     * @param args       목록 조회 메서드에 전달되는 인자 배열
+     *
+     * @return {@link JoinPoint}
+     * @throws NoSuchMethodException 메서드가 존재하지 않을 경우
+     */
+    static JoinPoint joinPoint(Object target, String methodName, Object... args) throws NoSuchMethodException {
+        Method method = null;
+
+        for (Method candidate : target.getClass().getMethods()) {
+            if (candidate.getName().equals(methodName)) {
+                method = candidate;
+            }
+        }
+
+        if (method == null) {
+            throw new NoSuchMethodException(methodName);
+        }
+
+        JoinPoint point = mock(JoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+
+        when(signature.getMethod()).thenReturn(method);
+        when(point.getSignature()).thenReturn(signature);
+        when(point.getArgs()).thenReturn(args);
+        when(point.getTarget()).thenReturn(target);
+
+        return point;
+    }
+
+    public static class BoardMapper {
+        private final int totalCount;
+
+        private int countCalls;
+
+        public BoardMapper(int totalCount) {
+            this.totalCount = totalCount;
+        }
+
+        @Pageable
+        public List<Map<String, Object>> selectList(Map<String, Object> parameter) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            int from = (Integer)parameter.get("fromData");
+            int to = Math.min((Integer)parameter.get("toData"), totalCount);
+
+            for (int i = from; i <= to; i++) {
+                rows.add(new HashMap<>());
+            }
+
+            return rows;
+        }
+
+        public Integer selectListPageCount(Map<String, Object> parameter) {
+            countCalls++;
+
+            return totalCount;
+        }
+
+        @Pageable
+        public List<Map<String, Object>> selectListWithRequest(Map<String, Object> parameter, PageRequest request) {
+            return selectList(parameter);
+        }
+
+        public Integer selectListWithRequestPageCount(Map<String, Object> parameter, PageRequest request) {
+            return selectListPageCount(parameter);
+        }
+    }
+}
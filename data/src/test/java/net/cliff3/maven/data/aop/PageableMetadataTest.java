@@ -0,0 +1,136 @@
+package net.cliff3.maven.data.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import net.cliff3.maven.data.mybatis.pagination.Pageable;
+import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.pagination.PagingDialect;
+import org.apache.ibatis.annotations.Param;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * PageableMetadataTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PageableMetadataTest {
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("annotation 정보 및 cache")
+    public void testOf() throws Exception {
+        Method method = BoardMapper.class.getMethod("selectList", Map.class);
+        PageableMetadata metadata = PageableMetadata.of(method);
+
+        assertSame(metadata, PageableMetadata.of(method), "동일 메서드는 cache된 정보를 반환해야 함");
+        assertNotNull(metadata.getAnnotation(), "annotation 정보 없음");
+        assertEquals(BoardMapper.class.getName() + ".selectList", metadata.getMapperID());
+        assertEquals("selectList" + DefaultPageableBeforeAdvice.DEFAULT_MAPPER_ID, metadata.getCountMapperID());
+        assertEquals("fromData", metadata.getFromKey());
+        assertEquals("fromIndex", metadata.getFromIndex());
+        assertEquals("toData", metadata.getToKey());
+        assertEquals(PagingDialect.COUNT_QUERY, metadata.getDialect());
+
+        PageableMetadata window = PageableMetadata.of(BoardMapper.class.getMethod("selectWindow", Map.class));
+
+        assertEquals("countWindow", window.getCountMapperID(), "지정된 count mapper를 사용해야 함");
+        assertEquals(PagingDialect.POSTGRESQL, window.getDialect());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("annotation 없는 메서드")
+    public void testNone() throws Exception {
+        PageableMetadata metadata = PageableMetadata.of(BoardMapper.class.getMethod("selectListPageCount", Map.class));
+
+        assertNull(metadata.getAnnotation(), "annotation이 없어야 함");
+        assertNull(metadata.getCountMapperID());
+        assertEquals(PagingDialect.COUNT_QUERY, metadata.getDialect());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("PageRequest 조회 순서")
+    public void testResolvePageRequest() throws Exception {
+        PageableMetadata metadata = PageableMetadata.of(BoardMapper.class.getMethod("selectWithRequest",
+                                                                                      Map.class,
+                                                                                      PageRequest.class));
+        PageRequest current = new PageRequest(1, 10, 10);
+        PageRequest inMap = new PageRequest(2, 10, 10);
+        PageRequest argument = new PageRequest(3, 10, 10);
+        Map<String, Object> parameter = new HashMap<>();
+
+        Pagination.setRequest(current);
+
+        assertSame(current, metadata.resolvePageRequest(new Object[] {parameter, null}), "현재 thread 정보");
+
+        parameter.put(AbstractPageable.NG_PAGE_REQUEST_KEY, inMap);
+
+        assertSame(inMap, metadata.resolvePageRequest(new Object[] {parameter, null}), "조회 조건 Map 정보");
+        assertSame(argument, metadata.resolvePageRequest(new Object[] {parameter, argument}), "인자 정보");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("count mapper 실행")
+    public void testInvokeCount() throws Exception {
+        PageableMetadata metadata = PageableMetadata.of(BoardMapper.class.getMethod("selectList", Map.class));
+        Map<String, Object> parameter = new HashMap<>();
+
+        parameter.put("count", 42);
+
+        assertEquals(42, metadata.invokeCount(new BoardMapper(), new Object[] {parameter}));
+
+        PageableMetadata missing = PageableMetadata.of(BoardMapper.class.getMethod("selectMissingCount", Map.class));
+
+        assertThrows(NoSuchMethodException.class,
+                     () -> missing.invokeCount(new BoardMapper(), new Object[] {parameter}),
+                     "count mapper가 없을 경우 오류가 발생해야 함");
+    }
+
+    public static class BoardMapper {
+        @Pageable
+        public List<Map<String, Object>> selectList(Map<String, Object> parameter) {
+            return null;
+        }
+
+        public Integer selectListPageCount(Map<String, Object> parameter) {
+            return (Integer)parameter.get("count");
+        }
+
+        @Pageable(countMapperID = "countWindow", dialect = PagingDialect.POSTGRESQL)
+        public List<Map<String, Object>> selectWindow(Map<String, Object> parameter) {
+            return null;
+        }
+
+        @Pageable
+        public List<Map<String, Object>> selectWithRequest(@Param("parameter") Map<String, Object> parameter,
+                                                           @Param(AbstractPageable.NG_PAGE_REQUEST_KEY)
+                                                               PageRequest pageRequest) {
+            return null;
+        }
+
+        @Pageable
+        public List<Map<String, Object>> selectMissingCount(Map<String, Object> parameter) {
+            return null;
+        }
+    }
+}
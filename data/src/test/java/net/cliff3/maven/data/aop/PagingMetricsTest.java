@@ -0,0 +1,223 @@
+package net.cliff3.maven.data.aop;
+
+import static net.cliff3.maven.data.aop.DefaultPageableAdviceTest.joinPoint;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.cliff3.maven.data.aop.DefaultPageableAdviceTest.BoardMapper;
+import net.cliff3.maven.data.mybatis.pagination.DefaultPagingFilter;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import net.cliff3.maven.data.mybatis.pagination.Pageable;
+import net.cliff3.maven.data.mybatis.pagination.Pagination;
+import net.cliff3.maven.data.mybatis.pagination.PagingDialect;
+import net.cliff3.maven.data.mybatis.pagination.PagingMetrics;
+import net.cliff3.maven.data.mybatis.pagination.TotalCountable;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * PagingMetricsTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PagingMetricsTest {
+    private static final String BOARD_MAPPER_ID = BoardMapper.class.getName() + ".selectList";
+
+    private static final String WINDOW_MAPPER_ID = WindowMapper.class.getName() + ".selectList";
+
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("count query 방식 측정 정보")
+    public void testCountQuery() throws Exception {
+        RecordingMetrics metrics = new RecordingMetrics();
+        DefaultPageableBeforeAdvice before = new DefaultPageableBeforeAdvice();
+        DefaultPageableAfterAdvice after = new DefaultPageableAfterAdvice();
+        BoardMapper mapper = new BoardMapper(23);
+        Map<String, Object> parameter = new HashMap<>();
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        before.setMetrics(metrics);
+        after.setMetrics(metrics);
+        Pagination.setRequest(new PageRequest(2, 10, 10));
+
+        before.processBefore(point);
+
+        assertEquals(Arrays.asList("countQuery:" + BOARD_MAPPER_ID,
+                                   "totalCount:" + BOARD_MAPPER_ID + ":23",
+                                   "pageRequest:" + BOARD_MAPPER_ID + ":2:10"),
+                     metrics.records);
+
+        metrics.records.clear();
+        after.processAfter(point, mapper.selectList(parameter));
+
+        assertEquals(Collections.singletonList("pageQuery:" + BOARD_MAPPER_ID), metrics.records);
+
+        // before advice 없이 다시 호출된 경우 목록 조회 시간은 기록하지 않는다.
+        metrics.records.clear();
+        after.processAfter(point, mapper.selectList(parameter));
+
+        assertTrue(metrics.records.isEmpty(), "목록 조회 시간이 중복 기록됨");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("window 방식 측정 정보")
+    public void testWindowCount() throws Exception {
+        RecordingMetrics metrics = new RecordingMetrics();
+        DefaultPageableBeforeAdvice before = new DefaultPageableBeforeAdvice();
+        DefaultPageableAfterAdvice after = new DefaultPageableAfterAdvice();
+        WindowMapper mapper = new WindowMapper(57);
+        Map<String, Object> parameter = new HashMap<>();
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        before.setMetrics(metrics);
+        after.setMetrics(metrics);
+        Pagination.setRequest(new PageRequest(1, 10, 10));
+
+        before.processBefore(point);
+
+        assertEquals(Collections.singletonList("pageRequest:" + WINDOW_MAPPER_ID + ":1:10"),
+                     metrics.records,
+                     "window 방식은 count mapper를 실행하지 않아야 함");
+
+        metrics.records.clear();
+        after.processAfter(point, mapper.selectList(parameter));
+
+        assertEquals(Arrays.asList("pageQuery:" + WINDOW_MAPPER_ID, "totalCount:" + WINDOW_MAPPER_ID + ":57"),
+                     metrics.records,
+                     "목록 조회 결과의 전체 건수를 기록하여야 함");
+
+        // 마지막 페이지를 넘어선 요청은 count mapper로 전체 건수를 조회
+        Pagination.setRequest(new PageRequest(9, 10, 10));
+        parameter.clear();
+        metrics.records.clear();
+
+        before.processBefore(point);
+        after.processAfter(point, mapper.selectList(parameter));
+
+        assertEquals("totalCount:" + WINDOW_MAPPER_ID + ":57", metrics.records.get(metrics.records.size() - 1));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("요청 값 제한 측정 정보")
+    public void testRestriction() throws Exception {
+        RecordingMetrics metrics = new RecordingMetrics();
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        filter.setMetrics(metrics);
+        filter.setMaxDataPerPage(50);
+        request.addParameter("dataPerPage", "100");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        assertEquals(Collections.singletonList("restriction:DATA_PER_PAGE_CLAMPED"), metrics.records);
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.DATA_PER_PAGE_CLAMPED));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("기본 구현")
+    public void testNoop() throws Exception {
+        BoardMapper mapper = new BoardMapper(5);
+        Map<String, Object> parameter = new HashMap<>();
+        JoinPoint point = joinPoint(mapper, "selectList", parameter);
+
+        // 측정 정보 수집을 지정하지 않아도 동일하게 처리되어야 한다.
+        new DefaultPageableBeforeAdvice().processBefore(point);
+        new DefaultPageableAfterAdvice().processAfter(point, mapper.selectList(parameter));
+
+        assertEquals(5, Pagination.getRequest().getTotalCount());
+
+        PagingMetrics.NOOP.recordRestriction(DefaultPagingFilter.Restriction.OFFSET_REJECTED);
+    }
+
+    /**
+     * 호출된 측정 정보를 기록한다. 실행 시간은 값 대신 0 이상인지 확인한다.
+     */
+    private static class RecordingMetrics implements PagingMetrics {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public void recordPageRequest(String mapperID, int currentPage, int dataPerPage) {
+            records.add("pageRequest:" + mapperID + ":" + currentPage + ":" + dataPerPage);
+        }
+
+        @Override
+        public void recordCountQuery(String mapperID, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+
+            records.add("countQuery:" + mapperID);
+        }
+
+        @Override
+        public void recordPageQuery(String mapperID, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+
+            records.add("pageQuery:" + mapperID);
+        }
+
+        @Override
+        public void recordTotalCount(String mapperID, int totalCount) {
+            records.add("totalCount:" + mapperID + ":" + totalCount);
+        }
+
+        @Override
+        public void recordRestriction(DefaultPagingFilter.Restriction restriction) {
+            records.add("restriction:" + restriction);
+        }
+    }
+
+    /**
+     * 목록과 함께 전체 건수를 반환하는 mapper
+     */
+    public static class WindowMapper {
+        private final int totalCount;
+
+        public WindowMapper(int totalCount) {
+            this.totalCount = totalCount;
+        }
+
+        @Pageable(dialect = PagingDialect.POSTGRESQL)
+        public List<Map<String, Object>> selectList(Map<String, Object> parameter) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            int from = (Integer)parameter.get("fromData");
+            int to = Math.min((Integer)parameter.get("toData"), totalCount);
+
+            for (int i = from; i <= to; i++) {
+                Map<String, Object> row = new HashMap<>();
+
+                row.put(TotalCountable.TOTAL_COUNT_COLUMN, (long)totalCount);
+                rows.add(row);
+            }
+
+            return rows;
+        }
+
+        public Integer selectListPageCount(Map<String, Object> parameter) {
+            return totalCount;
+        }
+    }
+}
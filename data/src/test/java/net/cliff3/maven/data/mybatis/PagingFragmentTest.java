@@ -0,0 +1,160 @@
+package net.cliff3.maven.data.mybatis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * cliff3Common.xml의 페이징 fragment가 조회 조건 {@link Map} 혹은 bean 단독 인자와 {@code @Param("pageRequest")} 인자
+ * 모두에서 값을 찾는지 확인한다. DB 없이 MyBatis가 생성하는 {@link BoundSql}과 인자 값을 확인한다.
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+public class PagingFragmentTest {
+    private static final String NAMESPACE = PagingTestMapper.class.getName();
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        configuration = new Configuration();
+
+        parse("mappers/cliff3Common.xml");
+        parse("mappers/PagingTestMapper.xml");
+    }
+
+    @Test
+    @DisplayName("조회 조건 Map 단독 인자")
+    public void testMapParameter() throws Exception {
+        Map<String, Object> parameter = new HashMap<>();
+
+        parameter.put("fromData", 11);
+        parameter.put("toData", 20);
+
+        assertEquals(listOf(11, 20), resolve("selectList", parameter));
+    }
+
+    @Test
+    @DisplayName("조회 조건 Map에 PageRequest 저장")
+    public void testPageRequestInMap() throws Exception {
+        Map<String, Object> parameter = new HashMap<>();
+
+        parameter.put(AbstractPageable.NG_PAGE_REQUEST_KEY, new PageRequest(3, 10, 10));
+
+        assertEquals(listOf(21, 30), resolve("selectList", parameter));
+        assertEquals(listOf(20, 10), resolve("selectListMySQL", parameter));
+    }
+
+    @Test
+    @DisplayName("@Param(\"pageRequest\") 인자")
+    public void testPageRequestParameter() throws Exception {
+        Map<String, Object> parameter = new HashMap<>();
+
+        parameter.put("title", "제목");
+
+        Object wrapped = wrap("selectListWithRequest", parameter, new PageRequest(2, 15, 10));
+
+        assertEquals(listOf("제목", 16, 30), resolve("selectListWithRequest", wrapped));
+
+        wrapped = wrap("selectListPostgreSQLWithRequest", parameter, new PageRequest(4, 20, 10));
+
+        assertEquals(listOf(20, 60), resolve("selectListPostgreSQLWithRequest", wrapped));
+    }
+
+    @Test
+    @DisplayName("조회 조건 bean 단독 인자")
+    public void testBeanParameter() throws Exception {
+        SearchParameter parameter = new SearchParameter();
+
+        parameter.setFromData(31);
+        parameter.setToData(40);
+
+        assertEquals(listOf(31, 40), resolve("selectList", parameter));
+    }
+
+    private static void parse(String resource) throws Exception {
+        try (InputStream in = PagingFragmentTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, resource + " 없음");
+
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    /**
+     * MyBatis mapper proxy와 동일하게 인자를 {@code ParamMap}으로 묶는다.
+     */
+    private static Object wrap(String methodName, Object... args) {
+        for (Method method : PagingTestMapper.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new ParamNameResolver(configuration, method).getNamedParams(args);
+            }
+        }
+
+        throw new IllegalArgumentException(methodName);
+    }
+
+    /**
+     * {@code DefaultParameterHandler}와 동일한 방식으로 bind 값을 조회한다.
+     */
+    private static List<Object> resolve(String statementId, Object parameter) {
+        MappedStatement statement = configuration.getMappedStatement(NAMESPACE + "." + statementId);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        MetaObject metaObject = configuration.newMetaObject(parameter);
+        List<Object> values = new ArrayList<>();
+
+        log.debug("sql : {}", boundSql.getSql());
+
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String property = mapping.getProperty();
+
+            values.add(boundSql.hasAdditionalParameter(property)
+                       ? boundSql.getAdditionalParameter(property)
+                       : metaObject.getValue(property));
+        }
+
+        return values;
+    }
+
+    /**
+     * {@link Map}이 아닌 조회 조건
+     */
+    @Getter
+    @Setter
+    public static class SearchParameter {
+        private int fromData;
+
+        private int toData;
+    }
+
+    private static List<Object> listOf(Object... values) {
+        List<Object> list = new ArrayList<>();
+
+        for (Object value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+}
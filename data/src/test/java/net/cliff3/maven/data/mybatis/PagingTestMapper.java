@@ -0,0 +1,26 @@
+package net.cliff3.maven.data.mybatis;
+
+import java.util.List;
+import java.util.Map;
+
+import net.cliff3.maven.data.mybatis.pagination.PageRequest;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * cliff3Common.xml fragment 확인용 mapper
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+public interface PagingTestMapper {
+    List<Map<String, Object>> selectList(Map<String, Object> parameter);
+
+    List<Map<String, Object>> selectListWithRequest(@Param("parameter") Map<String, Object> parameter,
+                                                    @Param(AbstractPageable.NG_PAGE_REQUEST_KEY) PageRequest request);
+
+    List<Map<String, Object>> selectListMySQL(Map<String, Object> parameter);
+
+    List<Map<String, Object>> selectListPostgreSQLWithRequest(@Param("parameter") Map<String, Object> parameter,
+                                                              @Param(AbstractPageable.NG_PAGE_REQUEST_KEY)
+                                                                  PageRequest request);
+}
@@ -0,0 +1,314 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.servlet.FilterChain;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * DefaultPagingFilterTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DefaultPagingFilterTest {
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("페이징 정보 생성")
+    public void testFilter() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        request.addParameter("currentPage", "3");
+        request.addParameter("dataPerPage", "20");
+        request.addParameter("linkPerPage", "5");
+        request.addParameter("title", "검색 제목");
+        request.addParameter("category", "a", " ", "b");
+        request.addParameter("empty", "");
+
+        PageRequest pageRequest = doFilter(filter, request, new MockHttpServletResponse());
+
+        assertNotNull(pageRequest, "페이징 정보가 생성되지 않음");
+        assertEquals(3, pageRequest.getCurrentPage());
+        assertEquals(20, pageRequest.getDataPerPage());
+        assertEquals(5, pageRequest.getLinkPerPage());
+        assertEquals("linkPerPage=5&title=%EA%B2%80%EC%83%89+%EC%A0%9C%EB%AA%A9&category=a&category=b",
+                     pageRequest.getQueryString(),
+                     "페이지 번호, 출력 건수와 빈 값은 제외되어야 함");
+        assertNotNull(request.getAttribute("pager"));
+        assertSame(pageRequest.getQueryString(), ((PagerTool)request.getAttribute("pager")).getQueryString());
+        assertNull(Pagination.peekRequest(), "필터 종료 후 현재 thread의 정보가 제거되어야 함");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("잘못된 요청 값")
+    public void testInvalidParameter() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        request.addParameter("currentPage", "-2");
+        request.addParameter("dataPerPage", "abc");
+        request.addParameter("linkPerPage", "0");
+
+        PageRequest pageRequest = doFilter(filter, request, new MockHttpServletResponse());
+
+        assertEquals(1, pageRequest.getCurrentPage());
+        assertEquals(10, pageRequest.getDataPerPage(), "숫자가 아닐 경우 기본값");
+        assertEquals(10, pageRequest.getLinkPerPage(), "1보다 작을 경우 기본값");
+        assertEquals("linkPerPage=0", pageRequest.getQueryString(), "요청 값은 변경 전 값으로 유지되어야 함");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("대상 요청 제한")
+    public void testTarget() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+
+        filter.setMethods("get");
+        filter.setIncludePatterns("/board/**");
+
+        assertNotNull(doFilter(filter, new MockHttpServletRequest("GET", "/board/list"), new MockHttpServletResponse()));
+        assertNull(doFilter(filter, new MockHttpServletRequest("POST", "/board/list"), new MockHttpServletResponse()),
+                   "지정하지 않은 method");
+        assertNull(doFilter(filter, new MockHttpServletRequest("GET", "/member/list"), new MockHttpServletResponse()),
+                   "지정하지 않은 URL");
+
+        MockHttpServletRequest multipart = new MockHttpServletRequest("GET", "/board/list");
+
+        multipart.setContentType("multipart/form-data; boundary=test");
+
+        assertNull(doFilter(filter, multipart, new MockHttpServletResponse()), "파일 첨부 요청");
+        assertNull(multipart.getAttribute("pager"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("제외 파라미터 및 인코딩 지정")
+    public void testExcludeAndEncoding() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        filter.setCurrentPage("page");
+        filter.setExcludeParameters("token");
+        filter.setEncoding("EUC-KR");
+        request.addParameter("page", "2");
+        request.addParameter("token", "secret");
+        request.addParameter("title", "제목");
+
+        PageRequest pageRequest = doFilter(filter, request, new MockHttpServletResponse());
+
+        assertEquals(2, pageRequest.getCurrentPage(), "지정한 변수명으로 조회하여야 함");
+        assertEquals("title=" + URLEncoder.encode("제목", "EUC-KR"), pageRequest.getQueryString());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("QueryStringEncoder")
+    public void testEncoder() throws Exception {
+        String[] values = {"plain-value_1.2*", "공백 포함", "a&b=c?d/e", "~!@#$%^()+", "😀 emoji", "混合 text 한글"};
+
+        for (Charset charset : new Charset[] {StandardCharsets.UTF_8, Charset.forName("EUC-KR")}) {
+            for (String value : values) {
+                StringBuilder builder = new StringBuilder();
+
+                QueryStringEncoder.append(builder, value, charset);
+
+                assertEquals(URLEncoder.encode(value, charset.name()), builder.toString(), "URLEncoder와 결과가 다름");
+            }
+        }
+
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+
+        parameterMap.put("키", new String[] {"값"});
+        parameterMap.put("skip", new String[] {"1"});
+        parameterMap.put("none", new String[0]);
+        parameterMap.put("nullValue", null);
+
+        assertEquals("%ED%82%A4=%EA%B0%92",
+                     QueryStringEncoder.encode(parameterMap,
+                                               new HashSet<>(Collections.singletonList("skip")),
+                                               StandardCharsets.UTF_8));
+        assertEquals("", QueryStringEncoder.encode(null, Collections.emptySet(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("출력 건수, 링크 개수 최대값 제한")
+    public void testMaxPerPage() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        filter.setMaxDataPerPage(100);
+        filter.setMaxLinkPerPage(20);
+        request.addParameter("dataPerPage", "100000");
+        request.addParameter("linkPerPage", "500");
+
+        PageRequest pageRequest = doFilter(filter, request, new MockHttpServletResponse());
+
+        assertEquals(100, pageRequest.getDataPerPage(), "최대값으로 제한되어야 함");
+        assertEquals(20, pageRequest.getLinkPerPage(), "최대값으로 제한되어야 함");
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.DATA_PER_PAGE_CLAMPED));
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.LINK_PER_PAGE_CLAMPED));
+
+        // 0 이하일 경우 제한하지 않음
+        filter.setMaxDataPerPage(0);
+
+        assertEquals(100000, doFilter(filter, request, new MockHttpServletResponse()).getDataPerPage());
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.DATA_PER_PAGE_CLAMPED));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("최대 offset 초과 - CLAMP")
+    public void testOffsetClamp() throws Exception {
+        DefaultPagingFilter filter = offsetFilter(DefaultPagingFilter.OffsetPolicy.CLAMP);
+        MockHttpServletRequest request = offsetRequest("1000", null);
+        PageRequest pageRequest = doFilter(filter, request, new MockHttpServletResponse());
+
+        assertEquals(11, pageRequest.getCurrentPage(), "허용되는 마지막 페이지로 변경되어야 함");
+        assertEquals(100, pageRequest.getFromIndex(), "최대 offset을 넘으면 안됨");
+        assertFalse(pageRequest.isKeyset());
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.OFFSET_CLAMPED));
+
+        // 경계값은 허용
+        pageRequest = doFilter(filter, offsetRequest("11", null), new MockHttpServletResponse());
+
+        assertEquals(11, pageRequest.getCurrentPage());
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.OFFSET_CLAMPED));
+
+        // int 범위를 넘는 offset
+        pageRequest = doFilter(filter, offsetRequest(String.valueOf(Integer.MAX_VALUE), null),
+                               new MockHttpServletResponse());
+
+        assertEquals(11, pageRequest.getCurrentPage(), "offset 계산시 overflow가 발생하면 안됨");
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("최대 offset 초과 - KEYSET")
+    public void testOffsetKeyset() throws Exception {
+        DefaultPagingFilter filter = offsetFilter(DefaultPagingFilter.OffsetPolicy.KEYSET);
+        PageRequest pageRequest = doFilter(filter, offsetRequest("1000", "20240101-0001"), new MockHttpServletResponse());
+
+        assertEquals(1000, pageRequest.getCurrentPage(), "페이지 번호는 변경하지 않아야 함");
+        assertTrue(pageRequest.isKeyset(), "keyset 방식으로 변경되어야 함");
+        assertEquals("20240101-0001", pageRequest.getLastKey());
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.OFFSET_KEYSET));
+
+        // 마지막 키 값이 없을 경우 거부
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(doFilter(filter, offsetRequest("1000", null), response), "요청이 처리되면 안됨");
+        assertEquals(400, response.getStatus());
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.OFFSET_REJECTED));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("최대 offset 초과 - REJECT")
+    public void testOffsetReject() throws Exception {
+        DefaultPagingFilter filter = offsetFilter(DefaultPagingFilter.OffsetPolicy.REJECT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(doFilter(filter, offsetRequest("1000", "20240101-0001"), response), "chain이 실행되면 안됨");
+        assertEquals(400, response.getStatus(), "400 응답이어야 함");
+        assertNull(Pagination.peekRequest(), "거부된 요청의 정보가 남으면 안됨");
+        assertEquals(1, filter.getRestrictedCount(DefaultPagingFilter.Restriction.OFFSET_REJECTED));
+
+        response = new MockHttpServletResponse();
+
+        assertNotNull(doFilter(filter, offsetRequest("11", null), response), "허용 범위는 처리되어야 함");
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("요청 종료 후 query string 조회")
+    public void testQueryStringAfterRequest() throws Exception {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+        AtomicReference<PageRequest> captured = new AtomicReference<>();
+
+        request.addParameter("title", "a");
+
+        // query string을 조회하지 않고 전파만 한 경우
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> captured.set(Pagination.peekRequest()));
+
+        // container에서 request를 재사용하기 위해 초기화한 경우
+        request.removeAllParameters();
+        request.addParameter("title", "other");
+
+        assertEquals("title=a", captured.get().getQueryString(), "필터 실행 시점의 파라미터로 생성되어야 함");
+    }
+
+    /**
+     * 페이지당 10건, 최대 offset 100건으로 제한한 필터
+     */
+    private static DefaultPagingFilter offsetFilter(DefaultPagingFilter.OffsetPolicy policy) {
+        DefaultPagingFilter filter = new DefaultPagingFilter();
+
+        filter.setMaxOffset(100);
+        filter.setOffsetPolicy(policy);
+
+        return filter;
+    }
+
+    private static MockHttpServletRequest offsetRequest(String currentPage, String lastKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+
+        request.addParameter("currentPage", currentPage);
+
+        if (lastKey != null) {
+            request.addParameter("lastKey", lastKey);
+        }
+
+        return request;
+    }
+
+    /**
+     * 필터를 실행하고 chain에서 조회한 {@link PageRequest}를 반환한다.
+     *
+     * @return 페이징 정보. 생성되지 않은 경우 {@code null}
+     */
+    static PageRequest doFilter(DefaultPagingFilter filter,
+                                MockHttpServletRequest request,
+                                MockHttpServletResponse response) throws Exception {
+        AtomicReference<PageRequest> captured = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            PageRequest pageRequest = Pagination.peekRequest();
+
+            if (pageRequest != null) {
+                // query string은 요청 처리 중 조회되는 것과 같이 chain 안에서 생성
+                pageRequest.getQueryString();
+                captured.set(pageRequest);
+            }
+        };
+
+        filter.doFilter(request, response, chain);
+
+        return captured.get();
+    }
+}
@@ -0,0 +1,147 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * PagerToolTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PagerToolTest {
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("페이지 이동 정보 계산")
+    public void testCompute() {
+        PageRequest request = new PageRequest(13, 10, 10);
+
+        request.setTotalCount(235);
+
+        PagerTool pager = new PagerTool(request);
+
+        assertEquals(13, pager.getCurrentPage());
+        assertEquals(10, pager.getDataPerPage());
+        assertEquals(10, pager.getPageLinkCnt());
+        assertEquals(235, pager.getTotalCnt());
+        assertEquals(24, pager.getTotalPageLinkCnt(), "전체 페이지 수 오류");
+        assertEquals(2, pager.getCurrentPageScope());
+        assertEquals(11, pager.getStartPage());
+        assertEquals(20, pager.getEndPage());
+        assertEquals(10, pager.getPrevPage(), "이전 페이지 오류");
+        assertEquals(21, pager.getNextPage(), "다음 페이지 오류");
+        assertEquals(Arrays.asList(11, 12, 13, 14, 15, 16, 17, 18, 19, 20), pager.getPageList());
+        assertEquals("currentPage=13&amp;dataPerPage=10", pager.getPageQuery());
+
+        // 마지막 페이지 범위
+        request.setCurrentPage(23);
+
+        assertEquals(21, pager.getStartPage());
+        assertEquals(24, pager.getEndPage(), "전체 페이지 수를 넘으면 안됨");
+        assertEquals(20, pager.getPrevPage());
+        assertEquals(24, pager.getNextPage(), "다음 범위가 없을 경우 마지막 페이지");
+
+        // 첫 번째 페이지 범위
+        request.setCurrentPage(3);
+
+        assertEquals(1, pager.getPrevPage(), "이전 범위가 없을 경우 첫 번째 페이지");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("변경된 경우에만 다시 계산")
+    public void testRecompute() {
+        PageRequest request = new PageRequest(1, 10, 5);
+        PagerTool pager = new PagerTool(request);
+
+        // 전체 건수가 정해지기 전 생성
+        assertEquals(1, pager.getTotalPageLinkCnt(), "전체 건수가 없을 경우 한 페이지");
+        assertEquals(new PageRange(1, 1), pager.getPageRange());
+
+        PageRange range = pager.getPageRange();
+        String pageQuery = pager.getPageQuery();
+
+        assertSame(range, pager.getPageRange(), "변경이 없을 경우 같은 인스턴스를 반환해야 함");
+        assertSame(pageQuery, pager.getPageQuery());
+        assertSame(range, pager.getPageList());
+
+        request.setTotalCount(100);
+
+        assertNotSame(range, pager.getPageRange(), "전체 건수 변경 후 다시 계산되어야 함");
+        assertEquals(new PageRange(1, 5), pager.getPageRange());
+        assertEquals(10, pager.getTotalPageLinkCnt());
+
+        request.setDataPerPage(20);
+
+        assertEquals(5, pager.getTotalPageLinkCnt(), "출력 개수 변경 후 다시 계산되어야 함");
+        assertEquals("currentPage=1&amp;dataPerPage=20", pager.getPageQuery());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("현재 thread의 PageRequest 사용")
+    public void testCurrentRequest() {
+        PageRequest request = Pagination.getRequest();
+
+        request.setQueryString("title=a");
+        request.setTotalCount(11);
+
+        PagerTool pager = new PagerTool();
+
+        assertEquals("title=a", pager.getQueryString());
+        assertEquals(2, pager.getTotalPageLinkCnt());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("PageRange")
+    public void testPageRange() {
+        PageRange range = new PageRange(3, 6);
+
+        assertEquals(4, range.size());
+        assertEquals(3, range.getStart());
+        assertEquals(6, range.getEnd());
+        assertEquals(Integer.valueOf(5), range.get(2));
+        assertTrue(range.contains(3));
+        assertTrue(range.contains(Integer.valueOf(6)));
+        assertFalse(range.contains(7));
+        assertFalse(range.contains("3"), "Integer가 아닌 값은 포함되지 않음");
+        assertThrows(IndexOutOfBoundsException.class, () -> range.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> range.get(-1));
+        assertThrows(UnsupportedOperationException.class, () -> range.add(7), "읽기 전용이어야 함");
+
+        List<Integer> pages = new ArrayList<>();
+        PrimitiveIterator.OfInt iterator = range.intIterator();
+
+        while (iterator.hasNext()) {
+            pages.add(iterator.nextInt());
+        }
+
+        assertEquals(Arrays.asList(3, 4, 5, 6), pages);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        PageRange empty = new PageRange(5, 2);
+
+        assertTrue(empty.isEmpty(), "끝 번호가 시작 번호보다 작을 경우 빈 범위");
+        assertEquals(4, empty.getEnd());
+        assertFalse(empty.intIterator().hasNext());
+    }
+}
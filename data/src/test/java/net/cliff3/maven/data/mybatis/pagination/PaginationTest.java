@@ -0,0 +1,169 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import net.cliff3.maven.data.mybatis.AbstractPageable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * PaginationTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+@SuppressWarnings("deprecation")
+public class PaginationTest {
+    @AfterEach
+    public void tearDown() {
+        Pagination.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("저장된 정보가 없을 경우 생성하여 저장")
+    public void testGetRequest() {
+        assertNull(Pagination.peekRequest());
+
+        PageRequest request = Pagination.getRequest();
+
+        assertSame(request, Pagination.getRequest(), "같은 thread에서는 같은 정보를 사용해야 함");
+        assertSame(request, Pagination.peekRequest());
+
+        request.setTotalCount(30);
+
+        assertEquals(30, Pagination.getRequest().getTotalCount(), "전체 건수가 유지되어야 함");
+
+        Pagination.clear();
+
+        assertNull(Pagination.peekRequest(), "clear 후 정보가 남아있음");
+        assertNotSame(request, Pagination.getRequest());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("이전 버전 ThreadLocal 필드")
+    public void testLegacyFields() {
+        assertNull(Pagination.currentPage.get(), "저장된 정보가 없으면 null이어야 함");
+        assertNull(Pagination.totalCount.get());
+
+        Pagination.currentPage.set(3);
+        Pagination.dataPerPage.set(20);
+
+        PageRequest request = Pagination.peekRequest();
+
+        assertNotNull(request, "값 지정시 정보가 생성되어야 함");
+        assertEquals(3, request.getCurrentPage());
+        assertEquals(20, request.getDataPerPage());
+        assertEquals(AbstractPageable.NG_DEFAULT_PAGE_LINK_COUNT, Pagination.linkPerPage.get());
+
+        request.setTotalCount(55);
+        request.setQueryStringSupplier(() -> "&keyword=a");
+
+        assertEquals(55, Pagination.totalCount.get(), "PageRequest의 값을 반환해야 함");
+        assertEquals("&keyword=a", Pagination.queryString.get());
+
+        Pagination.currentPage.set(null);
+
+        assertEquals(1, Pagination.currentPage.get(), "null 지정시 기본값");
+
+        Pagination.resetAll();
+
+        assertNull(Pagination.totalCount.get(), "resetAll 후 값이 남아있음");
+        assertNull(Pagination.peekRequest());
+
+        Pagination.totalCount.remove();
+
+        assertNull(Pagination.peekRequest(), "remove시 정보를 생성하면 안 됨");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("작업 실행 thread로 전달 및 복원")
+    public void testWrap() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            PageRequest previous = new PageRequest(9, 10, 10);
+
+            // pool thread에 남아있는 이전 정보
+            executor.submit(() -> Pagination.setRequest(previous)).get();
+
+            PageRequest request = Pagination.getRequest();
+            Runnable runnable = Pagination.wrap(() -> Pagination.getRequest().setTotalCount(42));
+            Callable<PageRequest> callable = Pagination.wrap(Pagination::peekRequest);
+            Supplier<PageRequest> supplier = Pagination.wrapSupplier(Pagination::peekRequest);
+
+            executor.submit(runnable).get();
+
+            assertEquals(42, request.getTotalCount(), "같은 인스턴스가 전달되어야 함");
+            assertSame(request, executor.submit(callable).get());
+            assertSame(request, CompletableFuture.supplyAsync(supplier, executor).get());
+            assertSame(previous, executor.submit(Pagination::peekRequest).get(), "실행 후 이전 정보로 복원되어야 함");
+
+            // 호출한 thread에 정보가 없을 경우 실행 thread에서도 없어야 한다.
+            Pagination.clear();
+
+            assertNull(executor.submit(Pagination.wrap(Pagination::peekRequest)).get());
+            assertSame(previous, executor.submit(Pagination::peekRequest).get());
+
+            // 예외가 발생해도 복원
+            Pagination.setRequest(request);
+
+            Future<?> failed = executor.submit(Pagination.wrap((Runnable)() -> {
+                throw new IllegalStateException("test");
+            }));
+
+            assertThrows(ExecutionException.class, failed::get);
+            assertSame(previous, executor.submit(Pagination::peekRequest).get(), "예외 발생시에도 복원되어야 함");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("TaskDecorator 및 Executor")
+    public void testDecoratorAndExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            PageRequest request = Pagination.getRequest();
+            AtomicReference<PageRequest> decorated = new AtomicReference<>();
+            AtomicReference<PageRequest> executed = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            executor.submit(new PaginationTaskDecorator().decorate(() -> decorated.set(Pagination.peekRequest())))
+                    .get();
+
+            new PaginationContextExecutor(executor).execute(() -> {
+                executed.set(Pagination.peekRequest());
+                latch.countDown();
+            });
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertSame(request, decorated.get(), "TaskDecorator로 전달되어야 함");
+            assertSame(request, executed.get(), "Executor로 전달되어야 함");
+            assertNull(executor.submit(Pagination::peekRequest).get(), "실행 후 제거되어야 함");
+            assertThrows(IllegalArgumentException.class, () -> new PaginationContextExecutor(null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
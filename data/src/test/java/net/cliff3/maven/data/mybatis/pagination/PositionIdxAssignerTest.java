@@ -0,0 +1,243 @@
+package net.cliff3.maven.data.mybatis.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * PositionIdxAssignerTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PositionIdxAssignerTest {
+    @Test
+    @Order(1)
+    @DisplayName("count mapper로 조회된 전체 건수 사용")
+    public void testAssign() {
+        PageRequest request = new PageRequest(2, 10, 10);
+
+        request.setTotalCount(25);
+
+        List<Map<String, Object>> rows = rows(3, null, null);
+
+        assign(request, rows);
+
+        assertEquals(15, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+        assertEquals(13, rows.get(2).get(PositionIdxAssigner.POSITION_IDX_KEY));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("window 방식 Map 결과의 전체 건수 추출")
+    public void testWindowCountFromMap() {
+        PageRequest request = new PageRequest(1, 10, 10);
+        List<Map<String, Object>> rows = rows(2, TotalCountable.TOTAL_COUNT_COLUMN, 7L);
+
+        assign(request, rows);
+
+        assertEquals(7, request.getTotalCount(), "첫 번째 행의 전체 건수를 저장해야 함");
+        assertEquals(7, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+        assertEquals(6, rows.get(1).get(PositionIdxAssigner.POSITION_IDX_KEY));
+
+        request = new PageRequest(2, 5, 10);
+        rows = rows(2, TotalCountable.TOTAL_COUNT_COLUMN.toUpperCase(), 8);
+
+        assign(request, rows);
+
+        assertEquals(8, request.getTotalCount(), "대문자 컬럼명도 처리해야 함");
+        assertEquals(3, rows.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("window 방식 TotalCountable 결과의 전체 건수 추출")
+    public void testWindowCountFromTotalCountable() {
+        PageRequest request = new PageRequest(1, 10, 10);
+        Row first = new Row(3);
+        Row second = new Row(3);
+
+        PositionIdxAssigner assigner = new PositionIdxAssigner(request);
+
+        assigner.assign(first);
+        assigner.assign(second);
+
+        assertEquals(3, request.getTotalCount());
+        assertEquals(3, first.getPositionIdx());
+        assertEquals(2, second.getPositionIdx());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("전체 건수가 없는 결과")
+    public void testWithoutTotalCount() {
+        PageRequest request = new PageRequest(1, 10, 10);
+        List<Map<String, Object>> rows = rows(1, "other", 9);
+
+        assign(request, rows);
+
+        assertEquals(0, request.getTotalCount(), "전체 건수가 변경되지 않아야 함");
+        assertThrows(IllegalArgumentException.class, () -> new PositionIdxAssigner(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Cursor 순회시 출력 번호 할당")
+    public void testCursor() throws Exception {
+        PageRequest request = new PageRequest(3, 5, 10);
+
+        request.setTotalCount(12);
+
+        ListCursor<Map<String, Object>> delegate = new ListCursor<>(rows(2, null, null));
+        List<Integer> positions = new ArrayList<>();
+
+        try (PositionIdxCursor<Map<String, Object>> cursor = new PositionIdxCursor<>(delegate, request)) {
+            assertTrue(cursor.isOpen());
+
+            for (Map<String, Object> row : cursor) {
+                positions.add((Integer)row.get(PositionIdxAssigner.POSITION_IDX_KEY));
+            }
+
+            assertTrue(cursor.isConsumed());
+            assertEquals(1, cursor.getCurrentIndex());
+        }
+
+        assertEquals(2, positions.size());
+        assertEquals(2, positions.get(0));
+        assertEquals(1, positions.get(1));
+        assertFalse(delegate.isOpen(), "delegate cursor가 닫혀야 함");
+        assertThrows(IllegalArgumentException.class, () -> new PositionIdxCursor<>(null, request));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("ResultHandler 처리시 출력 번호 할당")
+    public void testResultHandler() {
+        try {
+            // 현재 thread의 PageRequest 사용
+            PageRequest request = Pagination.getRequest();
+
+            request.setCurrentPage(2);
+            request.setDataPerPage(10);
+
+            List<Map<String, Object>> handled = new ArrayList<>();
+            PositionIdxResultHandler<Map<String, Object>> handler = new PositionIdxResultHandler<>(
+                context -> handled.add(context.getResultObject()));
+            DefaultResultContext<Map<String, Object>> context = new DefaultResultContext<>();
+
+            for (Map<String, Object> row : rows(3, TotalCountable.TOTAL_COUNT_COLUMN, 30)) {
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+
+            assertEquals(3, handled.size(), "delegate에 전달되어야 함");
+            assertEquals(30, request.getTotalCount());
+            assertEquals(20, handled.get(0).get(PositionIdxAssigner.POSITION_IDX_KEY));
+            assertEquals(18, handled.get(2).get(PositionIdxAssigner.POSITION_IDX_KEY));
+            assertThrows(IllegalArgumentException.class, () -> new PositionIdxResultHandler<>(null, request));
+        } finally {
+            Pagination.clear();
+        }
+    }
+
+    private static void assign(PageRequest request, List<Map<String, Object>> rows) {
+        PositionIdxAssigner assigner = new PositionIdxAssigner(request);
+
+        for (Map<String, Object> row : rows) {
+            assigner.assign(row);
+        }
+    }
+
+    private static List<Map<String, Object>> rows(int size, String totalCountKey, Object totalCount) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> row = new HashMap<>();
+
+            if (totalCountKey != null) {
+                row.put(totalCountKey, totalCount);
+            }
+
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    @Getter
+    @Setter
+    private static class Row implements Countable, TotalCountable {
+        private int positionIdx;
+
+        private int totalCount;
+
+        private Row(int totalCount) {
+            this.totalCount = totalCount;
+        }
+    }
+
+    /**
+     * 목록을 순회하는 {@link Cursor}
+     */
+    private static class ListCursor<T> implements Cursor<T> {
+        private final List<T> rows;
+
+        private int index = -1;
+
+        private boolean open = true;
+
+        private ListCursor(List<T> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return index == rows.size() - 1;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return index;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return index + 1 < rows.size();
+                }
+
+                @Override
+                public T next() {
+                    return rows.get(++index);
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package net.cliff3.maven.security;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Optional;
 
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -51,7 +52,23 @@ public abstract class AbstractUserDetailService {
     public abstract AbstractUser getUser(String id, String password) throws UsernameNotFoundException;
 
     /**
-     * 평문 비밀번호를 암호화 하여 반환한다.
+     * 로그인 시점에 비밀번호 암호화 방식이 갱신된 경우 호출된다. 갱신된 비밀번호를 저장하려면 재정의한다. 기본 구현은 아무것도
+     * 하지 않는다.
+     *
+     * @param user            로그인한 사용자
+     * @param encodedPassword 현재 설정으로 다시 암호화된 비밀번호
+     *
+     * @see DefaultPasswordEncoder#upgradeEncoding(String)
+     */
+    public void updatePassword(AbstractUser user, String encodedPassword) {
+    }
+
+    /**
+     * 평문 비밀번호를 암호화 하여 반환한다. 결과는 hash 값을 base64 처리한 문자열이다.
+     * <p>
+     * <strong>0.3.0 변경 사항</strong> : 이전 버전에서는 hash 값을 UTF-8 문자열로 변환하여 반환하였으므로 같은 비밀번호라도
+     * 결과가 다르다. 이전 버전의 결과로 저장된 비밀번호와 비교할 경우 {@link #encryptLegacyPassword(String)}를 이용한다.
+     * </p>
      *
      * @param password 대상 비밀번호 문자열
      *
@@ -68,7 +85,7 @@ public abstract class AbstractUserDetailService {
         Optional<byte[]> result = CryptoUtil.makeSHA256Hash(password);
 
         if (result.isPresent()) {
-            return new String(result.get(), StandardCharsets.UTF_8);
+            return Base64.getEncoder().encodeToString(result.get());
         } else {
             throw new UnsupportedEncodingException("암호화 처리 오류");
         }
@@ -77,7 +94,8 @@ public abstract class AbstractUserDetailService {
     /**
      * 평문 비밀번호를 암호화 하여 반환한다.
      * <p>
-     * 주어진 반복 횟수를 이용하여 암호화 후 반환한다.
+     * 주어진 반복 횟수를 이용하여 암호화 후 hash 값을 base64 처리하여 반환한다. 이전 버전의 결과로 저장된 비밀번호와 비교할
+     * 경우 {@link #encryptLegacyPassword(String, int)}를 이용한다.
      * </p>
      *
      * @param password    대상 비밀번호 문자열
@@ -96,6 +114,61 @@ public abstract class AbstractUserDetailService {
 
         Optional<byte[]> result = CryptoUtil.makeSHA256Hash(password, null, repeatCount);
 
+        if (result.isPresent()) {
+            return Base64.getEncoder().encodeToString(result.get());
+        } else {
+            throw new UnsupportedEncodingException("암호화 처리 오류");
+        }
+    }
+
+    /**
+     * 0.3.0 이전 버전의 {@link #encryptPassword(String)}와 같이 hash 값을 UTF-8 문자열로 변환하여 반환한다. 변환시 일부
+     * 값이 손실되므로 이전 버전의 결과로 저장된 비밀번호와 비교하는 용도로만 사용한다.
+     *
+     * @param password 대상 비밀번호 문자열
+     *
+     * @return 이전 버전 형식으로 암호화된 비밀번호
+     * @throws UnsupportedEncodingException 인코딩 오류
+     * @throws NoSuchAlgorithmException     알고리즘 오류
+     * @deprecated {@link #encryptPassword(String)}나 {@link DefaultPasswordEncoder}를 사용한다.
+     */
+    @Deprecated
+    public final String encryptLegacyPassword(String password)
+        throws UnsupportedEncodingException, NoSuchAlgorithmException {
+        if (StringUtils.isEmpty(password)) {
+            throw new IllegalArgumentException("암호화 대상 비밀번호가 없음");
+        }
+
+        Optional<byte[]> result = CryptoUtil.makeSHA256Hash(password);
+
+        if (result.isPresent()) {
+            return new String(result.get(), StandardCharsets.UTF_8);
+        } else {
+            throw new UnsupportedEncodingException("암호화 처리 오류");
+        }
+    }
+
+    /**
+     * 0.3.0 이전 버전의 {@link #encryptPassword(String, int)}와 같이 hash 값을 UTF-8 문자열로 변환하여 반환한다. 변환시
+     * 일부 값이 손실되므로 이전 버전의 결과로 저장된 비밀번호와 비교하는 용도로만 사용한다.
+     *
+     * @param password    대상 비밀번호 문자열
+     * @param repeatCount 반복 횟수
+     *
+     * @return 이전 버전 형식으로 암호화된 비밀번호
+     * @throws UnsupportedEncodingException 인코딩 오류
+     * @throws NoSuchAlgorithmException     알고리즘 오류
+     * @deprecated {@link #encryptPassword(String, int)}나 {@link DefaultPasswordEncoder}를 사용한다.
+     */
+    @Deprecated
+    public final String encryptLegacyPassword(String password, int repeatCount)
+        throws UnsupportedEncodingException, NoSuchAlgorithmException {
+        if (StringUtils.isEmpty(password)) {
+            throw new IllegalArgumentException("암호화 대상 비밀번호가 없음");
+        }
+
+        Optional<byte[]> result = CryptoUtil.makeSHA256Hash(password, null, repeatCount);
+
         if (result.isPresent()) {
             return new String(result.get(), StandardCharsets.UTF_8);
         } else {
@@ -1,10 +1,18 @@
 package net.cliff3.maven.security;
 
+import org.springframework.security.crypto.password.PasswordEncoder;
+
 /**
  * 비밀번호 수동 비교 처리<br>
  * {@link DefaultMemberAuthenticationProvider}에서 비밀번호 비교 처리를 수동으로 구현하도록 지정한다.<br>
  * 해당 메서드를 구현, 결과를 <strong>Boolean</strong> 형태로 반환하면, {@link DefaultMemberAuthenticationProvider}
  * 에서는 이 기능을 우선으로 처리한다.
+ * <p>
+ * {@link DefaultMemberAuthenticationProvider}는 {@link #compareRawPassword(String, String, PasswordEncoder)}를 호출하며,
+ * 기본 구현은 이전 버전과 같은 값으로 {@link #comparePassword(String, String)}를 호출한다. salt가 적용된 비밀번호는 다시
+ * 암호화하여 비교할 수 없으므로, 평문 비밀번호로 비교하려면 {@link #compareRawPassword(String, String, PasswordEncoder)}를
+ * 구현한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 1.0.0
@@ -13,10 +21,38 @@ public interface AuthenticationCustomComparePassword {
     /**
      * 입력된 비밀번호와 조회한 비밀번호를 비교하여 결과를 <strong>Boolean</strong>형태로 반환한다.
      *
-     * @param enteredPassword  사용자가 입력한 비밀번호. 보통은 평문.
+     * @param enteredPassword  사용자가 입력한 비밀번호. 비밀번호 암호화를 사용할 경우 암호화된 값
+     *                         ({@link #compareRawPassword(String, String, PasswordEncoder)} 참고), 아닐 경우 평문.
      * @param selectedPassword DB등에서 조회한 저장된 비밀번호
      *
      * @return 일치 여부
      */
     public Boolean comparePassword(String enteredPassword, String selectedPassword);
+
+    /**
+     * 입력된 평문 비밀번호와 조회한 비밀번호를 비교하여 결과를 <strong>Boolean</strong>형태로 반환한다.
+     * <p>
+     * 기본 구현은 비밀번호 암호화를 사용할 경우 입력된 비밀번호를 이전 버전과 같이 암호화하여(encoder가
+     * {@link DefaultPasswordEncoder}일 경우 SHA-256 결과의 base64, 그 외에는 {@link PasswordEncoder#encode(CharSequence)})
+     * {@link #comparePassword(String, String)}에 전달한다.
+     * </p>
+     *
+     * @param rawPassword      사용자가 입력한 비밀번호(평문)
+     * @param selectedPassword DB등에서 조회한 저장된 비밀번호
+     * @param encoder          비밀번호 암호화를 사용할 경우 password encoder, 사용하지 않을 경우 {@code null}
+     *
+     * @return 일치 여부
+     * @since 0.3.0
+     */
+    public default Boolean compareRawPassword(String rawPassword, String selectedPassword, PasswordEncoder encoder) {
+        String enteredPassword = rawPassword;
+
+        if (encoder instanceof DefaultPasswordEncoder) {
+            enteredPassword = ((DefaultPasswordEncoder)encoder).encodeLegacyPassword(rawPassword);
+        } else if (encoder != null) {
+            enteredPassword = encoder.encode(rawPassword);
+        }
+
+        return comparePassword(enteredPassword, selectedPassword);
+    }
 }
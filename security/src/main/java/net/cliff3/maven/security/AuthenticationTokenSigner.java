@@ -0,0 +1,251 @@
+package net.cliff3.maven.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.common.util.crypto.CryptoException;
+import net.cliff3.maven.security.model.AbstractUser;
+
+/**
+ * 자동 로그인/SSO 등에 사용하는 HMAC-SHA256 서명 token 생성 및 검증.
+ * <p>
+ * Token은 <strong>t1.아이디.만료 시각.비밀번호 지문.서명</strong> 형태이며, 아이디/비밀번호 지문/서명은 base64url로
+ * 저장된다. 서명과 만료 시각은 사용자 조회 없이 메모리에서 검증하므로 위조된 token은 DB 조회 없이 거절된다. 비밀번호 지문은
+ * 저장된 비밀번호의 HMAC 값 일부로, 비밀번호가 변경되면 이전에 발급된 token은 사용할 수 없다.
+ * </p>
+ * <p>
+ * 지문은 조회된 사용자의 비밀번호와 비교하므로, {@link CachingUserDetailService}를 사용할 경우 저장된 사용자가 만료되기 전까지는
+ * 이전 비밀번호로 비교된다. {@link AbstractUserDetailService#updatePassword(AbstractUser, String)}를 거치지 않고 비밀번호를
+ * 변경한 경우에는 {@link CachingUserDetailService#evict(String)} 등을 호출해야 이전 token이 즉시 거절된다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider#authenticateWithToken(String)
+ * @since 0.3.0
+ */
+@Slf4j
+public class AuthenticationTokenSigner {
+    /**
+     * Token 접두사
+     */
+    public static final String PREFIX = "t1.";
+
+    /**
+     * 기본 유효 기간(ms)
+     */
+    public static final long DEFAULT_VALIDITY_MILLIS = TimeUnit.DAYS.toMillis(14);
+
+    /**
+     * HMAC 알고리즘
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * 비밀번호 지문 길이(byte)
+     */
+    private static final int FINGERPRINT_LENGTH = 12;
+
+    /**
+     * Token 구분자
+     */
+    private static final char SEPARATOR = '.';
+
+    /**
+     * 서명 key
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Thread별 {@link Mac}
+     */
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * 유효 기간(ms)
+     */
+    @Getter
+    @Setter
+    private long validityMillis = DEFAULT_VALIDITY_MILLIS;
+
+    /**
+     * Constructor
+     *
+     * @param secret 서명 key. 32 byte 이상을 권장한다.
+     */
+    public AuthenticationTokenSigner(byte[] secret) {
+        if (secret == null || secret.length == 0) {
+            throw new IllegalArgumentException("secret must not be empty");
+        }
+
+        this.key = new SecretKeySpec(Arrays.copyOf(secret, secret.length), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+
+                mac.init(key);
+
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new CryptoException("HMAC 초기화 오류", e);
+            }
+        });
+    }
+
+    /**
+     * 사용자의 token 발급
+     *
+     * @param user 대상 사용자
+     *
+     * @return 서명된 token
+     */
+    public String createToken(AbstractUser user) {
+        return createToken(user, System.currentTimeMillis() + validityMillis);
+    }
+
+    /**
+     * 사용자의 token 발급
+     *
+     * @param user      대상 사용자
+     * @param expiresAt 만료 시각(ms)
+     *
+     * @return 서명된 token
+     */
+    public String createToken(AbstractUser user, long expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String body = PREFIX + encoder.encodeToString(user.getUsername().getBytes(StandardCharsets.UTF_8))
+                      + SEPARATOR + expiresAt
+                      + SEPARATOR + encoder.encodeToString(fingerprint(user.getPassword()));
+
+        return body + SEPARATOR + encoder.encodeToString(sign(body));
+    }
+
+    /**
+     * Token 형태의 문자열인지 확인한다. 서명은 확인하지 않는다.
+     *
+     * @param value 대상 문자열
+     *
+     * @return token 형태 여부
+     */
+    public boolean isToken(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    /**
+     * Token의 형식, 만료 시각, 서명을 확인한다. 사용자는 조회하지 않는다.
+     *
+     * @param token 대상 token
+     *
+     * @return 확인된 token. 올바르지 않거나 만료된 경우 {@code null}
+     */
+    public Token verify(String token) {
+        if (!isToken(token)) {
+            return null;
+        }
+
+        int signatureStart = token.lastIndexOf(SEPARATOR);
+        String[] parts = token.substring(PREFIX.length(), Math.max(signatureStart, PREFIX.length())).split("\\.", -1);
+
+        if (parts.length != 3) {
+            return null;
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] signature = decoder.decode(token.substring(signatureStart + 1));
+
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, signatureStart)))) {
+                log.debug("token 서명 불일치");
+
+                return null;
+            }
+
+            long expiresAt = Long.parseLong(parts[1]);
+
+            if (expiresAt <= System.currentTimeMillis()) {
+                log.debug("token 만료 : {}", expiresAt);
+
+                return null;
+            }
+
+            return new Token(new String(decoder.decode(parts[0]), StandardCharsets.UTF_8),
+                             expiresAt,
+                             decoder.decode(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 서명 처리
+     *
+     * @param body 서명 대상
+     *
+     * @return 서명
+     */
+    private byte[] sign(String body) {
+        return macs.get().doFinal(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비밀번호 지문 처리
+     *
+     * @param password 저장된 비밀번호
+     *
+     * @return 비밀번호 지문
+     */
+    private byte[] fingerprint(String password) {
+        byte[] hash = sign("p:" + (password == null ? "" : password));
+
+        return Arrays.copyOf(hash, FINGERPRINT_LENGTH);
+    }
+
+    /**
+     * 서명이 확인된 token
+     */
+    public final class Token {
+        /**
+         * 사용자 아이디
+         */
+        @Getter
+        private final String userName;
+
+        /**
+         * 만료 시각(ms)
+         */
+        @Getter
+        private final long expiresAt;
+
+        /**
+         * 비밀번호 지문
+         */
+        private final byte[] fingerprint;
+
+        private Token(String userName, long expiresAt, byte[] fingerprint) {
+            this.userName = userName;
+            this.expiresAt = expiresAt;
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * 조회된 사용자에게 발급된 token인지 확인한다. 발급 후 조회된 사용자의 비밀번호가 변경된 경우 {@code false}를 반환한다.
+         *
+         * @param user 조회된 사용자
+         *
+         * @return 확인 결과
+         */
+        public boolean isIssuedFor(AbstractUser user) {
+            return user != null
+                   && userName.equals(user.getUsername())
+                   && MessageDigest.isEqual(fingerprint, fingerprint(user.getPassword()));
+        }
+    }
+}
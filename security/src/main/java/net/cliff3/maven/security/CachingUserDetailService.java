@@ -0,0 +1,391 @@
+package net.cliff3.maven.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.security.model.AbstractUser;
+
+/**
+ * 사용자 조회 결과를 일정 시간 동안 저장하는 {@link AbstractUserDetailService}.
+ * <p>
+ * 실제 조회는 생성시 전달된 {@link AbstractUserDetailService}가 처리하며, 아이디와 일련번호를 이용한 조회 결과를 각각
+ * {@link #timeToLiveMillis} 동안 저장한다. 존재하지 않는 사용자도 {@link #negativeTimeToLiveMillis} 동안 저장하여 존재하지
+ * 않는 아이디로 반복하여 로그인을 시도하는 경우 DB 조회가 발생하지 않도록 한다. 아이디/비밀번호를 이용한 조회는 저장하지 않는다.
+ * </p>
+ * <p>
+ * 저장된 사용자 객체는 여러 요청에서 공유되므로 변경하지 않아야 하며, 비밀번호나 권한이 변경된 경우 {@link #evict(AbstractUser)}
+ * 등을 호출하여 삭제한다. {@link #updatePassword(AbstractUser, String)}는 자동으로 삭제한다. 삭제 전에 시작된 조회의 결과는
+ * 저장하지 않으므로 변경 전의 정보가 다시 저장되지 않는다.
+ * </p>
+ * <p>
+ * 존재하지 않는 사용자로 저장된 아이디는 이후 가입하더라도 {@link #negativeTimeToLiveMillis} 동안 존재하지 않는 것으로
+ * 조회되므로, 가입 처리 후 반드시 {@link #userCreated(AbstractUser)}(혹은 {@link #evict(String)})를 호출한다. 가입 처리를
+ * 호출할 수 없는 경우 {@link #negativeTimeToLiveMillis}를 0으로 지정하여 존재하지 않는 사용자를 저장하지 않도록 한다.
+ * </p>
+ * <p>
+ * 조회 결과는 key의 hash 값에 따라 {@link #SEGMENT_COUNT}개의 구간으로 나누어 최근에 사용하지 않은 순서(LRU)로 저장하며,
+ * 구간별 저장 개수를 넘을 경우 가장 오래 사용하지 않은 결과 하나를 삭제한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider
+ * @since 0.3.0
+ */
+@Slf4j
+public class CachingUserDetailService extends AbstractUserDetailService {
+    /**
+     * 조회 유형별 저장 구간 개수(2의 거듭제곱)
+     */
+    private static final int SEGMENT_COUNT = 16;
+
+    /**
+     * 실제 조회를 처리하는 service
+     */
+    @Getter
+    private final AbstractUserDetailService delegate;
+
+    /**
+     * 저장 시간(ms)
+     */
+    @Getter
+    @Setter
+    private volatile long timeToLiveMillis = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * 존재하지 않는 사용자의 저장 시간(ms). 0 이하일 경우 저장하지 않는다.
+     */
+    @Getter
+    @Setter
+    private volatile long negativeTimeToLiveMillis = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * 조회 유형별 최대 저장 개수
+     */
+    @Getter
+    @Setter
+    private volatile int maxEntries = 10000;
+
+    /**
+     * 아이디별 조회 결과
+     */
+    private final UserCache<String> usersById = new UserCache<>();
+
+    /**
+     * 일련번호별 조회 결과
+     */
+    private final UserCache<Long> usersBySequence = new UserCache<>();
+
+    /**
+     * 저장된 결과를 반환한 횟수
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 저장된 결과 중 존재하지 않는 사용자를 반환한 횟수
+     */
+    private final LongAdder negativeHits = new LongAdder();
+
+    /**
+     * 실제 조회 횟수
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param delegate 실제 조회를 처리하는 service
+     */
+    public CachingUserDetailService(AbstractUserDetailService delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate must not be null");
+        }
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public AbstractUser getUser(Long sequence) {
+        return sequence == null ? delegate.getUser((Long)null) : usersBySequence.get(sequence, delegate::getUser);
+    }
+
+    @Override
+    public AbstractUser getUser(String id) {
+        return id == null ? delegate.getUser((String)null) : usersById.get(id, delegate::getUser);
+    }
+
+    @Override
+    public AbstractUser getUser(String id, String password) throws UsernameNotFoundException {
+        return delegate.getUser(id, password);
+    }
+
+    @Override
+    public void updatePassword(AbstractUser user, String encodedPassword) {
+        try {
+            delegate.updatePassword(user, encodedPassword);
+        } finally {
+            evict(user);
+        }
+    }
+
+    /**
+     * 가입한 사용자의 아이디와 일련번호로 저장된 결과를 삭제한다. 가입 전 로그인 시도 등으로 존재하지 않는 사용자로 저장된
+     * 결과가 남아 있으면 {@link #negativeTimeToLiveMillis} 동안 로그인할 수 없으므로 사용자 생성 후 호출한다.
+     *
+     * @param user 가입한 사용자
+     */
+    public void userCreated(AbstractUser user) {
+        evict(user);
+    }
+
+    /**
+     * 사용자의 아이디와 일련번호로 저장된 결과를 삭제한다. 비밀번호 혹은 권한이 변경된 경우 호출한다.
+     *
+     * @param user 대상 사용자
+     */
+    public void evict(AbstractUser user) {
+        if (user == null) {
+            return;
+        }
+
+        evict(user.getUsername());
+
+        if (user.getUserKey() instanceof Long) {
+            evict((Long)user.getUserKey());
+        }
+    }
+
+    /**
+     * 아이디로 저장된 결과 삭제
+     *
+     * @param id 사용자 아이디
+     */
+    public void evict(String id) {
+        if (id != null) {
+            usersById.remove(id);
+        }
+    }
+
+    /**
+     * 일련번호로 저장된 결과 삭제
+     *
+     * @param sequence 사용자 일련번호
+     */
+    public void evict(Long sequence) {
+        if (sequence != null) {
+            usersBySequence.remove(sequence);
+        }
+    }
+
+    /**
+     * 저장된 결과 전체 삭제
+     */
+    public void evictAll() {
+        usersById.clear();
+        usersBySequence.clear();
+    }
+
+    /**
+     * 저장된 결과를 반환한 횟수(존재하지 않는 사용자 포함)
+     *
+     * @return 반환 횟수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 저장된 결과 중 존재하지 않는 사용자를 반환한 횟수
+     *
+     * @return 반환 횟수
+     */
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * 실제 조회 횟수
+     *
+     * @return 조회 횟수
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 저장된 결과를 반환한 비율
+     *
+     * @return 0 ~ 1 사이의 비율. 조회가 없었을 경우 0
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+
+        return total == 0 ? 0 : (double)hitCount / total;
+    }
+
+    /**
+     * 현재 저장된 개수
+     *
+     * @return 저장 개수
+     */
+    public int size() {
+        return usersById.size() + usersBySequence.size();
+    }
+
+    /**
+     * 조회 유형별 저장소
+     *
+     * @param <K> 조회 key 유형
+     */
+    private final class UserCache<K> {
+        private final List<Segment> segments = new ArrayList<>(SEGMENT_COUNT);
+
+        private UserCache() {
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                segments.add(new Segment());
+            }
+        }
+
+        /**
+         * 저장된 결과를 반환하며, 없거나 만료된 경우 조회하여 저장한다. 조회중에 해당 구간의 결과가 삭제된 경우 조회 결과는
+         * 저장하지 않는다.
+         *
+         * @param key    조회 key
+         * @param loader 실제 조회 처리
+         *
+         * @return 사용자. 존재하지 않을 경우 {@code null}
+         */
+        private AbstractUser get(K key, Function<K, AbstractUser> loader) {
+            Segment segment = segmentFor(key);
+            long now = System.currentTimeMillis();
+            long version;
+
+            synchronized (segment) {
+                CachedEntry entry = segment.get(key);
+
+                if (entry != null && entry.expiresAt > now) {
+                    hits.increment();
+
+                    if (entry.user == null) {
+                        negativeHits.increment();
+                    }
+
+                    return entry.user;
+                }
+
+                version = segment.version;
+            }
+
+            misses.increment();
+
+            AbstractUser user = loader.apply(key);
+            long ttl = user == null ? negativeTimeToLiveMillis : timeToLiveMillis;
+
+            synchronized (segment) {
+                if (segment.version != version) {
+                    log.debug("user cache invalidated while loading : {}", key);
+                } else if (ttl > 0) {
+                    segment.put(key, new CachedEntry(user, now + ttl));
+                } else {
+                    segment.remove(key);
+                }
+            }
+
+            return user;
+        }
+
+        /**
+         * 저장된 결과 삭제
+         *
+         * @param key 조회 key
+         */
+        private void remove(K key) {
+            Segment segment = segmentFor(key);
+
+            synchronized (segment) {
+                segment.remove(key);
+                segment.version++;
+            }
+        }
+
+        /**
+         * 저장된 결과 전체 삭제
+         */
+        private void clear() {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                    segment.version++;
+                }
+            }
+        }
+
+        /**
+         * 저장 개수(만료된 결과 포함)
+         *
+         * @return 저장 개수
+         */
+        private int size() {
+            int size = 0;
+
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    size += segment.size();
+                }
+            }
+
+            return size;
+        }
+
+        private Segment segmentFor(K key) {
+            int hash = key.hashCode();
+
+            return segments.get((hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1));
+        }
+
+        /**
+         * 최근에 사용하지 않은 순서로 정렬된 조회 결과. 해당 인스턴스로 동기화하여 사용한다.
+         */
+        private final class Segment extends LinkedHashMap<K, CachedEntry> {
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * 삭제 횟수. 조회 시작 시점과 다를 경우 조회 결과를 저장하지 않는다.
+             */
+            private long version;
+
+            private Segment() {
+                super(16, 0.75f, true);
+            }
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedEntry> eldest) {
+                return size() > Math.max(1, maxEntries / SEGMENT_COUNT);
+            }
+        }
+    }
+
+    /**
+     * 저장된 조회 결과
+     */
+    private static final class CachedEntry {
+        private final AbstractUser user;
+
+        private final long expiresAt;
+
+        private CachedEntry(AbstractUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package net.cliff3.maven.security;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.support.BeanDefinitionValidationException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -18,12 +17,15 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.common.util.crypto.CryptoUtil;
+import net.cliff3.maven.security.dao.BatchUserLogDao;
 import net.cliff3.maven.security.dao.UserLogDao;
 import net.cliff3.maven.security.model.AbstractUser;
-import net.cliff3.maven.security.model.Role;
+import net.cliff3.maven.security.model.DefaultUserLog;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -34,7 +36,8 @@ import org.apache.commons.lang3.StringUtils;
  * @since 0.3.0
  */
 @Slf4j
-public class DefaultMemberAuthenticationProvider implements AuthenticationProvider, ApplicationContextAware {
+public class DefaultMemberAuthenticationProvider implements AuthenticationProvider, ApplicationContextAware,
+                                                           DisposableBean {
     /**
      * 로그인 성공
      */
@@ -55,6 +58,21 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
      */
     public static final String RESULT_KEY_SERVER_ERROR = "se";
 
+    /**
+     * 로그인 실패 횟수 초과로 거절
+     */
+    public static final String RESULT_KEY_FAIL_THROTTLED = "th";
+
+    /**
+     * 올바르지 않거나 만료된 token
+     */
+    public static final String RESULT_KEY_FAIL_INVALID_TOKEN = "it";
+
+    /**
+     * 존재하지 않는 사용자의 처리 시간을 맞추기 위해 사용하는 비밀번호
+     */
+    private static final String DUMMY_PASSWORD = "dummy-password-for-unknown-user";
+
     /**
      * ApplicationContext
      */
@@ -67,17 +85,43 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
     private AbstractUserDetailService userDetailService;
 
     /**
-     * 접속 기록 처리 DAO
+     * 접속 기록 처리 DAO. {@link BatchUserLogDao}를 구현하지 않은 경우 접속 기록을 저장하지 않는다.
      */
-    @Setter
     private UserLogDao userLogDAO = null;
 
     /**
-     * Password encoder
+     * 접속 로그 객체 생성. 지정하지 않을 경우 접속 기록을 저장하지 않는다.
+     */
+    @Setter
+    private Supplier<? extends DefaultUserLog> userLogFactory;
+
+    /**
+     * 접속 로그 비동기 저장 처리. 지정하지 않을 경우 {@link #userLogDAO}를 이용하여 생성한다.
      */
     @Setter
+    private volatile LoginAuditWriter loginAuditWriter;
+
+    /**
+     * 자동 로그인/SSO token 서명 처리. {@code null}일 경우 token 인증을 사용하지 않는다.
+     */
+    @Setter
+    private AuthenticationTokenSigner tokenSigner;
+
+    /**
+     * {@link #loginAuditWriter}를 직접 생성했는지 여부
+     */
+    private boolean createdLoginAuditWriter;
+
+    /**
+     * Password encoder
+     */
     private PasswordEncoder passwordEncoder;
 
+    /**
+     * {@link #DUMMY_PASSWORD}를 {@link #passwordEncoder}로 암호화한 결과
+     */
+    private volatile String dummyEncodedPassword;
+
     /**
      * 비밀번호 암호화화 비교 여부
      */
@@ -87,15 +131,18 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
     /**
      * 사용자 유형을 정의하는 필드명
      */
-    @Setter
     private String userTypeFieldName;
 
     /**
      * 사용자 유형과 권한 코드 정보
      */
-    @Setter
     private Map<String, Object> userTypeWithRoleCode;
 
+    /**
+     * {@link #userTypeFieldName}과 {@link #userTypeWithRoleCode}로 만든 권한 조회 처리
+     */
+    private volatile UserTypeRoleResolver userTypeRoleResolver;
+
     /**
      * 사용자가 존재하지 않을 경우 메세지
      */
@@ -108,6 +155,30 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
     @Setter
     private String invalidPasswordMessage = "계정이 존재하지 않거나, 비밀번호가 일치하지 않습니다.";
 
+    /**
+     * 로그인 실패 횟수 제한으로 거절된 경우 메세지
+     */
+    @Setter
+    private String throttledMessage = "로그인 실패 횟수를 초과하였습니다. 잠시 후 다시 시도하여 주십시오.";
+
+    /**
+     * Token이 올바르지 않거나 만료된 경우 메세지
+     */
+    @Setter
+    private String invalidTokenMessage = "인증 정보가 올바르지 않거나 만료되었습니다. 다시 로그인하여 주십시오.";
+
+    /**
+     * 비밀번호 검증 동시 실행 제한. {@code null}일 경우 제한하지 않는다.
+     */
+    @Setter
+    private PasswordVerificationLimiter verificationLimiter;
+
+    /**
+     * 아이디/IP별 로그인 실패 횟수 제한. {@code null}일 경우 제한하지 않는다.
+     */
+    @Setter
+    private LoginFailureThrottle failureThrottle;
+
     /**
      * Constructor
      */
@@ -130,107 +201,239 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
             throw new BadCredentialsException("비밀번호를 입력하여 주십시오.");
         }
 
+        String remoteAddress = getRemoteAddress(authentication);
+
+        // 실패 횟수를 넘은 경우 비밀번호 검증 없이 거절
+        if (failureThrottle != null && failureThrottle.isBlocked(userName, remoteAddress)) {
+            log.debug("로그인 실패 횟수 초과 : {}, {}", userName, remoteAddress);
+
+            writeUserLog(null, userName, remoteAddress, RESULT_KEY_FAIL_THROTTLED);
+
+            throw new BadCredentialsException(throttledMessage);
+        }
+
         AbstractUser user = userDetailService.getUser(userName);
 
         log.debug("조회 대상 : {}", userName);
 
         UsernamePasswordAuthenticationToken token;
+        String resultKey = RESULT_KEY_SERVER_ERROR;
 
         try {
 
             log.debug("target user : {}", user);
 
             // 인증 처리
-            password = checkUserAndPassword(password, user);
+            try {
+                password = verifyPassword(password, user, userName, remoteAddress);
+            } catch (BadCredentialsException e) {
+                resultKey = user == null ? RESULT_KEY_FAIL_NOT_EXIST : RESULT_KEY_FAIL_WRONG_PASSWORD;
 
-            Collection<? extends GrantedAuthority> authorities = null;
+                throw e;
+            }
 
-            if (StringUtils.isNotEmpty(userTypeFieldName) && MapUtils.isNotEmpty(userTypeWithRoleCode)) {
-                log.debug("권한 지정 필드와 정보를 이용하여 권한 코드 처리 시작 >>>");
+            token = new UsernamePasswordAuthenticationToken(user, password, resolveAuthorities(user));
+            resultKey = RESULT_KEY_SUCCESS;
 
-                // 지정된 필드가 실제 NGAbstractUser를 구현한 객체에 존재하는지 확인
-                Field field = user.getClass().getDeclaredField(userTypeFieldName);
+            if (log.isDebugEnabled()) {
+                for (GrantedAuthority bbb : token.getAuthorities()) {
+                    log.debug("save role : {}", bbb.getAuthority());
+                }
+            }
+        } finally {
+            writeUserLog(user, userName, remoteAddress, resultKey);
+        }
 
-                // 지정된 필드에서 현재 사용자의 유형값을 추출한다.
-                field.setAccessible(true);
-                Object currentUserType = field.get(user);
+        return token;
+    }
 
-                // Map 형태로 전달된 기준 권한 코드와 비교하여 권한정보를 설정한다.
+    /**
+     * 인증된 사용자의 권한 목록. 사용자 유형 필드와 권한 코드 정보가 지정된 경우 사용자 유형에 해당하는 권한 목록을,
+     * 지정되지 않은 경우 {@link AbstractUser#getAuthorities()}를 반환한다.
+     *
+     * @param user 인증된 사용자
+     *
+     * @return 권한 목록
+     */
+    private Collection<? extends GrantedAuthority> resolveAuthorities(AbstractUser user) {
+        Collection<? extends GrantedAuthority> authorities = null;
 
-                for (Object key : userTypeWithRoleCode.keySet()) {
-                    if (currentUserType.equals(key)) {
-                        // 유형이 일치하면 value에 저장된 권한 코드를 이용하여 authorities 처리
-                        Set<Role> createdAuthorities = new HashSet<Role>();
-                        Role role = new Role((String)userTypeWithRoleCode.get(key), true);
+        UserTypeRoleResolver resolver = getUserTypeRoleResolver();
 
-                        createdAuthorities.add(role);
+        try {
+            if (resolver != null) {
+                log.debug("권한 지정 필드와 정보를 이용하여 권한 코드 처리 시작 >>>");
 
-                        authorities = createdAuthorities;
-                    }
-                }
+                // 사용자 유형 필드의 값에 해당하는 권한 목록을 조회한다.
+                authorities = resolver.resolve(user);
             } else {
                 authorities = user.getAuthorities();
             }
+        } catch (NoSuchFieldException e) {
+            log.error("사용자 구분 지정 필드가 존재하지 않습니다.", e);
 
+            throw new RuntimeException();
+        } catch (IllegalAccessException e) {
+            log.error("사용자 구분 지정 필드에 접근할 수 없습니다.", e);
 
-            if (log.isDebugEnabled()) {
-                assert authorities != null;
+            throw new RuntimeException();
+        }
 
-                for (GrantedAuthority aaa : authorities) {
-                    log.debug("role : {}", aaa.getAuthority());
-                }
+        if (log.isDebugEnabled() && authorities != null) {
+            for (GrantedAuthority aaa : authorities) {
+                log.debug("role : {}", aaa.getAuthority());
             }
+        }
 
-            token = new UsernamePasswordAuthenticationToken(user, password, authorities);
+        return authorities;
+    }
 
-            if (log.isDebugEnabled()) {
-                for (GrantedAuthority bbb : token.getAuthorities()) {
-                    log.debug("save role : {}", bbb.getAuthority());
-                }
-            }
+    /**
+     * 인증 요청의 IP
+     *
+     * @param authentication 인증 요청
+     *
+     * @return IP. 확인할 수 없는 경우 {@code null}
+     */
+    private String getRemoteAddress(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails
+               ? ((WebAuthenticationDetails)authentication.getDetails()).getRemoteAddress()
+               : null;
+    }
+
+    /**
+     * 접속 기록을 {@link LoginAuditWriter}에 전달한다. 저장은 별도의 thread에서 처리되므로 로그인 처리 시간에 영향을 주지
+     * 않는다.
+     *
+     * @param user          조회된 사용자. 존재하지 않을 경우 {@code null}
+     * @param userName      입력된 아이디
+     * @param remoteAddress 요청 IP. 확인할 수 없는 경우 {@code null}
+     * @param resultKey     로그인 결과
+     */
+    private void writeUserLog(AbstractUser user, String userName, String remoteAddress, String resultKey) {
+        if (userLogFactory == null) {
+            return;
+        }
+
+        LoginAuditWriter writer = getLoginAuditWriter();
+
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            DefaultUserLog userLog = userLogFactory.get();
+
+            userLog.setUser(user);
+            userLog.setUserName(userName);
+            userLog.setRemoteAddress(remoteAddress);
+            userLog.setResult(resultKey);
+
+            writer.submit(userLog);
         } catch (RuntimeException e) {
-            throw e;
-        } catch (NoSuchFieldException e) {
-            log.error("사용자 구분 지정 필드가 존재하지 않습니다.", e);
+            log.error("접속 기록 처리 오류", e);
+        }
+    }
 
-            throw new RuntimeException();
-        } catch (IllegalAccessException e) {
-            log.error("사용자 구분 지정 필드에 접근할 수 없습니다.", e);
+    /**
+     * 접속 기록 처리 DAO 지정. {@link BatchUserLogDao}를 구현하지 않은 경우 접속 기록을 저장하지 않는다.
+     *
+     * @param userLogDAO 접속 기록 처리 DAO
+     */
+    public void setUserLogDAO(UserLogDao userLogDAO) {
+        if (userLogDAO != null && !(userLogDAO instanceof BatchUserLogDao)) {
+            log.warn("{} does not implement BatchUserLogDao, login audit records are not written.",
+                     userLogDAO.getClass().getName());
+        }
 
-            throw new RuntimeException();
-        } finally {
-            if (userLogDAO != null) {
-                // TODO: 접속 기록 저장
+        this.userLogDAO = userLogDAO;
+    }
+
+    /**
+     * 접속 로그 비동기 저장 처리. 지정되지 않았고 {@link #userLogDAO}가 {@link BatchUserLogDao}일 경우 생성한다.
+     *
+     * @return 접속 로그 비동기 저장 처리. 생성할 수 없을 경우 {@code null}
+     */
+    LoginAuditWriter getLoginAuditWriter() {
+        LoginAuditWriter writer = loginAuditWriter;
+
+        if (writer == null && userLogDAO instanceof BatchUserLogDao) {
+            synchronized (this) {
+                writer = loginAuditWriter;
+
+                if (writer == null) {
+                    writer = new LoginAuditWriter((BatchUserLogDao)userLogDAO);
+                    loginAuditWriter = writer;
+                    createdLoginAuditWriter = true;
+                }
             }
         }
 
-        return token;
+        return writer;
+    }
+
+    /**
+     * {@link #verificationLimiter}의 동시 실행 제한 내에서 {@link #checkUserAndPassword(String, AbstractUser)}를
+     * 실행하고, 결과를 {@link #failureThrottle}에 기록한다.
+     *
+     * @param password      입력한 비밀번호
+     * @param user          저장된 사용자 객체
+     * @param userName      입력한 아이디
+     * @param remoteAddress 요청 IP
+     *
+     * @return 인증이 통과된 사용자의 암호화된 비밀번호
+     */
+    private String verifyPassword(String password, AbstractUser user, String userName, String remoteAddress) {
+        try {
+            String verified = verificationLimiter == null
+                              ? checkUserAndPassword(password, user)
+                              : verificationLimiter.verify(() -> checkUserAndPassword(password, user));
+
+            if (failureThrottle != null) {
+                failureThrottle.recordSuccess(userName);
+            }
+
+            return verified;
+        } catch (BadCredentialsException e) {
+            if (failureThrottle != null) {
+                failureThrottle.recordFailure(userName, remoteAddress);
+            }
+
+            throw e;
+        }
     }
 
     /**
      * 기본적인 검증 처리
      * <p>
-     * 입력한 아이디를 이용한 사용자 조회와, 비밀번호 비교 처리
+     * 입력한 아이디를 이용한 사용자 조회와, 비밀번호 비교 처리. 비밀번호 암호화를 사용할 경우 {@link PasswordEncoder#matches(CharSequence, String)}
+     * 를 이용하여 비교하며, {@link DefaultPasswordEncoder#upgradeEncoding(String)}가 {@code true}일 경우 다시 암호화하여
+     * {@link AbstractUserDetailService#updatePassword(AbstractUser, String)}를 호출한다.
+     * </p>
+     * <p>
+     * 사용자 존재 여부나 저장된 비밀번호의 형식이 처리 시간으로 드러나지 않도록, 존재하지 않는 사용자는 같은 방식(수동 비교,
+     * 암호화 비교, 평문 비교)으로 임의의 비밀번호와 비교하며, 현재 설정보다 약한 형식(이전 버전의 SHA-256 등)으로 저장된 비밀번호가
+     * 일치하지 않을 경우에는 현재 설정으로 한 번 더 비교한다. 일치하는 경우에는 다시 암호화하므로 처리 비용은 같다.
      * </p>
      *
      * @param password 입력한 비밀번호
      * @param user     저장된 사용자 객체
      *
-     * @return 인증이 통과된 사용자가 입력한 비빌번호
+     * @return 인증이 통과된 사용자의 암호화된 비밀번호
      */
     private String checkUserAndPassword(String password, AbstractUser user) {
-        if (useEncryptPassword && StringUtils.isNotEmpty(password)) {
-            password = getPasswordEncoder().encode(password);
-            log.debug("Encrypted password : {}", password);
-        }
+        AbstractUserDetailService comparingService = userDetailService instanceof CachingUserDetailService
+                                                     ? ((CachingUserDetailService)userDetailService).getDelegate()
+                                                     : userDetailService;
 
         if (user == null) {
             log.debug("사용자가 존재하지 않음");
 
+            compareDummyPassword(password, comparingService);
+
             throw new BadCredentialsException(notFoundMessage);
         } else {
-            boolean isImplementation = AuthenticationCustomComparePassword.class.isAssignableFrom(
-                userDetailService.getClass());
+            boolean isImplementation = comparingService instanceof AuthenticationCustomComparePassword;
 
             log.debug("NGAuthenticationCustomComparePassword 구현 여부 : {}", isImplementation);
 
@@ -238,30 +441,82 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
                 // 비밀번호를 조회하는 메서드를 지정할 경우
                 log.debug("비교 메서드 시작");
 
-                Boolean compareResult = ((AuthenticationCustomComparePassword)userDetailService).comparePassword(
+                Boolean compareResult = ((AuthenticationCustomComparePassword)comparingService).compareRawPassword(
                     password,
-                    user.getPassword());
+                    user.getPassword(),
+                    useEncryptPassword ? getPasswordEncoder() : null);
 
                 log.debug("비교 메서드 실행 결과 : " + compareResult);
 
                 if (!compareResult) {
                     throw new BadCredentialsException(invalidPasswordMessage);
                 }
+            } else if (useEncryptPassword) {
+                PasswordEncoder encoder = getPasswordEncoder();
+                boolean weaker = encoder instanceof DefaultPasswordEncoder
+                                 && ((DefaultPasswordEncoder)encoder).upgradeEncoding(user.getPassword());
+
+                if (!encoder.matches(password, user.getPassword())) {
+                    log.debug("비밀번호가 일치하지 않음");
+
+                    if (weaker) {
+                        // 약한 형식의 비교는 빠르므로 현재 설정의 비교 시간을 추가한다.
+                        encoder.matches(password, getDummyEncodedPassword());
+                    }
+
+                    throw new BadCredentialsException(invalidPasswordMessage);
+                }
+
+                if (weaker) {
+                    String upgraded = encoder.encode(password);
+
+                    log.debug("비밀번호 암호화 방식 갱신");
+
+                    userDetailService.updatePassword(user, upgraded);
+
+                    return upgraded;
+                }
             } else {
-                if (!password.equals(user.getPassword())) {
+                if (!CryptoUtil.isEqual(user.getPassword(), password)) {
                     log.debug("비밀번호가 일치하지 않음");
 
                     throw new BadCredentialsException(invalidPasswordMessage);
                 }
             }
         }
-        return password;
+
+        return user.getPassword();
+    }
+
+    /**
+     * 존재하지 않는 사용자의 처리 시간을 존재하는 사용자와 맞추기 위해 현재 비교 방식으로 임의의 비밀번호와 비교한다. 결과는
+     * 사용하지 않는다.
+     *
+     * @param password         입력한 비밀번호
+     * @param comparingService 수동 비교 여부를 확인할 service
+     */
+    private void compareDummyPassword(String password, AbstractUserDetailService comparingService) {
+        try {
+            if (comparingService instanceof AuthenticationCustomComparePassword) {
+                ((AuthenticationCustomComparePassword)comparingService).compareRawPassword(
+                    password,
+                    getDummyEncodedPassword(),
+                    useEncryptPassword ? getPasswordEncoder() : null);
+            } else if (useEncryptPassword) {
+                getPasswordEncoder().matches(password, getDummyEncodedPassword());
+            } else {
+                CryptoUtil.isEqual(DUMMY_PASSWORD, password);
+            }
+        } catch (RuntimeException e) {
+            log.debug("임의의 비밀번호 비교 오류", e);
+        }
     }
 
     /**
      * 이미 로그인된 사용자의 권한 정보 변경을 위한 메서드.
      * <p>
-     * 로그인시 사용할 수 없음.
+     * 로그인시 사용할 수 없음. 인증 정보가 {@link AuthenticationTokenSigner}로 서명된 token일 경우
+     * {@link #authenticateWithToken(String)}으로 처리한다.
      * </p>
      *
      * @param authentication 로그인 처리가 된 사용자
@@ -283,6 +538,14 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
             // TODO: 예외처리
         }
 
+        if (tokenSigner != null && tokenSigner.isToken(password)) {
+            if (userName == null) {
+                throw new BadCredentialsException(invalidTokenMessage);
+            }
+
+            return authenticateWithToken(password, userName, getRemoteAddress(authentication));
+        }
+
         AbstractUser user = userDetailService.getUser(userName, password);
 
         if (user == null) {
@@ -292,6 +555,107 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
         return new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities());
     }
 
+    /**
+     * {@link AuthenticationTokenSigner}로 서명된 token을 이용한 인증 처리.
+     * <p>
+     * 서명과 만료 시각을 먼저 확인하므로 위조되거나 만료된 token은 사용자 조회 없이 거절된다. 사용자는
+     * {@link AbstractUserDetailService#getUser(String)}로 조회하므로 {@link CachingUserDetailService}를 사용할 경우
+     * 저장된 정보가 없을 때만 DB를 조회한다.
+     * </p>
+     * <p>
+     * 권한 목록, 로그인 실패 횟수 제한, 접속 기록은 {@link #authenticate(Authentication)}와 같이 처리한다.
+     * </p>
+     *
+     * @param token 서명된 token
+     *
+     * @return 인증 정보
+     * @throws BadCredentialsException token이 올바르지 않거나 만료된 경우, 혹은 발급 후 비밀번호가 변경된 경우
+     */
+    public Authentication authenticateWithToken(String token) {
+        return authenticateWithToken(token, null, null);
+    }
+
+    /**
+     * {@link AuthenticationTokenSigner}로 서명된 token을 이용한 인증 처리
+     *
+     * @param token         서명된 token
+     * @param principalName 인증 요청의 아이디. 지정된 경우 token의 아이디와 다르면 거절한다.
+     * @param remoteAddress 요청 IP. 확인할 수 없는 경우 {@code null}
+     *
+     * @return 인증 정보
+     */
+    private Authentication authenticateWithToken(String token, String principalName, String remoteAddress) {
+        if (tokenSigner == null) {
+            throw new IllegalStateException("tokenSigner가 지정되지 않음");
+        }
+
+        initUserDetailManager();
+
+        AuthenticationTokenSigner.Token verified = tokenSigner.verify(token);
+        String userName = principalName != null || verified == null ? principalName : verified.getUserName();
+
+        if (failureThrottle != null && failureThrottle.isBlocked(userName, remoteAddress)) {
+            log.debug("로그인 실패 횟수 초과 : {}, {}", userName, remoteAddress);
+
+            writeUserLog(null, userName, remoteAddress, RESULT_KEY_FAIL_THROTTLED);
+
+            throw new BadCredentialsException(throttledMessage);
+        }
+
+        AbstractUser user = null;
+        String resultKey = RESULT_KEY_SERVER_ERROR;
+
+        try {
+            if (verified == null || (principalName != null && !principalName.equals(verified.getUserName()))) {
+                log.debug("token 확인 실패 : {}", userName);
+
+                resultKey = RESULT_KEY_FAIL_INVALID_TOKEN;
+
+                throw invalidToken(userName, remoteAddress);
+            }
+
+            user = userDetailService.getUser(userName);
+
+            if (!verified.isIssuedFor(user)) {
+                log.debug("token 발급 대상 불일치 : {}", userName);
+
+                resultKey = user == null ? RESULT_KEY_FAIL_NOT_EXIST : RESULT_KEY_FAIL_INVALID_TOKEN;
+
+                throw invalidToken(userName, remoteAddress);
+            }
+
+            if (failureThrottle != null) {
+                failureThrottle.recordSuccess(userName);
+            }
+
+            Authentication authenticated = new UsernamePasswordAuthenticationToken(user,
+                                                                                   user.getPassword(),
+                                                                                   resolveAuthorities(user));
+
+            resultKey = RESULT_KEY_SUCCESS;
+
+            return authenticated;
+        } finally {
+            writeUserLog(user, userName, remoteAddress, resultKey);
+        }
+    }
+
+    /**
+     * 올바르지 않은 token의 실패를 {@link #failureThrottle}에 기록하고 예외를 반환한다.
+     *
+     * @param userName      실패를 기록할 아이디. 확인할 수 없는 경우 {@code null}
+     * @param remoteAddress 요청 IP. 확인할 수 없는 경우 {@code null}
+     *
+     * @return 발생시킬 예외
+     */
+    private BadCredentialsException invalidToken(String userName, String remoteAddress) {
+        if (failureThrottle != null) {
+            failureThrottle.recordFailure(userName, remoteAddress);
+        }
+
+        return new BadCredentialsException(invalidTokenMessage);
+    }
+
     @Override
     public boolean supports(Class<?> aClass) {
         return true;
@@ -317,18 +681,99 @@ public class DefaultMemberAuthenticationProvider implements AuthenticationProvid
             }
 
             if (beanNames.length > 1) {
-                throw new BeanDefinitionValidationException("NGUserDetailManager를 구현한 bean이 두 개 이상임");
+                // 실제 service와 CachingUserDetailService가 함께 등록된 경우 CachingUserDetailService를 사용한다.
+                String[] cachingBeanNames = context.getBeanNamesForType(CachingUserDetailService.class);
+
+                if (cachingBeanNames.length != 1) {
+                    throw new BeanDefinitionValidationException("NGUserDetailManager를 구현한 bean이 두 개 이상임");
+                }
+
+                beanNames = cachingBeanNames;
             }
 
             userDetailService = (AbstractUserDetailService)context.getBean(beanNames[0]);
         }
     }
 
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (createdLoginAuditWriter) {
+                loginAuditWriter.shutdown();
+            }
+        }
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.context = applicationContext;
     }
 
+    /**
+     * 사용자 유형을 정의하는 필드명 지정
+     *
+     * @param userTypeFieldName 필드명
+     */
+    public void setUserTypeFieldName(String userTypeFieldName) {
+        this.userTypeFieldName = userTypeFieldName;
+        this.userTypeRoleResolver = null;
+    }
+
+    /**
+     * 사용자 유형과 권한 코드 정보 지정
+     *
+     * @param userTypeWithRoleCode 사용자 유형과 권한 코드 정보
+     */
+    public void setUserTypeWithRoleCode(Map<String, Object> userTypeWithRoleCode) {
+        this.userTypeWithRoleCode = userTypeWithRoleCode;
+        this.userTypeRoleResolver = null;
+    }
+
+    /**
+     * 사용자 유형별 권한 조회 처리. 필드명과 권한 코드 정보가 지정되지 않은 경우 {@code null}을 반환한다.
+     *
+     * @return 권한 조회 처리
+     */
+    private UserTypeRoleResolver getUserTypeRoleResolver() {
+        UserTypeRoleResolver resolver = userTypeRoleResolver;
+
+        if (resolver == null && StringUtils.isNotEmpty(userTypeFieldName) && MapUtils.isNotEmpty(userTypeWithRoleCode)) {
+            resolver = new UserTypeRoleResolver(userTypeFieldName, userTypeWithRoleCode);
+            userTypeRoleResolver = resolver;
+        }
+
+        return resolver;
+    }
+
+    /**
+     * Password encoder 지정
+     *
+     * @param passwordEncoder Password encoder
+     */
+    public void setPasswordEncoder(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        this.dummyEncodedPassword = null;
+    }
+
+    /**
+     * 존재하지 않는 사용자의 비교에 사용하는 암호화된 비밀번호. 처리 비용이 변경된 경우({@link DefaultPasswordEncoder#calibrate(long)}
+     * 등) 다시 암호화한다.
+     *
+     * @return 암호화된 비밀번호
+     */
+    private String getDummyEncodedPassword() {
+        PasswordEncoder encoder = getPasswordEncoder();
+        String dummy = dummyEncodedPassword;
+
+        if (dummy == null
+            || (encoder instanceof DefaultPasswordEncoder && ((DefaultPasswordEncoder)encoder).upgradeEncoding(dummy))) {
+            dummy = encoder.encode(DUMMY_PASSWORD);
+            dummyEncodedPassword = dummy;
+        }
+
+        return dummy;
+    }
+
     public PasswordEncoder getPasswordEncoder() {
         if (passwordEncoder == null) {
             log.info("Return default password encoder");
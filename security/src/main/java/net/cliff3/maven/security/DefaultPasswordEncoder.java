@@ -1,40 +1,317 @@
 package net.cliff3.maven.security;
 
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import net.cliff3.maven.common.util.crypto.CryptoUtil;
+import net.cliff3.maven.security.password.PasswordHashAlgorithm;
+import net.cliff3.maven.security.password.Pbkdf2PasswordHashAlgorithm;
+import net.cliff3.maven.security.password.ScryptPasswordHashAlgorithm;
 
 /**
- * Spring security에서 사용하는 password encoder. SHA-256으로 처리.
+ * Spring security에서 사용하는 password encoder.
+ * <p>
+ * {@link PasswordHashAlgorithm}을 이용하여 암호화하며(기본값 PBKDF2-HMAC-SHA256), 결과는
+ * <strong>$알고리즘$처리 비용$salt$hash</strong> 형태로 알고리즘, 처리 비용, salt를 함께 저장한다. 이전 버전의 SHA-256
+ * 결과(base64)도 비교할 수 있으며, {@link #upgradeEncoding(String)}을 이용하여 로그인 시점에 현재 설정으로 갱신할 수 있다.
+ * </p>
  *
  * @author JoonHo Son
+ * @see PasswordHashAlgorithm
  * @since 0.3.0
  */
+@Slf4j
 public class DefaultPasswordEncoder implements PasswordEncoder {
+    /**
+     * 암호화 결과 구분자
+     */
+    public static final char DELIMITER = '$';
+
+    /**
+     * 기본 salt 길이(byte)
+     */
+    public static final int DEFAULT_SALT_LENGTH = 16;
+
+    /**
+     * 보정시 사용하는 비밀번호
+     */
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    /**
+     * 보정시 처리 비용별 측정 횟수
+     */
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    /**
+     * 비교 가능한 알고리즘
+     */
+    private final Map<String, PasswordHashAlgorithm> algorithms = new ConcurrentHashMap<>();
+
+    /**
+     * Salt 생성
+     */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 암호화에 사용하는 알고리즘
+     */
+    @Getter
+    private volatile PasswordHashAlgorithm algorithm;
+
+    /**
+     * 암호화에 사용하는 처리 비용
+     */
+    @Getter
+    private volatile int cost;
+
+    /**
+     * Salt 길이(byte)
+     */
+    @Setter
+    private int saltLength = DEFAULT_SALT_LENGTH;
+
+    /**
+     * PBKDF2-HMAC-SHA256을 이용하는 constructor
+     */
+    public DefaultPasswordEncoder() {
+        this(new Pbkdf2PasswordHashAlgorithm());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param algorithm 암호화에 사용하는 알고리즘
+     */
+    public DefaultPasswordEncoder(PasswordHashAlgorithm algorithm) {
+        addAlgorithm(new Pbkdf2PasswordHashAlgorithm());
+        addAlgorithm(new ScryptPasswordHashAlgorithm());
+        setAlgorithm(algorithm);
+    }
+
+    /**
+     * 암호화에 사용하는 알고리즘 지정. 처리 비용은 해당 알고리즘의 기본값으로 변경된다.
+     *
+     * @param algorithm 알고리즘
+     */
+    public void setAlgorithm(PasswordHashAlgorithm algorithm) {
+        addAlgorithm(algorithm);
+
+        this.algorithm = algorithm;
+        this.cost = algorithm.getDefaultCost();
+    }
+
+    /**
+     * 암호화에 사용하는 처리 비용 지정. 현재 알고리즘의 {@link PasswordHashAlgorithm#getMinimumCost()} ~
+     * {@link PasswordHashAlgorithm#getMaximumCost()} 범위여야 하므로 알고리즘을 변경할 경우 먼저 지정한다.
+     *
+     * @param cost 처리 비용
+     *
+     * @throws IllegalArgumentException 처리 비용이 범위를 벗어난 경우
+     */
+    public void setCost(int cost) {
+        this.cost = checkCost(algorithm, cost);
+    }
+
+    /**
+     * 비교 가능한 알고리즘 추가. 같은 식별자의 알고리즘이 있을 경우 대체한다.
+     *
+     * @param algorithm 알고리즘
+     */
+    public void addAlgorithm(PasswordHashAlgorithm algorithm) {
+        if (algorithm.getId().indexOf(DELIMITER) >= 0) {
+            throw new IllegalArgumentException("알고리즘 식별자에 구분자를 사용할 수 없음 : " + algorithm.getId());
+        }
+
+        algorithms.put(algorithm.getId(), algorithm);
+    }
+
     @Override
     public String encode(CharSequence rawPassword) {
-        return encodePassword(rawPassword);
+        PasswordHashAlgorithm currentAlgorithm = algorithm;
+        int currentCost = cost;
+        byte[] salt = new byte[saltLength];
+
+        random.nextBytes(salt);
+
+        byte[] hash = currentAlgorithm.hash(rawPassword, salt, currentCost);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+
+        return DELIMITER + currentAlgorithm.getId()
+               + DELIMITER + currentCost
+               + DELIMITER + encoder.encodeToString(salt)
+               + DELIMITER + encoder.encodeToString(hash);
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        String encodedRawPassword = encodePassword(rawPassword);
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        if (encodedPassword.charAt(0) != DELIMITER) {
+            return CryptoUtil.isEqual(encodedPassword, encodeLegacyPassword(rawPassword));
+        }
+
+        EncodedPassword encoded = EncodedPassword.parse(encodedPassword);
+
+        if (encoded == null) {
+            log.warn("암호화된 비밀번호 형식 오류");
+
+            return false;
+        }
+
+        PasswordHashAlgorithm target = algorithms.get(encoded.algorithm);
 
-        return encodedPassword.equals(encodedRawPassword);
+        if (target == null) {
+            log.warn("지원하지 않는 알고리즘 : {}", encoded.algorithm);
+
+            return false;
+        }
+
+        if (encoded.cost <= 0 || encoded.cost > target.getMaximumCost()) {
+            log.warn("처리 비용 범위 오류 : {}", encoded.cost);
+
+            return false;
+        }
+
+        return MessageDigest.isEqual(encoded.hash, target.hash(rawPassword, encoded.salt, encoded.cost));
+    }
+
+    /**
+     * 암호화된 비밀번호가 현재 설정(알고리즘, 처리 비용)보다 약한 경우 {@code true}를 반환한다. 비밀번호가 일치한 후 이 값이
+     * {@code true}일 경우 {@link #encode(CharSequence)}로 다시 암호화하여 저장한다.
+     *
+     * @param encodedPassword 암호화된 비밀번호
+     *
+     * @return 갱신 필요 여부
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        if (encodedPassword.charAt(0) != DELIMITER) {
+            // 이전 버전의 SHA-256 결과
+            return true;
+        }
+
+        EncodedPassword encoded = EncodedPassword.parse(encodedPassword);
+
+        return encoded != null && (!algorithm.getId().equals(encoded.algorithm) || encoded.cost < cost);
     }
 
     /**
-     * 전달된 문자열을 {@link CryptoUtil#makeSHA256Hash(String)}을 이용하여 암호화 한 후
-     * {@link  Base64.Encoder#encodeToString(byte[])}를 이용하여 base64 처리 후 반환
+     * 현재 장비에서 비밀번호 하나의 처리 시간이 목표 시간에 가장 가깝도록 처리 비용을 보정하여 {@link #cost}에 지정한다.
+     * 애플리케이션 시작 시점에 한 번 호출한다.
+     *
+     * @param targetMillis 목표 처리 시간(ms)
+     *
+     * @return 보정된 처리 비용
+     * @throws IllegalArgumentException 목표 처리 시간이 0 이하이거나 알고리즘이 범위를 벗어난 처리 비용을 반환한 경우
+     */
+    public int calibrate(long targetMillis) {
+        if (targetMillis <= 0) {
+            throw new IllegalArgumentException("목표 처리 시간 오류 : " + targetMillis);
+        }
+
+        PasswordHashAlgorithm target = algorithm;
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        byte[] salt = new byte[saltLength];
+        int current = target.getMinimumCost();
+        int previous = -1;
+        long previousElapsed = 0;
+        long elapsed;
+
+        // JIT 준비
+        for (int i = 0; i < CALIBRATION_ROUNDS * 2; i++) {
+            target.hash(CALIBRATION_PASSWORD, salt, current);
+        }
+
+        while (true) {
+            elapsed = Long.MAX_VALUE;
+
+            // GC 등의 영향을 줄이기 위해 최소값 사용
+            for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+                long startedAt = System.nanoTime();
+
+                target.hash(CALIBRATION_PASSWORD, salt, current);
+
+                elapsed = Math.min(elapsed, System.nanoTime() - startedAt);
+            }
+
+            log.debug("calibrate {} cost : {}, elapsed : {}ms", target.getId(), current,
+                      TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+            if (elapsed >= targetNanos || current >= target.getMaximumCost()) {
+                break;
+            }
+
+            int next = target.nextCost(current, elapsed, targetNanos);
+
+            if (next <= current) {
+                break;
+            }
+
+            checkCost(target, next);
+
+            previous = current;
+            previousElapsed = elapsed;
+            current = next;
+        }
+
+        // 목표 시간을 넘은 경우 이전 처리 비용이 더 가까우면 이전 값을 사용
+        if (previous > 0 && elapsed - targetNanos > targetNanos - previousElapsed) {
+            current = previous;
+        }
+
+        log.info("calibrated password hash {} cost : {}", target.getId(), current);
+
+        this.cost = checkCost(target, current);
+
+        return current;
+    }
+
+    /**
+     * 처리 비용이 알고리즘의 허용 범위인지 확인한다.
+     *
+     * @param target 알고리즘
+     * @param cost   처리 비용
+     *
+     * @return 처리 비용
+     * @throws IllegalArgumentException 처리 비용이 범위를 벗어난 경우
+     */
+    private static int checkCost(PasswordHashAlgorithm target, int cost) {
+        if (cost < target.getMinimumCost() || cost > target.getMaximumCost()) {
+            throw new IllegalArgumentException(String.format("%s 처리 비용 범위 오류 : %d (%d ~ %d)",
+                                                             target.getId(),
+                                                             cost,
+                                                             target.getMinimumCost(),
+                                                             target.getMaximumCost()));
+        }
+
+        return cost;
+    }
+
+    /**
+     * 이전 버전의 암호화 처리. 전달된 문자열을 {@link CryptoUtil#makeSHA256Hash(String)}을 이용하여 암호화 한 후
+     * {@link  Base64.Encoder#encodeToString(byte[])}를 이용하여 base64 처리 후 반환. 이전 버전의 {@link #encode(CharSequence)}
+     * 결과와 같으며, {@link AuthenticationCustomComparePassword}의 기본 구현에서도 사용한다.
      *
      * @param rawPassword 평문 비밀번호
      *
      * @return 암호화된 결과
      */
-    private String encodePassword(CharSequence rawPassword) {
+    String encodeLegacyPassword(CharSequence rawPassword) {
         Optional<byte[]> result = CryptoUtil.makeSHA256Hash(String.valueOf(rawPassword));
 
         if (result.isPresent()) {
@@ -43,4 +320,50 @@ public class DefaultPasswordEncoder implements PasswordEncoder {
             throw new RuntimeException("비밀번호 인코딩 실패");
         }
     }
+
+    /**
+     * <strong>$알고리즘$처리 비용$salt$hash</strong> 형태의 암호화된 비밀번호
+     */
+    private static final class EncodedPassword {
+        private final String algorithm;
+
+        private final int cost;
+
+        private final byte[] salt;
+
+        private final byte[] hash;
+
+        private EncodedPassword(String algorithm, int cost, byte[] salt, byte[] hash) {
+            this.algorithm = algorithm;
+            this.cost = cost;
+            this.salt = salt;
+            this.hash = hash;
+        }
+
+        /**
+         * 암호화된 비밀번호 분석
+         *
+         * @param encodedPassword 암호화된 비밀번호
+         *
+         * @return 분석 결과. 형식이 올바르지 않을 경우 {@code null}
+         */
+        private static EncodedPassword parse(String encodedPassword) {
+            String[] parts = encodedPassword.split("\\$", -1);
+
+            if (parts.length != 5 || !parts[0].isEmpty()) {
+                return null;
+            }
+
+            try {
+                Base64.Decoder decoder = Base64.getDecoder();
+
+                return new EncodedPassword(parts[1],
+                                           Integer.parseInt(parts[2]),
+                                           decoder.decode(parts[3]),
+                                           decoder.decode(parts[4]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
 }
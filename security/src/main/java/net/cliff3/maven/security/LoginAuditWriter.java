@@ -0,0 +1,356 @@
+package net.cliff3.maven.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.security.dao.BatchUserLogDao;
+import net.cliff3.maven.security.model.DefaultUserLog;
+
+/**
+ * 접속 로그를 비동기로 일괄 저장한다.
+ * <p>
+ * {@link #submit(DefaultUserLog)}로 전달된 로그는 최대 {@link #capacity}개까지 대기열에 저장되며, 별도의 thread가
+ * {@link #batchSize}개씩 모아 {@link BatchUserLogDao#insertLogs(List)}로 저장한다. 대기열이 {@link #batchSize}개 이상이 되거나
+ * {@link #flushIntervalMillis}가 지나면 저장한다. 대기열이 가득 찬 경우 {@link #overflowPolicy}에 따라 버리거나 일정 시간
+ * 대기한다.
+ * </p>
+ * <p>
+ * {@link #shutdown()}(혹은 {@link #destroy()}) 호출시 대기중인 로그를 모두 저장한 후 종료한다. 종료와 동시에 추가된 로그는
+ * 저장되거나 버려진 로그로 집계되며, 집계 없이 사라지지 않는다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider
+ * @since 0.3.0
+ */
+@Slf4j
+public class LoginAuditWriter implements DisposableBean {
+    /**
+     * 대기열이 가득 찬 경우 처리 방식
+     */
+    public enum OverflowPolicy {
+        /**
+         * 로그를 버린다.
+         */
+        DROP,
+
+        /**
+         * {@link #blockTimeoutMillis} 동안 대기하며, 그래도 가득 찬 경우 버린다.
+         */
+        BLOCK
+    }
+
+    /**
+     * 저장 thread 이름
+     */
+    private static final String THREAD_NAME = "login-audit-writer";
+
+    /**
+     * 대기열이 가득 찬 경우 재확인 간격(ns)
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * 로그 저장 DAO
+     */
+    private final BatchUserLogDao userLogDao;
+
+    /**
+     * 대기열
+     */
+    private final Queue<DefaultUserLog> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 대기열 크기
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * 저장된 로그 개수
+     */
+    private final LongAdder written = new LongAdder();
+
+    /**
+     * 버려진 로그 개수
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 저장 실패한 로그 개수
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 최대 대기열 크기
+     */
+    @Getter
+    @Setter
+    private volatile int capacity = 10000;
+
+    /**
+     * 한 번에 저장하는 최대 개수
+     */
+    @Getter
+    @Setter
+    private volatile int batchSize = 100;
+
+    /**
+     * 저장 주기(ms)
+     */
+    @Getter
+    @Setter
+    private volatile long flushIntervalMillis = 1000;
+
+    /**
+     * 대기열이 가득 찬 경우 처리 방식
+     */
+    @Getter
+    @Setter
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * {@link OverflowPolicy#BLOCK}일 경우 최대 대기 시간(ms)
+     */
+    @Getter
+    @Setter
+    private volatile long blockTimeoutMillis = 100;
+
+    /**
+     * 종료시 최대 대기 시간(ms)
+     */
+    @Getter
+    @Setter
+    private long shutdownTimeoutMillis = 10000;
+
+    /**
+     * 저장 thread
+     */
+    private final Thread worker;
+
+    /**
+     * 실행 여부
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor
+     *
+     * @param userLogDao 로그 저장 DAO
+     */
+    public LoginAuditWriter(BatchUserLogDao userLogDao) {
+        if (userLogDao == null) {
+            throw new IllegalArgumentException("userLogDao must not be null");
+        }
+
+        this.userLogDao = userLogDao;
+        this.worker = new Thread(this::run, THREAD_NAME);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 로그를 대기열에 추가한다. 저장은 별도의 thread에서 처리된다.
+     *
+     * @param userLog 로그 정보
+     *
+     * @return 추가 여부. 대기열이 가득 차거나 종료된 경우 {@code false}
+     */
+    public boolean submit(DefaultUserLog userLog) {
+        if (userLog == null) {
+            return false;
+        }
+
+        long deadline = 0;
+
+        while (running) {
+            int size = queued.get();
+
+            if (size < capacity) {
+                if (queued.compareAndSet(size, size + 1)) {
+                    queue.offer(userLog);
+
+                    // 종료중에 추가된 경우 저장 thread가 이미 종료되었을 수 있으므로 직접 꺼내어 버린다. 꺼내지 못한 경우
+                    // 저장 thread 혹은 shutdown()에서 처리된 것이다.
+                    if (!running && queue.remove(userLog)) {
+                        queued.decrementAndGet();
+
+                        break;
+                    }
+
+                    if (size + 1 >= batchSize) {
+                        LockSupport.unpark(worker);
+                    }
+
+                    return true;
+                }
+
+                continue;
+            }
+
+            if (overflowPolicy != OverflowPolicy.BLOCK) {
+                break;
+            }
+
+            if (deadline == 0) {
+                deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+
+                LockSupport.unpark(worker);
+            } else if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+
+        dropped.increment();
+
+        return false;
+    }
+
+    /**
+     * 대기중인 로그를 모두 저장한 후 종료한다. 이후 추가되는 로그는 버려진다.
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+
+        LockSupport.unpark(worker);
+
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            log.warn("login audit writer did not finish in {}ms, remain : {}", shutdownTimeoutMillis, queued.get());
+
+            return;
+        }
+
+        // 저장 thread가 종료된 후 추가된 로그 처리
+        List<DefaultUserLog> batch;
+
+        while (!(batch = drain()).isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    /**
+     * 대기중인 로그 개수
+     *
+     * @return 대기중인 로그 개수
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * 저장된 로그 개수
+     *
+     * @return 저장된 로그 개수
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * 버려진 로그 개수
+     *
+     * @return 버려진 로그 개수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 저장 실패한 로그 개수
+     *
+     * @return 저장 실패한 로그 개수
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 저장 thread 처리. 종료 후에도 대기열이 빌 때까지 저장한다.
+     */
+    private void run() {
+        while (running || queued.get() > 0) {
+            List<DefaultUserLog> batch = drain();
+
+            if (batch.isEmpty()) {
+                if (running) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+                }
+
+                continue;
+            }
+
+            write(batch);
+
+            // 모아진 개수가 적을 경우 주기만큼 대기
+            if (running && batch.size() < batchSize) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+            }
+        }
+
+        log.debug("login audit writer stopped, written : {}, dropped : {}, failed : {}",
+                  written.sum(), dropped.sum(), failed.sum());
+    }
+
+    /**
+     * 대기열에서 최대 {@link #batchSize}개를 꺼낸다.
+     *
+     * @return 로그 목록
+     */
+    private List<DefaultUserLog> drain() {
+        int limit = batchSize;
+        List<DefaultUserLog> batch = new ArrayList<>(Math.min(limit, Math.max(queued.get(), 1)));
+        DefaultUserLog userLog;
+
+        while (batch.size() < limit && (userLog = queue.poll()) != null) {
+            batch.add(userLog);
+        }
+
+        queued.addAndGet(-batch.size());
+
+        return batch;
+    }
+
+    /**
+     * 로그 저장. 실패한 경우 기록 후 버린다.
+     *
+     * @param batch 로그 목록
+     */
+    private void write(List<DefaultUserLog> batch) {
+        try {
+            userLogDao.insertLogs(batch);
+
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+
+            log.error("접속 로그 저장 실패 : {}건", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package net.cliff3.maven.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 아이디/IP별 로그인 실패 횟수 제한. 일정 시간({@link #windowMillis}) 동안 실패 횟수가 제한을 넘은 아이디 혹은 IP는 해당 시간이
+ * 지날 때까지 비밀번호 검증 없이 거절된다.
+ * <p>
+ * 실패 정보는 key의 hash 값에 따라 {@link #SEGMENT_COUNT}개의 구간으로 나누어 저장하며, 각 구간은 최근에 사용하지 않은
+ * 순서(LRU)로 정렬된다. 구간별 저장 개수가 {@link #maxEntries}를 구간 개수로 나눈 값을 넘을 경우 가장 오래 사용하지 않은 정보를
+ * 하나 삭제하므로 존재하지 않는 아이디 등으로 반복하여 실패하더라도 저장 개수는 제한되며, 실패 기록은 항상 일정한 시간에 처리된다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider
+ * @since 0.3.0
+ */
+public class LoginFailureThrottle {
+    /**
+     * 아이디 key 접두사
+     */
+    private static final String USER_KEY_PREFIX = "u:";
+
+    /**
+     * IP key 접두사
+     */
+    private static final String ADDRESS_KEY_PREFIX = "a:";
+
+    /**
+     * 저장 구간 개수(2의 거듭제곱)
+     */
+    private static final int SEGMENT_COUNT = 16;
+
+    /**
+     * 아이디별 최대 실패 횟수
+     */
+    @Getter
+    @Setter
+    private int maxUserFailures = 5;
+
+    /**
+     * IP별 최대 실패 횟수
+     */
+    @Getter
+    @Setter
+    private int maxAddressFailures = 50;
+
+    /**
+     * 실패 횟수 유지 시간(ms)
+     */
+    @Getter
+    @Setter
+    private long windowMillis = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * 최대 저장 개수. 넘을 경우 가장 오래 사용하지 않은 정보를 삭제한다.
+     */
+    @Getter
+    @Setter
+    private volatile int maxEntries = 100000;
+
+    /**
+     * 구간별 실패 정보
+     */
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    /**
+     * Constructor
+     */
+    public LoginFailureThrottle() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * 로그인 시도를 거절해야 하는지 확인한다.
+     *
+     * @param userName      아이디. {@code null}일 경우 확인하지 않는다.
+     * @param remoteAddress IP. {@code null}일 경우 확인하지 않는다.
+     *
+     * @return 거절 여부
+     */
+    public boolean isBlocked(String userName, String remoteAddress) {
+        long now = System.currentTimeMillis();
+
+        return (userName != null && exceeds(USER_KEY_PREFIX + userName, maxUserFailures, now))
+               || (remoteAddress != null && exceeds(ADDRESS_KEY_PREFIX + remoteAddress, maxAddressFailures, now));
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param userName      아이디. {@code null}일 경우 기록하지 않는다.
+     * @param remoteAddress IP. {@code null}일 경우 기록하지 않는다.
+     */
+    public void recordFailure(String userName, String remoteAddress) {
+        long now = System.currentTimeMillis();
+
+        if (userName != null) {
+            increment(USER_KEY_PREFIX + userName, now);
+        }
+
+        if (remoteAddress != null) {
+            increment(ADDRESS_KEY_PREFIX + remoteAddress, now);
+        }
+    }
+
+    /**
+     * 로그인 성공 기록. 해당 아이디의 실패 기록을 삭제한다.
+     *
+     * @param userName 아이디
+     */
+    public void recordSuccess(String userName) {
+        String key = USER_KEY_PREFIX + userName;
+        Segment segment = segmentFor(key);
+
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * 저장된 실패 정보 개수(만료된 정보 포함)
+     *
+     * @return 저장 개수
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * 실패 횟수 제한 초과 여부
+     *
+     * @param key         대상 key
+     * @param maxFailures 최대 실패 횟수
+     * @param now         현재 시각
+     *
+     * @return 초과 여부
+     */
+    private boolean exceeds(String key, int maxFailures, long now) {
+        Segment segment = segmentFor(key);
+
+        synchronized (segment) {
+            Failure failure = segment.get(key);
+
+            if (failure == null) {
+                return false;
+            }
+
+            if (failure.isExpired(now, windowMillis)) {
+                segment.remove(key);
+
+                return false;
+            }
+
+            return failure.count >= maxFailures;
+        }
+    }
+
+    /**
+     * 실패 횟수 증가. 만료된 경우 새로 시작한다.
+     *
+     * @param key 대상 key
+     * @param now 현재 시각
+     */
+    private void increment(String key, long now) {
+        Segment segment = segmentFor(key);
+
+        synchronized (segment) {
+            Failure failure = segment.get(key);
+
+            if (failure == null || failure.isExpired(now, windowMillis)) {
+                segment.put(key, new Failure(now));
+            } else {
+                failure.count++;
+            }
+        }
+    }
+
+    /**
+     * key가 저장되는 구간
+     *
+     * @param key 대상 key
+     *
+     * @return 저장 구간
+     */
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * 최근에 사용하지 않은 순서로 정렬된 실패 정보. 해당 인스턴스로 동기화하여 사용한다.
+     */
+    private final class Segment extends LinkedHashMap<String, Failure> {
+        private static final long serialVersionUID = 1L;
+
+        private Segment() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Failure> eldest) {
+            return size() > Math.max(1, maxEntries / SEGMENT_COUNT);
+        }
+    }
+
+    /**
+     * 실패 정보. {@link Segment}의 동기화 내에서만 사용된다.
+     */
+    private static final class Failure {
+        private final long startedAt;
+
+        private int count = 1;
+
+        private Failure(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean isExpired(long now, long windowMillis) {
+            return now - startedAt >= windowMillis;
+        }
+    }
+}
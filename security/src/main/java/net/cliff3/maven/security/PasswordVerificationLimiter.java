@@ -0,0 +1,186 @@
+package net.cliff3.maven.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 검증(hash 처리)의 동시 실행 개수를 제한한다. 제한을 넘는 요청은 {@link #timeoutMillis} 동안 대기하며, 대기 시간을
+ * 넘을 경우 {@link AuthenticationServiceException}을 발생시켜 다른 요청이 CPU를 사용할 수 있도록 한다. {@link #executor}가
+ * 실행을 거절한 경우({@link RejectedExecutionException})도 동일하게 처리한다.
+ * <p>
+ * {@link #setExecutor(Executor)}가 지정된 경우 검증은 해당 {@link Executor}에서 실행되며, 요청 thread는 검증이 끝날 때까지
+ * 대기한다. 따라서 요청 thread를 반환하는 효과는 없으며, hash 처리를 별도의 thread pool(낮은 우선 순위의 thread 등)로 분리하여
+ * 요청 처리 thread pool의 CPU 사용을 제한하는 용도로만 사용한다. 요청 thread의 점유 시간은 {@link #timeoutMillis}와
+ * 검증 시간의 합을 넘지 않는다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider
+ * @since 0.3.0
+ */
+@Slf4j
+public class PasswordVerificationLimiter {
+    /**
+     * 기본 대기 시간(ms)
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 3000;
+
+    /**
+     * 동시 실행 제한
+     */
+    private final Semaphore permits;
+
+    /**
+     * 최대 동시 실행 개수
+     */
+    @Getter
+    private final int maxConcurrent;
+
+    /**
+     * 대기 시간(ms)
+     */
+    @Getter
+    @Setter
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    /**
+     * 검증을 실행할 {@link Executor}. {@code null}일 경우 호출 thread에서 실행하며, 지정된 경우에도 호출 thread는 결과를 기다린다.
+     */
+    @Setter
+    private Executor executor;
+
+    /**
+     * 서버가 처리할 수 없을 경우 메세지
+     */
+    @Setter
+    private String rejectedMessage = "요청이 많아 로그인을 처리할 수 없습니다. 잠시 후 다시 시도하여 주십시오.";
+
+    /**
+     * 대기중인 요청 개수
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * 거절된 요청 개수
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 가용 processor 개수만큼 동시 실행을 허용하는 constructor
+     */
+    public PasswordVerificationLimiter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxConcurrent 최대 동시 실행 개수
+     */
+    public PasswordVerificationLimiter(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be greater than 0 : " + maxConcurrent);
+        }
+
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 동시 실행 제한 내에서 검증을 실행한다.
+     *
+     * @param verification 검증 처리
+     * @param <T>          검증 결과 유형
+     *
+     * @return 검증 결과
+     * @throws AuthenticationServiceException 대기 시간 초과, 대기중 interrupt 발생 혹은 {@link #executor}가 실행을 거절한 경우
+     */
+    public <T> T verify(Supplier<T> verification) {
+        waiting.incrementAndGet();
+
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            rejected.increment();
+
+            throw new AuthenticationServiceException(rejectedMessage, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (!acquired) {
+            rejected.increment();
+
+            log.warn("password verification rejected, active : {}, waiting : {}", getActiveCount(), waiting.get());
+
+            throw new AuthenticationServiceException(rejectedMessage);
+        }
+
+        try {
+            if (executor == null) {
+                return verification.get();
+            }
+
+            return CompletableFuture.supplyAsync(verification, executor).join();
+        } catch (RejectedExecutionException e) {
+            // executor의 대기열이 가득 찬 경우 대기 시간 초과와 동일하게 처리
+            rejected.increment();
+
+            log.warn("password verification rejected by executor, active : {}", getActiveCount());
+
+            throw new AuthenticationServiceException(rejectedMessage, e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 실행중인 검증 개수
+     *
+     * @return 실행중인 검증 개수
+     */
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 대기중인 요청 개수
+     *
+     * @return 대기중인 요청 개수
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    /**
+     * 거절된 요청 개수
+     *
+     * @return 거절된 요청 개수
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,148 @@
+package net.cliff3.maven.security;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.security.model.AbstractUser;
+import net.cliff3.maven.security.model.Role;
+import net.cliff3.maven.security.model.RoleRegistry;
+
+/**
+ * 사용자 유형 필드의 값으로 권한 목록을 조회한다.
+ * <p>
+ * 사용자 유형별 권한 목록은 생성시 변경할 수 없는 {@link Set}으로 미리 만들어 두며, 사용자 유형 필드는 사용자 class별로 한 번만
+ * 조회하여 {@link MethodHandle}로 저장한다. 필드는 해당 class와 상위 class에서 찾는다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see DefaultMemberAuthenticationProvider
+ * @since 0.3.0
+ */
+@Slf4j
+final class UserTypeRoleResolver {
+    /**
+     * 사용자 유형 필드명
+     */
+    private final String fieldName;
+
+    /**
+     * 사용자 유형별 권한 목록
+     */
+    private final Map<Object, Set<Role>> rolesByUserType;
+
+    /**
+     * 사용자 class별 사용자 유형 필드 getter. {@code Object (AbstractUser)} 형태로 변환되어 있다.
+     */
+    private final ClassValue<Accessor> accessors = new ClassValue<Accessor>() {
+        @Override
+        protected Accessor computeValue(Class<?> type) {
+            return Accessor.of(type, fieldName);
+        }
+    };
+
+    /**
+     * Constructor
+     *
+     * @param fieldName            사용자 유형 필드명
+     * @param userTypeWithRoleCode 사용자 유형과 권한 코드 정보
+     */
+    UserTypeRoleResolver(String fieldName, Map<String, Object> userTypeWithRoleCode) {
+        Map<Object, Set<Role>> roles = new HashMap<>();
+
+        for (Map.Entry<String, Object> entry : userTypeWithRoleCode.entrySet()) {
+            roles.put(entry.getKey(), Collections.singleton(RoleRegistry.intern(new Role((String)entry.getValue(), true))));
+        }
+
+        this.fieldName = fieldName;
+        this.rolesByUserType = Collections.unmodifiableMap(roles);
+    }
+
+    /**
+     * 사용자 유형에 해당하는 권한 목록 조회
+     *
+     * @param user 대상 사용자
+     *
+     * @return 권한 목록. 일치하는 사용자 유형이 없을 경우 {@code null}
+     * @throws NoSuchFieldException   사용자 유형 필드가 존재하지 않을 경우
+     * @throws IllegalAccessException 사용자 유형 필드에 접근할 수 없을 경우
+     */
+    Set<Role> resolve(AbstractUser user) throws NoSuchFieldException, IllegalAccessException {
+        Object userType = accessors.get(user.getClass()).get(user);
+
+        return userType == null ? null : rolesByUserType.get(userType);
+    }
+
+    /**
+     * 사용자 class의 사용자 유형 필드 getter. 조회에 실패한 경우 실패 원인을 저장하여 {@link #get(AbstractUser)} 호출시
+     * 발생시킨다.
+     */
+    private static final class Accessor {
+        private final MethodHandle getter;
+
+        private final ReflectiveOperationException failure;
+
+        private Accessor(MethodHandle getter, ReflectiveOperationException failure) {
+            this.getter = getter;
+            this.failure = failure;
+        }
+
+        private static Accessor of(Class<?> type, String fieldName) {
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                try {
+                    Field field = current.getDeclaredField(fieldName);
+
+                    field.setAccessible(true);
+
+                    MethodHandle getter = MethodHandles.lookup()
+                                                       .unreflectGetter(field)
+                                                       .asType(MethodType.methodType(Object.class,
+                                                                                     AbstractUser.class));
+
+                    return new Accessor(getter, null);
+                } catch (NoSuchFieldException e) {
+                    // 상위 class에서 찾는다.
+                } catch (IllegalAccessException | RuntimeException e) {
+                    log.error("사용자 유형 필드 접근 오류 : {}.{}", type.getName(), fieldName, e);
+
+                    IllegalAccessException failure;
+
+                    if (e instanceof IllegalAccessException) {
+                        failure = (IllegalAccessException)e;
+                    } else {
+                        failure = new IllegalAccessException(e.getMessage());
+
+                        failure.initCause(e);
+                    }
+
+                    return new Accessor(null, failure);
+                }
+            }
+
+            return new Accessor(null, new NoSuchFieldException(type.getName() + "." + fieldName));
+        }
+
+        private Object get(AbstractUser user) throws NoSuchFieldException, IllegalAccessException {
+            if (failure instanceof NoSuchFieldException) {
+                throw (NoSuchFieldException)failure;
+            } else if (failure != null) {
+                throw (IllegalAccessException)failure;
+            }
+
+            try {
+                return (Object)getter.invokeExact(user);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
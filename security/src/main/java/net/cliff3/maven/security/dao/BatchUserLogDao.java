@@ -0,0 +1,25 @@
+package net.cliff3.maven.security.dao;
+
+import java.util.List;
+
+import net.cliff3.maven.security.model.DefaultUserLog;
+
+/**
+ * 사용자 접속 로그 일괄 처리
+ * <p>
+ * {@link net.cliff3.maven.security.LoginAuditWriter}는 이 interface를 구현한 DAO로만 생성할 수 있으며,
+ * {@link net.cliff3.maven.security.DefaultMemberAuthenticationProvider}에 이 interface를 구현하지 않은 DAO가 지정된
+ * 경우 접속 로그를 저장하지 않는다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+public interface BatchUserLogDao extends UserLogDao {
+    /**
+     * 접속 로그 일괄 저장. {@link net.cliff3.maven.security.LoginAuditWriter}에서 호출된다.
+     *
+     * @param logs 로그 정보 목록
+     */
+    public void insertLogs(List<? extends DefaultUserLog> logs);
+}
@@ -4,8 +4,13 @@ import net.cliff3.maven.security.model.DefaultUserLog;
 
 /**
  * 사용자 접속 로그 처리
+ * <p>
+ * {@link #insertLog(Class)}는 로그 정보를 전달할 수 없으므로 접속 로그 저장에 사용되지 않는다. 접속 로그를 저장하려면
+ * {@link BatchUserLogDao}를 구현하여야 한다.
+ * </p>
  *
  * @author JoonHo Son
+ * @see BatchUserLogDao
  * @since 0.3.0
  */
 public interface UserLogDao {
@@ -1,19 +1,31 @@
 package net.cliff3.maven.security.model;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 사용자 DTO. Spring security 연동시 추상 메서드를 구현하여 사용한다.
+ * <p>
+ * 세션 저장소 복제 등의 직렬화 크기를 줄이기 위해 상태 값은 1 byte의 bit로, 권한 목록은 개수와 {@link Role}의 직렬화 형태로
+ * 저장한다. 구현 class의 필드는 기본 방식으로 직렬화된다. 0.3.0에서 직렬화 형태가 변경되었으므로 이전 버전에서 직렬화된
+ * 사용자(복제된 세션 등)는 {@link java.io.InvalidClassException}이 발생하여 읽을 수 없다. 배포시 세션 저장소를 비워야 한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
@@ -21,37 +33,87 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ToString
 public abstract class AbstractUser implements UserDetails, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 직렬화 bit. 인증 만료
+     */
+    private static final int FLAG_CREDENTIALS_EXPIRED = 1;
+
+    /**
+     * 직렬화 bit. 계정 만료
+     */
+    private static final int FLAG_ACCOUNT_EXPIRED = 1 << 1;
+
+    /**
+     * 직렬화 bit. 계정 잠김
+     */
+    private static final int FLAG_ACCOUNT_LOCKED = 1 << 2;
+
+    /**
+     * 직렬화 bit. 계정 사용 가능
+     */
+    private static final int FLAG_ENABLED = 1 << 3;
+
+    /**
+     * 직렬화 bit. 권한 목록 존재
+     */
+    private static final int FLAG_AUTHORITIES = 1 << 4;
+
     /**
      * 인증 만료 여부
      */
-    private boolean credentialsExpired = false;
+    private transient boolean credentialsExpired = false;
 
     /**
      * 계정 만료 여부
      */
-    private boolean accountExpired = false;
+    private transient boolean accountExpired = false;
 
     /**
      * 계정 잠김 여부
      */
-    private boolean accountLocked = false;
+    private transient boolean accountLocked = false;
 
     /**
      * 계정 사용 가능 여부
      */
-    private boolean enabled = false;
+    private transient boolean enabled = false;
 
     /**
      * 권한 목록
      *
      * @see Role
      */
-    @Setter
-    private Set<Role> authorities = new HashSet<>();
+    private transient Set<Role> authorities = new HashSet<>();
 
+    /**
+     * 권한 목록의 확인용 색인. 권한 목록이 변경되면 다시 계산한다.
+     */
+    @ToString.Exclude
+    private transient volatile AuthorityIndex authorityIndex;
+
+    /**
+     * 권한 목록. 반환된 목록을 변경하면 {@link #hasAuthority(Role)} 등의 확인 결과에도 반영된다. {@link #setAuthorities(Set)}로
+     * 전달한 {@link Set}을 직접 변경한 경우에는 {@link #setAuthorities(Set)}를 다시 호출해야 한다.
+     *
+     * @return 권한 목록
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return authorities;
+        return authorities == null ? null : new AuthoritySet();
+    }
+
+    /**
+     * 권한 목록 지정
+     *
+     * @param authorities 권한 목록
+     *
+     * @see Role
+     */
+    public void setAuthorities(Set<Role> authorities) {
+        this.authorities = authorities;
+        this.authorityIndex = null;
     }
 
     /**
@@ -67,10 +129,11 @@ public abstract class AbstractUser implements UserDetails, Serializable {
         }
 
         authorities.add(authority);
+        authorityIndex = null;
     }
 
     /**
-     * 해당 사용자가 특정 권한이 있는지 확인한다.
+     * 해당 사용자가 특정 권한이 있는지 확인한다. 권한 코드로 비교하며, 확인하는 권한은 {@link RoleRegistry}에 등록하지 않는다.
      *
      * @param authority 확인하고자 하는 권한
      *
@@ -78,8 +141,23 @@ public abstract class AbstractUser implements UserDetails, Serializable {
      * @see Role
      */
     public Boolean hasAuthority(Role authority) {
-        for (Role currentAuthority : authorities) {
-            if (authority == currentAuthority) {
+        return authority != null && getAuthorityIndex().contains(authority);
+    }
+
+    /**
+     * 해당 사용자가 주어진 권한 중 하나 이상을 가지고 있는지 확인한다. 권한 코드로 비교하며, 확인하는 권한은
+     * {@link RoleRegistry}에 등록하지 않는다.
+     *
+     * @param authorities 확인하고자 하는 권한 목록
+     *
+     * @return 권한 소유 여부
+     * @see Role
+     */
+    public boolean hasAnyAuthority(Role... authorities) {
+        AuthorityIndex index = getAuthorityIndex();
+
+        for (Role authority : authorities) {
+            if (authority != null && index.contains(authority)) {
                 return true;
             }
         }
@@ -87,6 +165,196 @@ public abstract class AbstractUser implements UserDetails, Serializable {
         return false;
     }
 
+    /**
+     * 권한 목록의 확인용 색인
+     *
+     * @return 색인
+     */
+    private AuthorityIndex getAuthorityIndex() {
+        AuthorityIndex index = authorityIndex;
+
+        if (index == null) {
+            index = new AuthorityIndex(authorities);
+            authorityIndex = index;
+        }
+
+        return index;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+
+        int flags = (credentialsExpired ? FLAG_CREDENTIALS_EXPIRED : 0)
+                    | (accountExpired ? FLAG_ACCOUNT_EXPIRED : 0)
+                    | (accountLocked ? FLAG_ACCOUNT_LOCKED : 0)
+                    | (enabled ? FLAG_ENABLED : 0)
+                    | (authorities != null ? FLAG_AUTHORITIES : 0);
+
+        out.writeByte(flags);
+
+        if (authorities != null) {
+            out.writeInt(authorities.size());
+
+            for (Role authority : authorities) {
+                Role.write(out, authority);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int flags = in.readUnsignedByte();
+
+        credentialsExpired = (flags & FLAG_CREDENTIALS_EXPIRED) != 0;
+        accountExpired = (flags & FLAG_ACCOUNT_EXPIRED) != 0;
+        accountLocked = (flags & FLAG_ACCOUNT_LOCKED) != 0;
+        enabled = (flags & FLAG_ENABLED) != 0;
+        authorities = null;
+
+        if ((flags & FLAG_AUTHORITIES) != 0) {
+            int size = in.readInt();
+
+            if (size < 0) {
+                throw new InvalidObjectException("권한 개수 오류 : " + size);
+            }
+
+            authorities = new HashSet<>();
+
+            for (int i = 0; i < size; i++) {
+                authorities.add(Role.read(in));
+            }
+        }
+    }
+
+    /**
+     * 권한 목록의 확인용 색인. {@link RoleRegistry}에 등록된 권한은 등록 순번의 bit로, 등록되지 않은 권한은 권한 코드로 저장한다.
+     */
+    private static final class AuthorityIndex {
+        /**
+         * 등록된 권한의 등록 순번 bit
+         */
+        private final long[] bits;
+
+        /**
+         * 등록되지 않은 권한의 권한 코드
+         */
+        private final Set<String> unregisteredCodes;
+
+        private AuthorityIndex(Set<Role> authorities) {
+            long[] bits = new long[0];
+            Set<String> unregisteredCodes = Collections.emptySet();
+
+            if (authorities != null) {
+                for (Role authority : authorities) {
+                    if (authority == null || authority.getRoleCode() == null) {
+                        continue;
+                    }
+
+                    int index = RoleRegistry.indexOf(authority);
+
+                    if (index < 0) {
+                        if (unregisteredCodes.isEmpty()) {
+                            unregisteredCodes = new HashSet<>();
+                        }
+
+                        unregisteredCodes.add(authority.getRoleCode());
+                    } else {
+                        if ((index >> 6) >= bits.length) {
+                            bits = Arrays.copyOf(bits, (index >> 6) + 1);
+                        }
+
+                        bits[index >> 6] |= 1L << index;
+                    }
+                }
+            }
+
+            this.bits = bits;
+            this.unregisteredCodes = unregisteredCodes;
+        }
+
+        /**
+         * 권한 코드가 같은 권한의 포함 여부. 색인 생성 후 등록된 권한도 권한 코드로 확인한다.
+         *
+         * @param authority 확인할 권한
+         *
+         * @return 포함 여부
+         */
+        private boolean contains(Role authority) {
+            int index = RoleRegistry.indexOf(authority);
+
+            if (index >= 0 && (index >> 6) < bits.length && (bits[index >> 6] & (1L << index)) != 0) {
+                return true;
+            }
+
+            return !unregisteredCodes.isEmpty()
+                   && authority.getRoleCode() != null
+                   && unregisteredCodes.contains(authority.getRoleCode());
+        }
+    }
+
+    /**
+     * {@link #getAuthorities()}가 반환하는 권한 목록. 변경시 권한 목록의 확인용 색인을 다시 계산하도록 한다.
+     */
+    private final class AuthoritySet extends AbstractSet<Role> {
+        @Override
+        public Iterator<Role> iterator() {
+            Iterator<Role> iterator = authorities.iterator();
+
+            return new Iterator<Role>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Role next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    authorityIndex = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return authorities.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return authorities.contains(o);
+        }
+
+        @Override
+        public boolean add(Role role) {
+            boolean changed = authorities.add(role);
+
+            authorityIndex = null;
+
+            return changed;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean changed = authorities.remove(o);
+
+            authorityIndex = null;
+
+            return changed;
+        }
+
+        @Override
+        public void clear() {
+            authorities.clear();
+            authorityIndex = null;
+        }
+    }
+
     @Override
     public boolean isCredentialsNonExpired() {
         return !credentialsExpired;
@@ -22,4 +22,20 @@ public interface DefaultUserLog {
      * @see net.cliff3.maven.security.DefaultMemberAuthenticationProvider
      */
     public void setResult(String resultKey);
+
+    /**
+     * 입력된 아이디 지정. 존재하지 않는 사용자의 로그인 시도를 기록하기 위해 사용하며, 기본 구현은 아무것도 하지 않는다.
+     *
+     * @param userName 입력된 아이디
+     */
+    public default void setUserName(String userName) {
+    }
+
+    /**
+     * 요청 IP 지정. 기본 구현은 아무것도 하지 않는다.
+     *
+     * @param remoteAddress 요청 IP. 확인할 수 없는 경우 {@code null}
+     */
+    public default void setRemoteAddress(String remoteAddress) {
+    }
 }
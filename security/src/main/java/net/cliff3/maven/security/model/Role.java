@@ -1,39 +1,94 @@
 package net.cliff3.maven.security.model;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.springframework.security.core.GrantedAuthority;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * 권한
+ * <p>
+ * {@link RoleRegistry}를 통해 얻은 권한은 공유되는 인스턴스이므로 변경할 수 없으며, 변경 메서드 호출시
+ * {@link UnsupportedOperationException}이 발생한다. 등록된 인스턴스는 권한 코드별로 하나이므로 {@link #equals(Object)}는 인스턴스를
+ * 비교한다. 권한 코드로 비교할 경우 {@link AbstractUser#hasAuthority(Role)}를 이용한다.
+ * </p>
+ * <p>
+ * 직렬화시 각 필드의 존재 여부를 1 byte의 bit로 저장하고 권한 코드와 설명만 문자열로 저장한다. 0.3.0에서 직렬화 형태가
+ * 변경되었으므로 이전 버전에서 직렬화된 권한(복제된 세션 등)은 {@link java.io.InvalidClassException}이 발생하여 읽을 수 없다.
+ * 배포시 세션 저장소를 비워야 한다.
+ * </p>
  *
  * @author JoonHo Son
  * @since 0.3.0
  */
 public class Role implements GrantedAuthority, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 직렬화 bit. {@link RoleRegistry}에 등록된 인스턴스
+     */
+    private static final int FLAG_INTERNED = 1;
+
+    /**
+     * 직렬화 bit. 권한 코드 존재
+     */
+    private static final int FLAG_ROLE_CODE = 1 << 1;
+
+    /**
+     * 직렬화 bit. 설명 존재
+     */
+    private static final int FLAG_DESCRIPTION = 1 << 2;
+
+    /**
+     * 직렬화 bit. 사용 여부 존재
+     */
+    private static final int FLAG_USE = 1 << 3;
+
+    /**
+     * 직렬화 bit. 사용 여부 값
+     */
+    private static final int FLAG_USE_VALUE = 1 << 4;
+
+    /**
+     * 직렬화 bit. 하위 class 또는 {@code null}로 기본 방식으로 저장됨
+     */
+    private static final int FLAG_OBJECT = 1 << 5;
+
     /**
      * ROLE_ 이름
      */
     @Getter
-    private String roleCode;
+    private transient String roleCode;
 
     /**
      * ROLE 설명
      */
     @Getter
-    @Setter
-    private String description;
+    private transient String description;
 
     /**
      * 사용 여부
      */
     @Getter
-    @Setter
-    private Boolean use;
+    private transient Boolean use;
+
+    /**
+     * {@link RoleRegistry}에 등록된 인스턴스 여부
+     */
+    private transient boolean interned;
+
+    /**
+     * {@link RoleRegistry} 등록 순번. 등록되지 않은 경우 -1
+     */
+    private transient int index = -1;
 
     /**
      * Constructor
@@ -71,6 +126,76 @@ public class Role implements GrantedAuthority, Serializable {
      * @param roleCode ROLE 이름
      */
     public void setRoleCode(String roleCode) {
+        checkMutable();
+
+        this.roleCode = normalize(roleCode);
+    }
+
+    /**
+     * ROLE 설명 지정
+     *
+     * @param description ROLE 설명
+     */
+    public void setDescription(String description) {
+        checkMutable();
+
+        this.description = description;
+    }
+
+    /**
+     * 사용 여부 지정
+     *
+     * @param use 사용 여부
+     */
+    public void setUse(Boolean use) {
+        checkMutable();
+
+        this.use = use;
+    }
+
+    /**
+     * {@link RoleRegistry} 등록 순번
+     *
+     * @return 등록 순번. 등록되지 않은 경우 -1
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * {@link RoleRegistry}에 등록된 인스턴스 여부
+     *
+     * @return 등록 여부
+     */
+    public boolean isInterned() {
+        return interned;
+    }
+
+    /**
+     * {@link RoleRegistry}에 등록된 인스턴스 생성
+     *
+     * @param roleCode 권한 코드
+     * @param index    등록 순번
+     *
+     * @return 등록된 인스턴스
+     */
+    static Role interned(String roleCode, int index) {
+        Role role = new Role(roleCode, true);
+
+        role.interned = true;
+        role.index = index;
+
+        return role;
+    }
+
+    /**
+     * {@link #setRoleCode(String)}와 같은 규칙으로 권한 코드를 변환한다.
+     *
+     * @param roleCode 대상 권한 코드
+     *
+     * @return 변환된 권한 코드
+     */
+    static String normalize(String roleCode) {
         if (StringUtils.isEmpty(roleCode)) {
             throw new NullPointerException("ROLE 이름이 없습니다.");
         }
@@ -78,12 +203,132 @@ public class Role implements GrantedAuthority, Serializable {
         String replaceName = roleCode.toLowerCase();
 
         if (replaceName.indexOf("role_") == 0) {
-            this.roleCode = replaceName.toUpperCase();
+            return replaceName.toUpperCase();
+        } else {
+            return "ROLE_" + StringUtils.replace(replaceName, "role_", "");
+        }
+    }
+
+    /**
+     * 공유되는 인스턴스의 변경 방지
+     */
+    private void checkMutable() {
+        if (interned) {
+            throw new UnsupportedOperationException("등록된 권한은 변경할 수 없습니다 : " + roleCode);
+        }
+    }
+
+    /**
+     * 권한을 직렬화 형태로 출력한다. {@link RoleRegistry}에 등록된 인스턴스는 권한 코드만 출력한다. 하위 class의 인스턴스와
+     * {@code null}은 하위 class의 필드를 유지하기 위해 {@link ObjectOutput#writeObject(Object)}로 출력한다.
+     *
+     * @param out  출력
+     * @param role 대상 권한
+     *
+     * @throws IOException 입출력 오류
+     */
+    static void write(ObjectOutput out, Role role) throws IOException {
+        if (role == null || role.getClass() != Role.class) {
+            out.writeByte(FLAG_OBJECT);
+            out.writeObject(role);
         } else {
-            this.roleCode = "ROLE_" + StringUtils.replace(replaceName, "role_", "");
+            role.writeFields(out);
         }
     }
 
+    /**
+     * {@link #write(ObjectOutput, Role)}로 출력된 권한을 읽는다. 등록된 인스턴스였을 경우 현재 {@link RoleRegistry}의
+     * 인스턴스를 반환한다.
+     *
+     * @param in 입력
+     *
+     * @return 권한
+     * @throws IOException            입출력 오류
+     * @throws ClassNotFoundException 하위 class를 찾을 수 없을 경우
+     */
+    static Role read(ObjectInput in) throws IOException, ClassNotFoundException {
+        int flags = in.readUnsignedByte();
+
+        if ((flags & FLAG_OBJECT) != 0) {
+            Object role = in.readObject();
+
+            if (role != null && !(role instanceof Role)) {
+                throw new InvalidObjectException("권한 형식 오류 : " + role.getClass().getName());
+            }
+
+            return (Role)role;
+        }
+
+        Role role = new Role();
+
+        role.readFields(flags, in);
+
+        return role.interned ? RoleRegistry.internCode(role.roleCode) : role;
+    }
+
+    /**
+     * 필드 값을 직렬화 형태로 출력한다.
+     *
+     * @param out 출력
+     *
+     * @throws IOException 입출력 오류
+     */
+    private void writeFields(ObjectOutput out) throws IOException {
+        int flags = 0;
+
+        if (interned) {
+            flags |= FLAG_INTERNED;
+        } else {
+            flags |= description != null ? FLAG_DESCRIPTION : 0;
+            flags |= use != null ? FLAG_USE | (use ? FLAG_USE_VALUE : 0) : 0;
+        }
+
+        flags |= roleCode != null ? FLAG_ROLE_CODE : 0;
+
+        out.writeByte(flags);
+
+        if ((flags & FLAG_ROLE_CODE) != 0) {
+            out.writeUTF(roleCode);
+        }
+
+        if ((flags & FLAG_DESCRIPTION) != 0) {
+            out.writeUTF(description);
+        }
+    }
+
+    /**
+     * 직렬화 형태의 필드 값을 읽는다.
+     *
+     * @param flags 필드 존재 여부 bit
+     * @param in    입력
+     *
+     * @throws IOException 입출력 오류
+     */
+    private void readFields(int flags, ObjectInput in) throws IOException {
+        interned = (flags & FLAG_INTERNED) != 0;
+        roleCode = (flags & FLAG_ROLE_CODE) != 0 ? in.readUTF() : null;
+        description = (flags & FLAG_DESCRIPTION) != 0 ? in.readUTF() : null;
+        use = interned ? Boolean.TRUE : (flags & FLAG_USE) != 0 ? (flags & FLAG_USE_VALUE) != 0 : null;
+        index = -1;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        writeFields(out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException {
+        readFields(in.readUnsignedByte(), in);
+    }
+
+    /**
+     * 역직렬화시 등록된 인스턴스는 현재 {@link RoleRegistry}의 인스턴스로 대체한다.
+     *
+     * @return 대체된 인스턴스
+     */
+    private Object readResolve() {
+        return interned ? RoleRegistry.internCode(roleCode) : this;
+    }
+
     @Override
     public String getAuthority() {
         return this.getRoleCode();
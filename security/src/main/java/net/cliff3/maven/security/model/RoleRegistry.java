@@ -0,0 +1,133 @@
+package net.cliff3.maven.security.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 권한 코드별로 하나의 {@link Role} 인스턴스를 공유하기 위한 저장소.
+ * <p>
+ * 등록된 권한은 변경할 수 없으며, 등록 순서대로 순번이 부여된다. {@link AbstractUser}는 이 순번을 이용하여 권한 목록을
+ * bit 단위로 저장하여 {@link AbstractUser#hasAuthority(Role)} 등을 처리한다. 등록된 권한은 삭제하지 않으므로 등록은
+ * 설정 등 한정된 권한 코드에 대해서만 {@link #intern(String)}으로 명시적으로 처리하며, 권한 확인 등의 조회는 등록하지 않는다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @see Role
+ * @since 0.3.0
+ */
+public final class RoleRegistry {
+    /**
+     * 변환된 권한 코드별 등록된 권한
+     */
+    private static final Map<String, Role> ROLES_BY_CODE = new ConcurrentHashMap<>();
+
+    /**
+     * 등록 순번별 권한
+     */
+    private static final List<Role> ROLES = new ArrayList<>();
+
+    private RoleRegistry() {
+    }
+
+    /**
+     * 권한 코드에 해당하는 등록된 권한을 반환하며, 없을 경우 등록한다. 권한 코드는 {@link Role#setRoleCode(String)}와 같은
+     * 규칙으로 변환된다.
+     *
+     * @param roleCode 권한 코드
+     *
+     * @return 등록된 권한
+     */
+    public static Role intern(String roleCode) {
+        return internCode(Role.normalize(roleCode));
+    }
+
+    /**
+     * 권한 코드에 해당하는 등록된 권한을 반환한다. 등록되지 않은 권한은 등록하지 않는다. 권한 코드는
+     * {@link Role#setRoleCode(String)}와 같은 규칙으로 변환된다.
+     *
+     * @param roleCode 권한 코드
+     *
+     * @return 등록된 권한. 등록되지 않은 경우 {@code null}
+     */
+    public static Role find(String roleCode) {
+        return StringUtils.isEmpty(roleCode) ? null : ROLES_BY_CODE.get(Role.normalize(roleCode));
+    }
+
+    /**
+     * 전달된 권한과 같은 권한 코드의 등록된 권한을 반환하며, 없을 경우 등록한다. 권한 코드는 변환하지 않는다.
+     *
+     * @param role 대상 권한
+     *
+     * @return 등록된 권한
+     */
+    public static Role intern(Role role) {
+        if (role.isInterned()) {
+            return role;
+        }
+
+        if (role.getRoleCode() == null) {
+            throw new NullPointerException("ROLE 이름이 없습니다.");
+        }
+
+        return internCode(role.getRoleCode());
+    }
+
+    /**
+     * 등록된 권한 목록
+     *
+     * @return 등록 순서대로 정렬된 권한 목록
+     */
+    public static Collection<Role> getRoles() {
+        synchronized (ROLES) {
+            return Collections.unmodifiableList(new ArrayList<>(ROLES));
+        }
+    }
+
+    /**
+     * 권한의 등록 순번. 등록되지 않은 권한은 등록하지 않는다.
+     *
+     * @param role 대상 권한
+     *
+     * @return 등록 순번. 등록되지 않은 경우 -1
+     */
+    static int indexOf(Role role) {
+        if (role.isInterned()) {
+            return role.getIndex();
+        }
+
+        Role registered = role.getRoleCode() == null ? null : ROLES_BY_CODE.get(role.getRoleCode());
+
+        return registered == null ? -1 : registered.getIndex();
+    }
+
+    /**
+     * 변환된 권한 코드에 해당하는 등록된 권한을 반환하며, 없을 경우 등록한다.
+     *
+     * @param code 변환된 권한 코드
+     *
+     * @return 등록된 권한
+     */
+    static Role internCode(String code) {
+        Role role = ROLES_BY_CODE.get(code);
+
+        if (role != null) {
+            return role;
+        }
+
+        synchronized (ROLES) {
+            return ROLES_BY_CODE.computeIfAbsent(code, c -> {
+                Role created = Role.interned(c, ROLES.size());
+
+                ROLES.add(created);
+
+                return created;
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.cliff3.maven.security.password;
+
+/**
+ * 비밀번호 hash 알고리즘. {@link net.cliff3.maven.security.DefaultPasswordEncoder}에서 사용하며, 처리 비용(cost)은
+ * 알고리즘별로 의미가 다르다.
+ *
+ * @author JoonHo Son
+ * @see Pbkdf2PasswordHashAlgorithm
+ * @see ScryptPasswordHashAlgorithm
+ * @since 0.3.0
+ */
+public interface PasswordHashAlgorithm {
+    /**
+     * 암호화된 비밀번호에 저장되는 알고리즘 식별자. {@code $} 문자를 포함할 수 없다.
+     *
+     * @return 알고리즘 식별자
+     */
+    String getId();
+
+    /**
+     * 기본 처리 비용
+     *
+     * @return 기본 처리 비용
+     */
+    int getDefaultCost();
+
+    /**
+     * 최소 처리 비용
+     *
+     * @return 최소 처리 비용
+     */
+    int getMinimumCost();
+
+    /**
+     * 최대 처리 비용
+     *
+     * @return 최대 처리 비용
+     */
+    int getMaximumCost();
+
+    /**
+     * 측정된 처리 시간을 기준으로 목표 시간에 근접하는 다음 처리 비용을 반환한다. 처리 비용 보정에 사용한다.
+     *
+     * @param cost          현재 처리 비용
+     * @param elapsedNanos  현재 처리 비용의 처리 시간(ns)
+     * @param targetNanos   목표 처리 시간(ns)
+     *
+     * @return 다음 처리 비용. 현재 처리 비용보다 커야 한다.
+     */
+    int nextCost(int cost, long elapsedNanos, long targetNanos);
+
+    /**
+     * 비밀번호 hash 생성
+     *
+     * @param password 평문 비밀번호
+     * @param salt     salt
+     * @param cost     처리 비용
+     *
+     * @return hash
+     */
+    byte[] hash(CharSequence password, byte[] salt, int cost);
+}
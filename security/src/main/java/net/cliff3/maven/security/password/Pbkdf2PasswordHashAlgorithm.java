@@ -0,0 +1,81 @@
+package net.cliff3.maven.security.password;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import net.cliff3.maven.common.util.crypto.CryptoException;
+
+/**
+ * PBKDF2-HMAC-SHA256 비밀번호 hash. 처리 비용은 반복 횟수이다.
+ *
+ * @author JoonHo Son
+ * @see PasswordHashAlgorithm
+ * @since 0.3.0
+ */
+public class Pbkdf2PasswordHashAlgorithm implements PasswordHashAlgorithm {
+    /**
+     * 알고리즘 식별자
+     */
+    public static final String ID = "pbkdf2-sha256";
+
+    /**
+     * 기본 반복 횟수
+     */
+    public static final int DEFAULT_ITERATIONS = 310000;
+
+    /**
+     * Hash 길이(bit)
+     */
+    private static final int KEY_LENGTH = 256;
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public int getDefaultCost() {
+        return DEFAULT_ITERATIONS;
+    }
+
+    @Override
+    public int getMinimumCost() {
+        return 10000;
+    }
+
+    @Override
+    public int getMaximumCost() {
+        return 10000000;
+    }
+
+    @Override
+    public int nextCost(int cost, long elapsedNanos, long targetNanos) {
+        // 반복 횟수에 비례하므로 측정 시간 비율로 추정하되, 한 번에 16배 이상 늘리지 않는다.
+        double ratio = (double)targetNanos / Math.max(elapsedNanos, 1);
+        long next = (long)(cost * Math.min(Math.max(ratio, 1.1), 16));
+
+        return (int)Math.min(Math.max(next, cost + 1L), getMaximumCost());
+    }
+
+    @Override
+    public byte[] hash(CharSequence password, byte[] salt, int cost) {
+        char[] chars = new char[password.length()];
+
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = password.charAt(i);
+        }
+
+        PBEKeySpec spec = new PBEKeySpec(chars, salt, cost, KEY_LENGTH);
+
+        try {
+            return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException("PBKDF2 암호화 오류", e);
+        } finally {
+            spec.clearPassword();
+            Arrays.fill(chars, '\0');
+        }
+    }
+}
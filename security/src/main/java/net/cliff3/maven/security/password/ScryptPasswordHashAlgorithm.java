@@ -0,0 +1,271 @@
+package net.cliff3.maven.security.password;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import net.cliff3.maven.common.util.crypto.CryptoException;
+
+/**
+ * scrypt(RFC 7914) 비밀번호 hash. 처리 비용은 CPU/메모리 비용 인자 N의 log2 값이며, block size(r)는 8, 병렬화
+ * 인자(p)는 1로 고정한다. 처리 비용 1 증가시 처리 시간과 메모리({@code 128 * r * N} byte)가 두 배가 된다.
+ *
+ * @author JoonHo Son
+ * @see PasswordHashAlgorithm
+ * @since 0.3.0
+ */
+public class ScryptPasswordHashAlgorithm implements PasswordHashAlgorithm {
+    /**
+     * 알고리즘 식별자
+     */
+    public static final String ID = "scrypt";
+
+    /**
+     * 기본 처리 비용(N = 2^15, 32MB)
+     */
+    public static final int DEFAULT_LOG_N = 15;
+
+    /**
+     * Block size
+     */
+    private static final int BLOCK_SIZE = 8;
+
+    /**
+     * 병렬화 인자
+     */
+    private static final int PARALLELIZATION = 1;
+
+    /**
+     * Hash 길이(byte)
+     */
+    private static final int KEY_LENGTH = 32;
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public int getDefaultCost() {
+        return DEFAULT_LOG_N;
+    }
+
+    @Override
+    public int getMinimumCost() {
+        return 10;
+    }
+
+    @Override
+    public int getMaximumCost() {
+        return 20;
+    }
+
+    @Override
+    public int nextCost(int cost, long elapsedNanos, long targetNanos) {
+        return Math.min(cost + 1, getMaximumCost());
+    }
+
+    @Override
+    public byte[] hash(CharSequence password, byte[] salt, int cost) {
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        byte[] bytes = new byte[encoded.remaining()];
+
+        encoded.get(bytes);
+
+        try {
+            return scrypt(bytes, salt, 1 << cost, BLOCK_SIZE, PARALLELIZATION, KEY_LENGTH);
+        } finally {
+            Arrays.fill(bytes, (byte)0);
+
+            if (encoded.hasArray()) {
+                Arrays.fill(encoded.array(), (byte)0);
+            }
+        }
+    }
+
+    /**
+     * scrypt 처리
+     *
+     * @param password 비밀번호
+     * @param salt     salt
+     * @param n        CPU/메모리 비용 인자(2의 거듭제곱)
+     * @param r        block size
+     * @param p        병렬화 인자
+     * @param length   결과 길이(byte)
+     *
+     * @return 처리 결과
+     */
+    static byte[] scrypt(byte[] password, byte[] salt, int n, int r, int p, int length) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+
+            // HMAC key는 block 크기까지 0으로 채워지므로 빈 key와 0 한 byte는 동일하다.
+            mac.init(new SecretKeySpec(password.length == 0 ? new byte[1] : password, "HmacSHA256"));
+
+            byte[] b = pbkdf2(mac, salt, p * 128 * r);
+            int[] v = new int[32 * r * n];
+            int[] x = new int[32 * r];
+            int[] y = new int[32 * r];
+            int[] t = new int[32];
+
+            for (int i = 0; i < p; i++) {
+                smix(b, i * 128 * r, r, n, v, x, y, t);
+            }
+
+            return pbkdf2(mac, b, length);
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException("scrypt 암호화 오류", e);
+        }
+    }
+
+    /**
+     * 반복 횟수 1의 PBKDF2-HMAC-SHA256
+     *
+     * @param mac    비밀번호로 초기화된 {@link Mac}
+     * @param salt   salt
+     * @param length 결과 길이(byte)
+     *
+     * @return 처리 결과
+     */
+    private static byte[] pbkdf2(Mac mac, byte[] salt, int length) {
+        byte[] result = new byte[length];
+        int hashLength = mac.getMacLength();
+
+        for (int block = 1, offset = 0; offset < length; block++, offset += hashLength) {
+            mac.update(salt);
+            mac.update(new byte[] {(byte)(block >>> 24), (byte)(block >>> 16), (byte)(block >>> 8), (byte)block});
+
+            byte[] u = mac.doFinal();
+
+            System.arraycopy(u, 0, result, offset, Math.min(hashLength, length - offset));
+        }
+
+        return result;
+    }
+
+    /**
+     * ROMix
+     *
+     * @param b      대상 byte 배열
+     * @param offset 대상 block 시작 위치
+     * @param r      block size
+     * @param n      CPU/메모리 비용 인자
+     * @param v      작업 공간({@code 32 * r * n})
+     * @param x      작업 공간({@code 32 * r})
+     * @param y      작업 공간({@code 32 * r})
+     * @param t      작업 공간(32)
+     */
+    private static void smix(byte[] b, int offset, int r, int n, int[] v, int[] x, int[] y, int[] t) {
+        int words = 32 * r;
+
+        for (int k = 0; k < words; k++) {
+            int i = offset + k * 4;
+
+            x[k] = (b[i] & 0xff) | (b[i + 1] & 0xff) << 8 | (b[i + 2] & 0xff) << 16 | (b[i + 3] & 0xff) << 24;
+        }
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(x, 0, v, i * words, words);
+            blockMix(x, y, t, r);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int j = x[(2 * r - 1) * 16] & (n - 1);
+
+            for (int k = 0; k < words; k++) {
+                x[k] ^= v[j * words + k];
+            }
+
+            blockMix(x, y, t, r);
+        }
+
+        for (int k = 0; k < words; k++) {
+            int i = offset + k * 4;
+
+            b[i] = (byte)x[k];
+            b[i + 1] = (byte)(x[k] >>> 8);
+            b[i + 2] = (byte)(x[k] >>> 16);
+            b[i + 3] = (byte)(x[k] >>> 24);
+        }
+    }
+
+    /**
+     * BlockMix. 결과는 {@code b}에 저장된다.
+     *
+     * @param b 대상 block
+     * @param y 작업 공간
+     * @param t 작업 공간(32)
+     * @param r block size
+     */
+    private static void blockMix(int[] b, int[] y, int[] t, int r) {
+        System.arraycopy(b, (2 * r - 1) * 16, t, 0, 16);
+
+        for (int i = 0; i < 2 * r; i++) {
+            for (int k = 0; k < 16; k++) {
+                t[k] ^= b[i * 16 + k];
+            }
+
+            salsa208(t);
+
+            // 짝수 번째 block은 앞쪽, 홀수 번째 block은 뒤쪽에 배치
+            System.arraycopy(t, 0, y, ((i >> 1) + (i & 1) * r) * 16, 16);
+        }
+
+        System.arraycopy(y, 0, b, 0, 32 * r);
+    }
+
+    /**
+     * Salsa20/8 core. 앞쪽 16 word를 처리하며 뒤쪽 16 word는 작업 공간으로 사용한다.
+     *
+     * @param b 대상 block
+     */
+    private static void salsa208(int[] b) {
+        int[] x = b;
+
+        System.arraycopy(b, 0, b, 16, 16);
+
+        for (int i = 0; i < 8; i += 2) {
+            x[4] ^= Integer.rotateLeft(x[0] + x[12], 7);
+            x[8] ^= Integer.rotateLeft(x[4] + x[0], 9);
+            x[12] ^= Integer.rotateLeft(x[8] + x[4], 13);
+            x[0] ^= Integer.rotateLeft(x[12] + x[8], 18);
+            x[9] ^= Integer.rotateLeft(x[5] + x[1], 7);
+            x[13] ^= Integer.rotateLeft(x[9] + x[5], 9);
+            x[1] ^= Integer.rotateLeft(x[13] + x[9], 13);
+            x[5] ^= Integer.rotateLeft(x[1] + x[13], 18);
+            x[14] ^= Integer.rotateLeft(x[10] + x[6], 7);
+            x[2] ^= Integer.rotateLeft(x[14] + x[10], 9);
+            x[6] ^= Integer.rotateLeft(x[2] + x[14], 13);
+            x[10] ^= Integer.rotateLeft(x[6] + x[2], 18);
+            x[3] ^= Integer.rotateLeft(x[15] + x[11], 7);
+            x[7] ^= Integer.rotateLeft(x[3] + x[15], 9);
+            x[11] ^= Integer.rotateLeft(x[7] + x[3], 13);
+            x[15] ^= Integer.rotateLeft(x[11] + x[7], 18);
+
+            x[1] ^= Integer.rotateLeft(x[0] + x[3], 7);
+            x[2] ^= Integer.rotateLeft(x[1] + x[0], 9);
+            x[3] ^= Integer.rotateLeft(x[2] + x[1], 13);
+            x[0] ^= Integer.rotateLeft(x[3] + x[2], 18);
+            x[6] ^= Integer.rotateLeft(x[5] + x[4], 7);
+            x[7] ^= Integer.rotateLeft(x[6] + x[5], 9);
+            x[4] ^= Integer.rotateLeft(x[7] + x[6], 13);
+            x[5] ^= Integer.rotateLeft(x[4] + x[7], 18);
+            x[11] ^= Integer.rotateLeft(x[10] + x[9], 7);
+            x[8] ^= Integer.rotateLeft(x[11] + x[10], 9);
+            x[9] ^= Integer.rotateLeft(x[8] + x[11], 13);
+            x[10] ^= Integer.rotateLeft(x[9] + x[8], 18);
+            x[12] ^= Integer.rotateLeft(x[15] + x[14], 7);
+            x[13] ^= Integer.rotateLeft(x[12] + x[15], 9);
+            x[14] ^= Integer.rotateLeft(x[13] + x[12], 13);
+            x[15] ^= Integer.rotateLeft(x[14] + x[13], 18);
+        }
+
+        for (int i = 0; i < 16; i++) {
+            x[i] += b[i + 16];
+        }
+    }
+}
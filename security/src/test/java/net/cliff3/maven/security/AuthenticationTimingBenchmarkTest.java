@@ -0,0 +1,140 @@
+package net.cliff3.maven.security;
+
+import static net.cliff3.maven.security.DefaultMemberAuthenticationProviderTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * 로그인 실패 처리 시간 비교. 존재하지 않는 사용자, 이전 형식 비밀번호 사용자의 처리 시간 분포가 현재 형식 비밀번호 사용자와
+ * 비슷한지 확인한다.
+ * <p>
+ * 실행 환경에 따라 결과가 달라지므로 기본 test에서는 제외되며 {@code mvn test -P benchmark}로 실행한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class AuthenticationTimingBenchmarkTest {
+    private static final String PASSWORD = "secret-password";
+
+    /**
+     * 준비 과정으로 제외하는 횟수
+     */
+    private static final int WARM_UP = 3;
+
+    /**
+     * 측정 횟수
+     */
+    private static final int SAMPLES = 31;
+
+    /**
+     * 중앙값, 90 백분위 값의 허용 비율. 두 값 중 큰 값이 작은 값의 이 배수 이하여야 한다.
+     */
+    private static final double BOUND = 1.5;
+
+    @Test
+    @Order(1)
+    @DisplayName("암호화 비교 처리 시간 분포")
+    public void testEncodedTiming() {
+        DefaultPasswordEncoder encoder = encoder();
+        UserService service = new UserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+
+        service.add(new TestUser(1L, "modern", encoder.encode(PASSWORD)));
+        service.add(new TestUser(2L, "legacy", legacyPassword(PASSWORD)));
+
+        Map<String, long[]> samples = measure(provider, "modern", "legacy", "unknown");
+
+        assertSimilar(samples, "modern", "legacy");
+        assertSimilar(samples, "modern", "unknown");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("수동 비교 처리 시간 분포")
+    public void testCustomCompareTiming() {
+        DefaultPasswordEncoder encoder = encoder();
+        UserService service = new ComparingUserService(encoder);
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+
+        provider.setUseEncryptPassword(false);
+        service.add(new TestUser(1L, "custom", encoder.encode(PASSWORD)));
+
+        Map<String, long[]> samples = measure(provider, "custom", "unknown");
+
+        assertSimilar(samples, "custom", "unknown");
+    }
+
+    /**
+     * 잘못된 비밀번호로 로그인하는 시간을 측정한다. 실행 환경의 변화가 한쪽에 몰리지 않도록 사용자를 번갈아 측정한다.
+     *
+     * @return 사용자별 정렬된 측정값(ns)
+     */
+    private static Map<String, long[]> measure(DefaultMemberAuthenticationProvider provider, String... userNames) {
+        Map<String, long[]> samples = new LinkedHashMap<>();
+
+        for (String userName : userNames) {
+            samples.put(userName, new long[SAMPLES]);
+        }
+
+        for (int i = 0; i < WARM_UP + SAMPLES; i++) {
+            for (String userName : userNames) {
+                long startedAt = System.nanoTime();
+
+                assertThrows(BadCredentialsException.class,
+                             () -> provider.authenticate(new UsernamePasswordAuthenticationToken(userName, "wrong")));
+
+                if (i >= WARM_UP) {
+                    samples.get(userName)[i - WARM_UP] = System.nanoTime() - startedAt;
+                }
+            }
+        }
+
+        for (long[] values : samples.values()) {
+            Arrays.sort(values);
+        }
+
+        return samples;
+    }
+
+    private static void assertSimilar(Map<String, long[]> samples, String expected, String actual) {
+        long[] expectedValues = samples.get(expected);
+        long[] actualValues = samples.get(actual);
+
+        log.info("{} - p50 : {}ns, p90 : {}ns / {} - p50 : {}ns, p90 : {}ns",
+                 expected,
+                 percentile(expectedValues, 50),
+                 percentile(expectedValues, 90),
+                 actual,
+                 percentile(actualValues, 50),
+                 percentile(actualValues, 90));
+
+        for (int p : new int[] {50, 90}) {
+            long a = percentile(expectedValues, p);
+            long b = percentile(actualValues, p);
+
+            assertTrue(Math.max(a, b) <= Math.min(a, b) * BOUND,
+                       String.format("%s, %s 처리 시간 p%d 차이가 큼 : %d / %d", expected, actual, p, a, b));
+        }
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        return sorted[(int)Math.ceil(p / 100.0 * sorted.length) - 1];
+    }
+}
@@ -0,0 +1,156 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.cliff3.maven.security.model.AbstractUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * CachingUserDetailServiceTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class CachingUserDetailServiceTest {
+    @Test
+    @Order(1)
+    @DisplayName("조회 결과 저장")
+    public void testCache() {
+        CountingService delegate = new CountingService();
+        CachingUserDetailService service = new CachingUserDetailService(delegate);
+
+        delegate.users.put("user", new TestUser(1L, "user", "password"));
+
+        assertSame(service.getUser("user"), service.getUser("user"), "저장된 결과를 반환해야 함");
+        assertNull(service.getUser("unknown"));
+        assertNull(service.getUser("unknown"), "존재하지 않는 사용자도 저장해야 함");
+        assertEquals(2, delegate.loads.get(), "실제 조회 횟수 오류");
+        assertEquals(2, service.getHitCount());
+        assertEquals(1, service.getNegativeHitCount());
+
+        service.evict("user");
+        service.getUser("user");
+
+        assertEquals(3, delegate.loads.get(), "삭제 후 다시 조회해야 함");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("최대 저장 개수")
+    public void testBounded() {
+        CachingUserDetailService service = new CachingUserDetailService(new CountingService());
+
+        service.setMaxEntries(160);
+
+        for (int i = 0; i < 10000; i++) {
+            service.getUser("user" + i);
+        }
+
+        assertTrue(service.size() <= 160, "최대 저장 개수 초과 : " + service.size());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("조회중 비밀번호 변경")
+    public void testUpdatePasswordWhileLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        CountingService delegate = new CountingService() {
+            @Override
+            public AbstractUser getUser(String id) {
+                AbstractUser user = super.getUser(id);
+
+                // 변경 전의 정보를 조회한 후 비밀번호가 변경될 때까지 대기
+                loading.countDown();
+                await(updated);
+
+                return user;
+            }
+        };
+        CachingUserDetailService service = new CachingUserDetailService(delegate);
+        TestUser before = new TestUser(1L, "user", "before");
+
+        delegate.users.put("user", before);
+
+        Thread reader = new Thread(() -> service.getUser("user"));
+
+        reader.start();
+        await(loading);
+
+        service.updatePassword(before, "after");
+        updated.countDown();
+        reader.join();
+
+        assertEquals("after", service.getUser("user").getPassword(), "변경 전의 정보가 저장됨");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("존재하지 않는 사용자로 저장된 후 가입")
+    public void testUserCreated() {
+        CountingService delegate = new CountingService();
+        CachingUserDetailService service = new CachingUserDetailService(delegate);
+
+        assertNull(service.getUser("newbie"), "가입 전 로그인 시도");
+
+        TestUser user = new TestUser(2L, "newbie", "password");
+
+        delegate.users.put("newbie", user);
+
+        assertNull(service.getUser("newbie"), "가입 처리를 알리기 전에는 저장된 결과를 반환");
+
+        service.userCreated(user);
+
+        assertNotNull(service.getUser("newbie"), "가입 후 바로 조회되어야 함");
+        assertEquals(2, delegate.loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CountingService extends AbstractUserDetailService {
+        protected final Map<String, TestUser> users = new ConcurrentHashMap<>();
+
+        protected final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public AbstractUser getUser(Long sequence) {
+            return null;
+        }
+
+        @Override
+        public AbstractUser getUser(String id) {
+            loads.incrementAndGet();
+
+            TestUser user = users.get(id);
+
+            return user == null ? null : new TestUser((Long)user.getUserKey(), id, user.getPassword());
+        }
+
+        @Override
+        public AbstractUser getUser(String id, String password) {
+            return null;
+        }
+
+        @Override
+        public void updatePassword(AbstractUser user, String encodedPassword) {
+            users.get(user.getUsername()).setPassword(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.common.util.crypto.CryptoUtil;
+import net.cliff3.maven.security.dao.BatchUserLogDao;
+import net.cliff3.maven.security.model.AbstractUser;
+import net.cliff3.maven.security.model.DefaultUserLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * DefaultMemberAuthenticationProviderTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DefaultMemberAuthenticationProviderTest {
+    private static final String PASSWORD = "secret-password";
+
+    @Test
+    @Order(1)
+    @DisplayName("비밀번호 형식 갱신")
+    public void testUpgrade() {
+        DefaultPasswordEncoder encoder = encoder();
+        UserService service = new UserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+
+        service.add(new TestUser(1L, "legacy", legacyPassword(PASSWORD)));
+
+        assertNotNull(provider.authenticate(new UsernamePasswordAuthenticationToken("legacy", PASSWORD)));
+
+        String upgraded = service.users.get("legacy").getPassword();
+
+        assertTrue(upgraded.startsWith("$"), "비밀번호 형식이 갱신되지 않음");
+        assertTrue(encoder.matches(PASSWORD, upgraded));
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("legacy", "wrong")));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("암호화 비교 시간 보정")
+    public void testDummyCompare() {
+        RecordingPasswordEncoder encoder = new RecordingPasswordEncoder();
+        UserService service = new UserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+
+        service.add(new TestUser(1L, "modern", encoder.encode(PASSWORD)));
+        service.add(new TestUser(2L, "legacy", legacyPassword(PASSWORD)));
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("modern", "wrong")));
+        assertEquals(1, encoder.comparedPasswords.size(), "현재 형식 비밀번호는 한번만 비교하여야 함");
+
+        encoder.comparedPasswords.clear();
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("legacy", "wrong")));
+        assertEquals(2, encoder.comparedPasswords.size(), "이전 형식 비밀번호는 임의의 비밀번호와 추가로 비교하여야 함");
+        assertFalse(encoder.upgradeEncoding(encoder.comparedPasswords.get(1)), "현재 설정으로 암호화된 값과 비교하여야 함");
+
+        encoder.comparedPasswords.clear();
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("unknown", "wrong")));
+        assertEquals(1, encoder.comparedPasswords.size(), "존재하지 않는 사용자도 임의의 비밀번호와 비교하여야 함");
+        assertFalse(encoder.upgradeEncoding(encoder.comparedPasswords.get(0)), "현재 설정으로 암호화된 값과 비교하여야 함");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("수동 비교 시간 보정")
+    public void testCustomCompareDummy() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+        ComparingUserService service = new ComparingUserService(encoder);
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+
+        provider.setUseEncryptPassword(false);
+        service.add(new TestUser(1L, "custom", encoder.encode(PASSWORD)));
+
+        assertNotNull(provider.authenticate(new UsernamePasswordAuthenticationToken("custom", PASSWORD)));
+        assertEquals(1, service.selectedPasswords.size());
+
+        service.selectedPasswords.clear();
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("unknown", PASSWORD)));
+        assertEquals(1, service.selectedPasswords.size(), "존재하지 않는 사용자도 수동 비교 메서드를 실행하여야 함");
+        assertTrue(encoder.matches("dummy-password-for-unknown-user", service.selectedPasswords.get(0)),
+                   "임의의 비밀번호와 비교하여야 함");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("접속 기록")
+    public void testAudit() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+        UserService service = new UserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, encoder);
+        LoginFailureThrottle throttle = new LoginFailureThrottle();
+        List<String> records = Collections.synchronizedList(new ArrayList<>());
+        LoginAuditWriter writer = new LoginAuditWriter(new BatchUserLogDao() {
+            @Override
+            public void insertLog(Class<? extends DefaultUserLog> parameter) {
+            }
+
+            @Override
+            public void insertLogs(List<? extends DefaultUserLog> logs) {
+                for (DefaultUserLog userLog : logs) {
+                    records.add(userLog.toString());
+                }
+            }
+        });
+
+        encoder.setCost(10000);
+        throttle.setMaxUserFailures(1);
+        service.add(new TestUser(1L, "user", encoder.encode(PASSWORD)));
+        provider.setFailureThrottle(throttle);
+        provider.setLoginAuditWriter(writer);
+        provider.setUserLogFactory(RecordingUserLog::new);
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user", PASSWORD));
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("unknown", "wrong")));
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticate(new UsernamePasswordAuthenticationToken("unknown", "wrong")));
+
+        writer.shutdown();
+
+        assertEquals(Arrays.asList("user:" + DefaultMemberAuthenticationProvider.RESULT_KEY_SUCCESS,
+                                   "unknown:" + DefaultMemberAuthenticationProvider.RESULT_KEY_FAIL_NOT_EXIST,
+                                   "unknown:" + DefaultMemberAuthenticationProvider.RESULT_KEY_FAIL_THROTTLED),
+                     records,
+                     "접속 기록 불일치");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("token 인증")
+    public void testToken() {
+        UserService service = new UserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, new DefaultPasswordEncoder());
+        AuthenticationTokenSigner signer = new AuthenticationTokenSigner("0123456789abcdef0123456789abcdef".getBytes());
+        LoginFailureThrottle throttle = new LoginFailureThrottle();
+        List<String> records = Collections.synchronizedList(new ArrayList<>());
+        LoginAuditWriter writer = new LoginAuditWriter(new BatchUserLogDao() {
+            @Override
+            public void insertLog(Class<? extends DefaultUserLog> parameter) {
+            }
+
+            @Override
+            public void insertLogs(List<? extends DefaultUserLog> logs) {
+                for (DefaultUserLog userLog : logs) {
+                    records.add(userLog.toString());
+                }
+            }
+        });
+        TypedUser user = new TypedUser(1L, "user", "stored-password");
+
+        service.add(user);
+        service.add(new TypedUser(2L, "other", "other-password"));
+        throttle.setMaxUserFailures(1);
+        provider.setTokenSigner(signer);
+        provider.setFailureThrottle(throttle);
+        provider.setLoginAuditWriter(writer);
+        provider.setUserLogFactory(RecordingUserLog::new);
+        provider.setUserTypeFieldName("userType");
+        provider.setUserTypeWithRoleCode(Collections.singletonMap("A", "ROLE_USER_TEST_TYPE"));
+
+        String token = signer.createToken(user);
+        Authentication authenticated = provider.authenticateWithEncryptedPassword(
+            new UsernamePasswordAuthenticationToken(user, token));
+
+        assertSame(user, authenticated.getPrincipal());
+        assertEquals("ROLE_USER_TEST_TYPE",
+                     authenticated.getAuthorities().iterator().next().getAuthority(),
+                     "사용자 유형 권한이 적용되지 않음");
+
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticateWithEncryptedPassword(
+                         new UsernamePasswordAuthenticationToken("other", token)),
+                     "다른 사용자의 token이 허용됨");
+        assertThrows(BadCredentialsException.class,
+                     () -> provider.authenticateWithEncryptedPassword(
+                         new UsernamePasswordAuthenticationToken(service.getUser("other"), token)),
+                     "실패 횟수 제한이 적용되지 않음");
+
+        writer.shutdown();
+
+        assertEquals(Arrays.asList("user:" + DefaultMemberAuthenticationProvider.RESULT_KEY_SUCCESS,
+                                   "other:" + DefaultMemberAuthenticationProvider.RESULT_KEY_FAIL_INVALID_TOKEN,
+                                   "other:" + DefaultMemberAuthenticationProvider.RESULT_KEY_FAIL_THROTTLED),
+                     records,
+                     "접속 기록 불일치");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("이전 방식 수동 비교")
+    public void testLegacyCustomCompare() {
+        LegacyComparingUserService service = new LegacyComparingUserService();
+        DefaultMemberAuthenticationProvider provider = provider(service, new DefaultPasswordEncoder());
+
+        service.add(new TestUser(1L, "custom", legacyPassword(PASSWORD)));
+
+        assertNotNull(provider.authenticate(new UsernamePasswordAuthenticationToken("custom", PASSWORD)));
+        assertEquals(legacyPassword(PASSWORD), service.enteredPasswords.get(0), "이전 버전과 같은 값이 전달되어야 함");
+
+        // 사용자가 지정한 encoder는 encode 결과를 전달
+        provider.setPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "encoded:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        });
+        service.add(new TestUser(2L, "encoded", "encoded:" + PASSWORD));
+
+        assertNotNull(provider.authenticate(new UsernamePasswordAuthenticationToken("encoded", PASSWORD)));
+        assertEquals("encoded:" + PASSWORD, service.enteredPasswords.get(1));
+
+        provider.setUseEncryptPassword(false);
+        service.add(new TestUser(3L, "plain", PASSWORD));
+
+        assertNotNull(provider.authenticate(new UsernamePasswordAuthenticationToken("plain", PASSWORD)));
+        assertEquals(PASSWORD, service.enteredPasswords.get(2), "암호화를 사용하지 않을 경우 평문이 전달되어야 함");
+    }
+
+    static DefaultPasswordEncoder encoder() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+
+        // 측정 오차보다 충분히 긴 처리 시간
+        encoder.setCost(100000);
+
+        return encoder;
+    }
+
+    static DefaultMemberAuthenticationProvider provider(UserService service, DefaultPasswordEncoder encoder) {
+        DefaultMemberAuthenticationProvider provider = new DefaultMemberAuthenticationProvider();
+
+        provider.setUserDetailService(service);
+        provider.setPasswordEncoder(encoder);
+
+        return provider;
+    }
+
+    static String legacyPassword(String password) {
+        return Base64.getEncoder().encodeToString(CryptoUtil.makeSHA256Hash(password).get());
+    }
+
+    static class UserService extends AbstractUserDetailService {
+        private final Map<String, TestUser> users = new ConcurrentHashMap<>();
+
+        void add(TestUser user) {
+            users.put(user.getUsername(), user);
+        }
+
+        @Override
+        public AbstractUser getUser(Long sequence) {
+            return null;
+        }
+
+        @Override
+        public AbstractUser getUser(String id) {
+            return users.get(id);
+        }
+
+        @Override
+        public AbstractUser getUser(String id, String password) {
+            return null;
+        }
+
+        @Override
+        public void updatePassword(AbstractUser user, String encodedPassword) {
+            ((TestUser)user).setPassword(encodedPassword);
+        }
+    }
+
+    /**
+     * 비교한 암호화 값을 기록하는 encoder
+     */
+    private static class RecordingPasswordEncoder extends DefaultPasswordEncoder {
+        private final List<String> comparedPasswords = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            comparedPasswords.add(encodedPassword);
+
+            return super.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    private static class RecordingUserLog implements DefaultUserLog {
+        private String userName;
+
+        private String result;
+
+        @Override
+        public void setUser(AbstractUser user) {
+        }
+
+        @Override
+        public void setUserName(String userName) {
+            this.userName = userName;
+        }
+
+        @Override
+        public void setResult(String resultKey) {
+            this.result = resultKey;
+        }
+
+        @Override
+        public String toString() {
+            return userName + ":" + result;
+        }
+    }
+
+    static class ComparingUserService extends UserService implements AuthenticationCustomComparePassword {
+        private final DefaultPasswordEncoder encoder;
+
+        private final List<String> selectedPasswords = Collections.synchronizedList(new ArrayList<>());
+
+        ComparingUserService(DefaultPasswordEncoder encoder) {
+            this.encoder = encoder;
+        }
+
+        @Override
+        public Boolean comparePassword(String enteredPassword, String selectedPassword) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Boolean compareRawPassword(String rawPassword, String selectedPassword, PasswordEncoder encoder) {
+            selectedPasswords.add(selectedPassword);
+
+            return this.encoder.matches(rawPassword, selectedPassword);
+        }
+    }
+
+    /**
+     * 이전 버전 방식으로 {@link #comparePassword(String, String)}만 구현한 service
+     */
+    private static class LegacyComparingUserService extends UserService implements AuthenticationCustomComparePassword {
+        private final List<String> enteredPasswords = new ArrayList<>();
+
+        @Override
+        public Boolean comparePassword(String enteredPassword, String selectedPassword) {
+            enteredPasswords.add(enteredPassword);
+
+            return enteredPassword.equals(selectedPassword);
+        }
+    }
+
+    private static class TypedUser extends TestUser {
+        private static final long serialVersionUID = 1L;
+
+        private final String userType = "A";
+
+        private TypedUser(Long sequence, String userName, String password) {
+            super(sequence, userName, password);
+        }
+    }
+}
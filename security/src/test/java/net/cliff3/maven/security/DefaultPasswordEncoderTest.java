@@ -0,0 +1,134 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Base64;
+
+import net.cliff3.maven.common.util.crypto.CryptoUtil;
+import net.cliff3.maven.security.password.Pbkdf2PasswordHashAlgorithm;
+import net.cliff3.maven.security.password.ScryptPasswordHashAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * DefaultPasswordEncoderTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DefaultPasswordEncoderTest {
+    private static final String PASSWORD = "비밀번호 password!";
+
+    @Test
+    @Order(1)
+    @DisplayName("PBKDF2 암호화 및 비교")
+    public void testPbkdf2() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+
+        encoder.setCost(10000);
+
+        String encoded = encoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("$" + Pbkdf2PasswordHashAlgorithm.ID + "$10000$"), "형식 오류 : " + encoded);
+        assertNotEquals(encoded, encoder.encode(PASSWORD), "salt가 적용되지 않음");
+        assertTrue(encoder.matches(PASSWORD, encoded), "비밀번호 불일치");
+        assertFalse(encoder.matches(PASSWORD + " ", encoded), "다른 비밀번호가 일치함");
+        assertFalse(encoder.upgradeEncoding(encoded), "현재 설정과 같은 경우 갱신하지 않아야 함");
+
+        encoder.setCost(20000);
+
+        assertTrue(encoder.upgradeEncoding(encoded), "처리 비용이 낮은 경우 갱신해야 함");
+        assertTrue(encoder.matches(PASSWORD, encoded), "처리 비용 변경 후 비밀번호 불일치");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("scrypt 암호화 및 비교")
+    public void testScrypt() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder(new ScryptPasswordHashAlgorithm());
+
+        encoder.setCost(10);
+
+        String encoded = encoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("$" + ScryptPasswordHashAlgorithm.ID + "$10$"), "형식 오류 : " + encoded);
+        assertTrue(encoder.matches(PASSWORD, encoded), "비밀번호 불일치");
+        assertFalse(encoder.matches("password", encoded), "다른 비밀번호가 일치함");
+        assertFalse(encoder.upgradeEncoding(encoded));
+
+        DefaultPasswordEncoder pbkdf2 = new DefaultPasswordEncoder();
+
+        assertTrue(pbkdf2.matches(PASSWORD, encoded), "다른 알고리즘으로 암호화된 비밀번호 비교 실패");
+        assertTrue(pbkdf2.upgradeEncoding(encoded), "알고리즘이 다른 경우 갱신해야 함");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("이전 버전 SHA-256 비밀번호")
+    public void testLegacy() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+        String legacy = Base64.getEncoder().encodeToString(CryptoUtil.makeSHA256Hash(PASSWORD).get());
+
+        assertTrue(encoder.matches(PASSWORD, legacy), "이전 버전 비밀번호 불일치");
+        assertFalse(encoder.matches("password", legacy), "다른 비밀번호가 일치함");
+        assertTrue(encoder.upgradeEncoding(legacy), "이전 버전 비밀번호는 갱신해야 함");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("형식 오류")
+    public void testMalformed() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+
+        assertFalse(encoder.matches(PASSWORD, null));
+        assertFalse(encoder.matches(PASSWORD, ""));
+        assertFalse(encoder.matches(PASSWORD, "$pbkdf2-sha256$10000$salt"), "구성 요소 부족");
+        assertFalse(encoder.matches(PASSWORD, "$unknown$10000$c2FsdA$aGFzaA"), "지원하지 않는 알고리즘");
+        assertFalse(encoder.matches(PASSWORD, "$pbkdf2-sha256$999999999$c2FsdA$aGFzaA"), "처리 비용 범위 오류");
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("처리 비용 보정")
+    public void testCalibrate() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder(new ScryptPasswordHashAlgorithm());
+        ScryptPasswordHashAlgorithm algorithm = (ScryptPasswordHashAlgorithm)encoder.getAlgorithm();
+        int cost = encoder.calibrate(1);
+
+        assertEquals(cost, encoder.getCost(), "보정된 처리 비용이 지정되지 않음");
+        assertTrue(cost >= algorithm.getMinimumCost() && cost <= algorithm.getMaximumCost(), "처리 비용 범위 오류");
+        assertTrue(encoder.matches(PASSWORD, encoder.encode(PASSWORD)), "보정 후 비밀번호 불일치");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("처리 비용 범위")
+    public void testCostRange() {
+        DefaultPasswordEncoder encoder = new DefaultPasswordEncoder();
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCost(0), "최소값 미만");
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCost(10000001), "최대값 초과");
+        assertEquals(new Pbkdf2PasswordHashAlgorithm().getDefaultCost(), encoder.getCost(), "범위 오류시 변경되면 안됨");
+
+        encoder.setAlgorithm(new ScryptPasswordHashAlgorithm());
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCost(10000), "변경된 알고리즘의 범위로 확인해야 함");
+        assertThrows(IllegalArgumentException.class, () -> encoder.calibrate(0), "목표 시간 오류");
+
+        // 최대값을 넘는 다음 처리 비용을 반환하는 알고리즘
+        encoder.setAlgorithm(new Pbkdf2PasswordHashAlgorithm() {
+            @Override
+            public int nextCost(int cost, long elapsedNanos, long targetNanos) {
+                return getMaximumCost() + 1;
+            }
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.calibrate(60000), "보정 결과 범위 오류");
+        assertEquals(encoder.getAlgorithm().getDefaultCost(), encoder.getCost(), "범위 오류시 변경되면 안됨");
+    }
+}
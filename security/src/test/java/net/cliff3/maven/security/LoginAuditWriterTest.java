@@ -0,0 +1,148 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.cliff3.maven.security.dao.BatchUserLogDao;
+import net.cliff3.maven.security.model.AbstractUser;
+import net.cliff3.maven.security.model.DefaultUserLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * LoginAuditWriterTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class LoginAuditWriterTest {
+    @Test
+    @Order(1)
+    @DisplayName("일괄 저장")
+    public void testWrite() {
+        CollectingDao dao = new CollectingDao();
+        LoginAuditWriter writer = new LoginAuditWriter(dao);
+
+        writer.setBatchSize(10);
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(writer.submit(new TestUserLog()));
+        }
+
+        writer.shutdown();
+
+        assertEquals(25, dao.logs.size(), "저장되지 않은 로그 존재");
+        assertEquals(25, writer.getWrittenCount());
+        assertFalse(writer.submit(new TestUserLog()), "종료 후 추가됨");
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("일괄 저장 미지원 DAO")
+    public void testNotBatchDao() {
+        DefaultMemberAuthenticationProvider provider = new DefaultMemberAuthenticationProvider();
+
+        provider.setUserLogDAO(parameter -> {
+        });
+
+        assertNull(provider.getLoginAuditWriter(), "일괄 저장을 지원하지 않는 DAO로 생성되면 안됨");
+
+        CollectingDao dao = new CollectingDao();
+
+        provider.setUserLogDAO(dao);
+
+        LoginAuditWriter writer = provider.getLoginAuditWriter();
+
+        assertNotNull(writer, "일괄 저장을 지원하는 DAO로 생성되어야 함");
+        assertSame(writer, provider.getLoginAuditWriter());
+
+        provider.destroy();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("저장 실패")
+    public void testFailed() {
+        LoginAuditWriter writer = new LoginAuditWriter(new CollectingDao() {
+            @Override
+            public void insertLogs(List<? extends DefaultUserLog> logs) {
+                throw new IllegalStateException("test");
+            }
+        });
+
+        writer.submit(new TestUserLog());
+        writer.shutdown();
+
+        assertEquals(1, writer.getFailedCount(), "저장 실패로 집계되어야 함");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("종료중 추가")
+    public void testSubmitWhileShutdown() throws Exception {
+        CollectingDao dao = new CollectingDao();
+        LoginAuditWriter writer = new LoginAuditWriter(dao);
+        AtomicLong accepted = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                started.countDown();
+
+                for (int j = 0; j < 20000; j++) {
+                    if (writer.submit(new TestUserLog())) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        started.await();
+        writer.shutdown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(accepted.get(), writer.getWrittenCount(), "추가된 로그가 저장되지 않음");
+        assertEquals(accepted.get(), dao.logs.size());
+        assertEquals(80000, writer.getWrittenCount() + writer.getDroppedCount(), "집계되지 않은 로그 존재");
+    }
+
+    private static class CollectingDao implements BatchUserLogDao {
+        private final List<DefaultUserLog> logs = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void insertLog(Class<? extends DefaultUserLog> parameter) {
+        }
+
+        @Override
+        public void insertLogs(List<? extends DefaultUserLog> logs) {
+            this.logs.addAll(logs);
+        }
+    }
+
+    private static class TestUserLog implements DefaultUserLog {
+        @Override
+        public void setUser(AbstractUser user) {
+        }
+
+        @Override
+        public void setResult(String resultKey) {
+        }
+    }
+}
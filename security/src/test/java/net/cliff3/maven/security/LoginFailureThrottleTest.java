@@ -0,0 +1,79 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * LoginFailureThrottleTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class LoginFailureThrottleTest {
+    @Test
+    @Order(1)
+    @DisplayName("실패 횟수 제한")
+    public void testBlock() {
+        LoginFailureThrottle throttle = new LoginFailureThrottle();
+
+        throttle.setMaxUserFailures(3);
+        throttle.setMaxAddressFailures(5);
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(throttle.isBlocked("user", "127.0.0.1"), "제한 전 거절됨");
+
+            throttle.recordFailure("user", "127.0.0.1");
+        }
+
+        assertTrue(throttle.isBlocked("user", null), "아이디 제한 실패");
+
+        throttle.recordSuccess("user");
+
+        assertFalse(throttle.isBlocked("user", null), "성공 후 아이디 제한이 유지됨");
+
+        throttle.recordFailure("other", "127.0.0.1");
+        throttle.recordFailure("another", "127.0.0.1");
+
+        assertTrue(throttle.isBlocked("new", "127.0.0.1"), "IP 제한 실패");
+        assertFalse(throttle.isBlocked("new", "127.0.0.2"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("실패 정보 만료")
+    public void testExpire() throws Exception {
+        LoginFailureThrottle throttle = new LoginFailureThrottle();
+
+        throttle.setMaxUserFailures(1);
+        throttle.setWindowMillis(20);
+        throttle.recordFailure("user", null);
+
+        assertTrue(throttle.isBlocked("user", null));
+
+        Thread.sleep(40);
+
+        assertFalse(throttle.isBlocked("user", null), "유지 시간이 지난 후 거절됨");
+        assertEquals(0, throttle.size(), "만료된 정보가 삭제되지 않음");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("최대 저장 개수")
+    public void testBounded() {
+        LoginFailureThrottle throttle = new LoginFailureThrottle();
+
+        throttle.setMaxEntries(160);
+
+        for (int i = 0; i < 10000; i++) {
+            throttle.recordFailure("user" + i, "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff));
+        }
+
+        assertTrue(throttle.size() <= 160, "최대 저장 개수 초과 : " + throttle.size());
+    }
+}
@@ -0,0 +1,203 @@
+package net.cliff3.maven.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * PasswordVerificationLimiterTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PasswordVerificationLimiterTest {
+    @Test
+    @Order(1)
+    @DisplayName("검증 실행")
+    public void testVerify() {
+        PasswordVerificationLimiter limiter = new PasswordVerificationLimiter(2);
+
+        assertEquals("verified", limiter.verify(() -> {
+            assertEquals(1, limiter.getActiveCount(), "실행중 개수 오류");
+
+            return "verified";
+        }));
+        assertEquals(0, limiter.getActiveCount());
+
+        IllegalStateException thrown = new IllegalStateException("test");
+
+        assertSame(thrown, assertThrows(IllegalStateException.class, () -> limiter.verify(() -> {
+            throw thrown;
+        })), "검증 예외는 그대로 전달되어야 함");
+        assertEquals(0, limiter.getActiveCount(), "예외 발생시에도 반환되어야 함");
+        assertEquals(0, limiter.getRejectedCount());
+        assertThrows(IllegalArgumentException.class, () -> new PasswordVerificationLimiter(0));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("대기 시간 초과")
+    public void testTimeout() throws Exception {
+        PasswordVerificationLimiter limiter = new PasswordVerificationLimiter(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Future<String> holding = threads.submit(() -> limiter.verify(() -> {
+                started.countDown();
+                await(release);
+
+                return "first";
+            }));
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(1, limiter.getActiveCount());
+
+            limiter.setTimeoutMillis(50);
+
+            AuthenticationServiceException e = assertThrows(AuthenticationServiceException.class,
+                                                            () -> limiter.verify(() -> "second"),
+                                                            "대기 시간 초과시 거절되어야 함");
+
+            assertNull(e.getCause());
+            assertEquals(1, limiter.getRejectedCount());
+            assertEquals(0, limiter.getWaitingCount(), "거절된 요청은 대기중 개수에서 제외되어야 함");
+
+            // 충분히 긴 대기 시간으로 대기하는 요청
+            limiter.setTimeoutMillis(10000);
+
+            Future<String> waiting = threads.submit(() -> limiter.verify(() -> "third"));
+
+            waitUntil(() -> limiter.getWaitingCount() == 1);
+
+            release.countDown();
+
+            assertEquals("first", holding.get(5, TimeUnit.SECONDS));
+            assertEquals("third", waiting.get(5, TimeUnit.SECONDS), "대기중인 요청은 처리되어야 함");
+            assertEquals(0, limiter.getWaitingCount());
+            assertEquals(0, limiter.getActiveCount());
+            assertEquals(1, limiter.getRejectedCount());
+        } finally {
+            release.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("대기중 interrupt")
+    public void testInterrupt() throws Exception {
+        PasswordVerificationLimiter limiter = new PasswordVerificationLimiter(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread holding = new Thread(() -> limiter.verify(() -> {
+            started.countDown();
+
+            return await(release);
+        }));
+        Thread waiting = new Thread(() -> {
+            try {
+                limiter.verify(() -> "waiting");
+            } catch (RuntimeException e) {
+                thrown.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+
+        try {
+            holding.start();
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            waiting.start();
+            waitUntil(() -> limiter.getWaitingCount() == 1);
+            waiting.interrupt();
+            waiting.join(5000);
+
+            assertTrue(thrown.get() instanceof AuthenticationServiceException, "interrupt 발생시 거절되어야 함");
+            assertTrue(thrown.get().getCause() instanceof InterruptedException);
+            assertTrue(interrupted.get(), "interrupt 상태가 유지되어야 함");
+            assertEquals(1, limiter.getRejectedCount());
+            assertEquals(0, limiter.getWaitingCount());
+        } finally {
+            release.countDown();
+            holding.join(5000);
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Executor에서 실행")
+    public void testExecutor() throws Exception {
+        PasswordVerificationLimiter limiter = new PasswordVerificationLimiter(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "password-verification"));
+
+        try {
+            limiter.setExecutor(executor);
+
+            assertEquals("password-verification", limiter.verify(() -> Thread.currentThread().getName()),
+                         "지정한 executor에서 실행되어야 함");
+
+            IllegalStateException thrown = new IllegalStateException("test");
+
+            assertSame(thrown, assertThrows(IllegalStateException.class, () -> limiter.verify(() -> {
+                throw thrown;
+            })), "검증 예외는 CompletionException 없이 전달되어야 함");
+            assertEquals(0, limiter.getActiveCount());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // executor가 실행을 거절한 경우
+        limiter.setExecutor(command -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        AuthenticationServiceException e = assertThrows(AuthenticationServiceException.class,
+                                                        () -> limiter.verify(() -> "rejected"),
+                                                        "실행 거절은 인증 처리 예외로 변환되어야 함");
+
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(0, limiter.getActiveCount(), "거절된 경우에도 반환되어야 함");
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return "released";
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "대기 시간 초과");
+
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package net.cliff3.maven.security;
+
+import net.cliff3.maven.security.model.AbstractUser;
+
+/**
+ * 테스트용 사용자
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+public class TestUser extends AbstractUser {
+    private static final long serialVersionUID = 1L;
+
+    private Long sequence;
+
+    private String userName;
+
+    private String password;
+
+    public TestUser(Long sequence, String userName, String password) {
+        this.sequence = sequence;
+        this.userName = userName;
+        this.password = password;
+    }
+
+    @Override
+    public String getUsername() {
+        return userName;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    @Override
+    public Object getUserKey() {
+        return sequence;
+    }
+
+    @Override
+    public void setUserKey(Object key) {
+        this.sequence = (Long)key;
+    }
+}
@@ -0,0 +1,293 @@
+package net.cliff3.maven.security.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import lombok.extern.slf4j.Slf4j;
+import net.cliff3.maven.security.TestUser;
+
+/**
+ * AbstractUserTest
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class AbstractUserTest {
+    @Test
+    @Order(1)
+    @DisplayName("권한 확인시 등록하지 않음")
+    public void testHasAuthorityWithoutRegister() {
+        TestUser user = new TestUser(1L, "user", "password");
+
+        user.addAuthority(RoleRegistry.intern("ROLE_USER_TEST_MEMBER"));
+
+        int registered = RoleRegistry.getRoles().size();
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(user.hasAuthority(new Role("ROLE_UNKNOWN_" + i)), "등록되지 않은 권한 확인 결과 오류");
+            assertFalse(user.hasAnyAuthority(new Role("ROLE_ANY_" + i)), "등록되지 않은 권한 확인 결과 오류");
+        }
+
+        assertEquals(registered, RoleRegistry.getRoles().size(), "권한 확인시 권한이 등록됨");
+        assertNull(RoleRegistry.find("ROLE_UNKNOWN_0"), "등록되지 않은 권한이 조회됨");
+        assertTrue(user.hasAuthority(new Role("ROLE_USER_TEST_MEMBER")), "권한 코드 비교 실패");
+        assertSame(RoleRegistry.intern("ROLE_USER_TEST_MEMBER"), RoleRegistry.find("role_user_test_member"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("등록되지 않은 권한 보유")
+    public void testUnregisteredAuthority() {
+        TestUser user = new TestUser(1L, "user", "password");
+        int registered = RoleRegistry.getRoles().size();
+
+        user.addAuthority(new Role("ROLE_USER_TEST_LOCAL"));
+
+        assertTrue(user.hasAuthority(new Role("ROLE_USER_TEST_LOCAL")), "등록되지 않은 보유 권한 확인 실패");
+        assertEquals(registered, RoleRegistry.getRoles().size(), "보유 권한이 등록됨");
+
+        // 색인 생성 후 등록되어도 확인되어야 한다.
+        Role interned = RoleRegistry.intern("ROLE_USER_TEST_LOCAL");
+
+        assertTrue(user.hasAuthority(interned), "색인 생성 후 등록된 권한 확인 실패");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("권한 동일성")
+    public void testRoleIdentity() {
+        Role role = new Role("ROLE_USER_TEST_IDENTITY");
+        Role other = new Role("ROLE_USER_TEST_IDENTITY");
+        Set<Role> roles = new HashSet<>();
+
+        roles.add(role);
+        roles.add(other);
+
+        assertNotEquals(role, other, "등록되지 않은 권한이 권한 코드로 비교됨");
+        assertEquals(2, roles.size());
+
+        role.setRoleCode("user_test_changed");
+
+        assertTrue(roles.contains(role), "권한 코드 변경 후 조회 실패");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("권한 목록 변경")
+    @SuppressWarnings("unchecked")
+    public void testModifyAuthorities() {
+        TestUser user = new TestUser(1L, "user", "password");
+        Role role = RoleRegistry.intern("ROLE_USER_TEST_MODIFY");
+
+        user.setAuthorities(new HashSet<>());
+
+        assertFalse(user.hasAuthority(role));
+
+        Collection<Role> authorities = (Collection<Role>)user.getAuthorities();
+
+        authorities.add(role);
+
+        assertTrue(user.hasAuthority(role), "반환된 권한 목록 추가가 반영되지 않음");
+
+        authorities.removeIf(r -> r == role);
+
+        assertFalse(user.hasAuthority(role), "반환된 권한 목록 삭제가 반영되지 않음");
+        assertTrue(user.getAuthorities().isEmpty());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("직렬화")
+    public void testSerialize() throws Exception {
+        TestUser user = new TestUser(1L, "user", "password");
+        Role local = new Role("ROLE_USER_TEST_SERIALIZE", false);
+        DescribedRole described = new DescribedRole("ROLE_USER_TEST_DESCRIBED", "subclass");
+
+        local.setDescription("local");
+        user.addAuthority(RoleRegistry.intern("ROLE_USER_TEST_MEMBER"));
+        user.addAuthority(local);
+        user.addAuthority(described);
+        user.addAuthority(null);
+
+        TestUser read = (TestUser)deserialize(serialize(user));
+
+        assertEquals("user", read.getUsername());
+        assertEquals(4, read.getAuthorities().size(), "권한 개수 오류");
+        assertTrue(read.hasAuthority(RoleRegistry.intern("ROLE_USER_TEST_MEMBER")), "등록된 권한 복원 실패");
+        assertTrue(read.getAuthorities().contains(RoleRegistry.intern("ROLE_USER_TEST_MEMBER")), "등록된 인스턴스로 복원되지 않음");
+        assertTrue(read.getAuthorities().contains(null), "null 권한 복원 실패");
+
+        for (Object authority : read.getAuthorities()) {
+            if (authority instanceof DescribedRole) {
+                assertEquals("subclass", ((DescribedRole)authority).getDetail(), "하위 class 필드 복원 실패");
+                assertEquals("ROLE_USER_TEST_DESCRIBED", ((DescribedRole)authority).getRoleCode());
+            } else if (authority != null && "ROLE_USER_TEST_SERIALIZE".equals(((Role)authority).getRoleCode())) {
+                assertEquals("local", ((Role)authority).getDescription());
+                assertFalse(((Role)authority).getUse());
+            }
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("직렬화 크기 및 속도 측정")
+    public void testSerializeBenchmark() throws Exception {
+        String userName = "someone@example.com";
+        String password = "$pbkdf2-sha256$310000$abcdefghijklmnopqrstuv$abcdefghijklmnopqrstuvwxyzabcdefghijklmnopq";
+        String[] codes = {"ROLE_USER", "ROLE_ADMIN", "ROLE_MANAGER", "ROLE_EDITOR"};
+        TestUser user = new TestUser(12345L, userName, password);
+        DefaultSerializedUser twin = new DefaultSerializedUser(12345L, userName, password);
+
+        for (String code : codes) {
+            user.addAuthority(new Role(code, true));
+            twin.authorities.add(new DefaultSerializedRole(code, true));
+        }
+
+        byte[] serialized = serialize(user);
+        byte[] twinSerialized = serialize(twin);
+        int iterations = 10000;
+
+        // JIT 적용을 위해 측정 전 한번씩 실행
+        measure(user, serialized, iterations);
+        measure(twin, twinSerialized, iterations);
+
+        long[] elapsed = measure(user, serialized, iterations);
+        long[] twinElapsed = measure(twin, twinSerialized, iterations);
+
+        log.info("AbstractUser - 직렬화 크기 : {} byte, 직렬화 : {} ns, 역직렬화 : {} ns",
+                 serialized.length,
+                 elapsed[0] / iterations,
+                 elapsed[1] / iterations);
+        log.info("기본 직렬화 - 직렬화 크기 : {} byte, 직렬화 : {} ns, 역직렬화 : {} ns",
+                 twinSerialized.length,
+                 twinElapsed[0] / iterations,
+                 twinElapsed[1] / iterations);
+
+        assertEquals(4, ((TestUser)deserialize(serialized)).getAuthorities().size());
+        assertEquals(4, ((DefaultSerializedUser)deserialize(twinSerialized)).authorities.size());
+        assertTrue(serialized.length < twinSerialized.length,
+                   "기본 직렬화보다 크기가 작아야 함 : " + serialized.length + " / " + twinSerialized.length);
+    }
+
+    /**
+     * 직렬화와 역직렬화를 지정한 횟수만큼 실행한다.
+     *
+     * @return 직렬화, 역직렬화 소요 시간(ns)
+     */
+    private static long[] measure(Object target, byte[] serialized, int iterations) throws Exception {
+        long started = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            serialize(target);
+        }
+
+        long serializeTime = System.nanoTime() - started;
+
+        started = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            deserialize(serialized);
+        }
+
+        return new long[] {serializeTime, System.nanoTime() - started};
+    }
+
+    private static byte[] serialize(Object target) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(target);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] serialized) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * 필드가 추가된 권한
+     */
+    public static class DescribedRole extends Role {
+        private static final long serialVersionUID = 1L;
+
+        private final String detail;
+
+        public DescribedRole(String roleCode, String detail) {
+            super(roleCode, true);
+
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    /**
+     * 비교를 위해 {@link AbstractUser}, {@link TestUser}와 같은 필드를 기본 직렬화하는 사용자
+     */
+    private static class DefaultSerializedUser implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private boolean credentialsExpired = false;
+
+        private boolean accountExpired = false;
+
+        private boolean accountLocked = false;
+
+        private boolean enabled = false;
+
+        private final Set<DefaultSerializedRole> authorities = new HashSet<>();
+
+        private final Long sequence;
+
+        private final String userName;
+
+        private final String password;
+
+        private DefaultSerializedUser(Long sequence, String userName, String password) {
+            this.sequence = sequence;
+            this.userName = userName;
+            this.password = password;
+        }
+    }
+
+    /**
+     * 비교를 위해 {@link Role}과 같은 필드를 기본 직렬화하는 권한
+     */
+    private static class DefaultSerializedRole implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String roleCode;
+
+        private String description;
+
+        private final Boolean use;
+
+        private DefaultSerializedRole(String roleCode, Boolean use) {
+            this.roleCode = roleCode;
+            this.use = use;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package net.cliff3.maven.security.password;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * ScryptPasswordHashAlgorithmTest
+ * <p>
+ * RFC 7914 12장의 test vector를 이용한다. N = 1048576인 마지막 vector는 1GiB의 메모리가 필요하므로 제외한다.
+ * </p>
+ *
+ * @author JoonHo Son
+ * @since 0.3.0
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ScryptPasswordHashAlgorithmTest {
+    @Test
+    @Order(1)
+    @DisplayName("RFC 7914 빈 비밀번호")
+    public void testEmptyPassword() {
+        assertVector("", "", 16, 1, 1,
+                     "77d6576238657b203b19ca42c18a0497f16b4844e3074ae8dfdffa3fede21442"
+                     + "fcd0069ded0948f8326a753a0fc81f17e8d3e0fb2e0d3628cf35e20c38d18906");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("RFC 7914 병렬화 인자")
+    public void testParallelization() {
+        assertVector("password", "NaCl", 1024, 8, 16,
+                     "fdbabe1c9d3472007856e7190d01e9fe7c6ad7cbc8237830e77376634b373162"
+                     + "2eaf30d92e22a3886ff109279d9830dac727afb94a83ee6d8360cbdfa2cc0640");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("RFC 7914 N = 16384")
+    public void testCost() {
+        assertVector("pleaseletmein", "SodiumChloride", 16384, 8, 1,
+                     "7023bdcb3afd7348461c06cd81fd38ebfda8fbba904f8e3ea9b543f6545da1f2"
+                     + "d5432955613f0fcf62d49705242a9af9e61e85dc0d651e40dfcf017b45575887");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("비밀번호 처리")
+    public void testHash() {
+        ScryptPasswordHashAlgorithm algorithm = new ScryptPasswordHashAlgorithm();
+        byte[] salt = "SodiumChloride".getBytes(StandardCharsets.UTF_8);
+        byte[] hash = algorithm.hash("pleaseletmein", salt, 14);
+
+        assertEquals(32, hash.length, "결과 길이 오류");
+        assertEquals("7023bdcb3afd7348461c06cd81fd38ebfda8fbba904f8e3ea9b543f6545da1f2", toHex(hash),
+                     "log2 N 처리 오류");
+    }
+
+    private static void assertVector(String password, String salt, int n, int r, int p, String expected) {
+        byte[] result = ScryptPasswordHashAlgorithm.scrypt(password.getBytes(StandardCharsets.UTF_8),
+                                                           salt.getBytes(StandardCharsets.UTF_8),
+                                                           n, r, p, 64);
+
+        assertEquals(expected, toHex(result), "scrypt 결과 불일치");
+    }
+
+    private static String toHex(byte[] value) {
+        StringBuilder builder = new StringBuilder(value.length * 2);
+
+        for (byte b : value) {
+            builder.append(String.format("%02x", b));
+        }
+
+        return builder.toString();
+    }
+}